@@ -15,13 +15,17 @@
  */
 package pl.wavesoftware.eid;
 
+import pl.wavesoftware.eid.api.Configuration;
 import pl.wavesoftware.eid.api.Configurator;
 import pl.wavesoftware.eid.api.EidContainer;
 import pl.wavesoftware.eid.api.Eid;
 import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
 import pl.wavesoftware.eid.api.SerializableSupplier;
 import pl.wavesoftware.eid.api.Supplier;
+import pl.wavesoftware.eid.api.Tracer;
 import pl.wavesoftware.eid.api.Validator;
+import pl.wavesoftware.eid.system.ExtendedConfigurations;
 
 import javax.annotation.Nullable;
 
@@ -135,8 +139,14 @@ public class DefaultEid implements Eid {
      * @param id the exception id, should be uniquely generated by developer
      */
     public DefaultEid(CharSequence id) {
-        this.id = validate(id).toString();
+        ExtendedConfiguration configuration = getConfiguration();
+        Tracer tracer = configuration.getTracer();
+        long start = tracer == null ? 0L : System.nanoTime();
+        this.id = validate(id, configuration).toString();
         this.ref = null;
+        if (tracer != null) {
+            tracer.trace(Tracer.Activity.CREATION, this, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -147,8 +157,14 @@ public class DefaultEid implements Eid {
      * @param ref a reference from external system
      */
     public DefaultEid(CharSequence id, CharSequence ref) {
-        this.id = validate(id).toString();
+        ExtendedConfiguration configuration = getConfiguration();
+        Tracer tracer = configuration.getTracer();
+        long start = tracer == null ? 0L : System.nanoTime();
+        this.id = validate(id, configuration).toString();
         this.ref = ref.toString();
+        if (tracer != null) {
+            tracer.trace(Tracer.Activity.CREATION, this, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -200,11 +216,15 @@ public class DefaultEid implements Eid {
 
     @Override
     public String toString() {
-        return MODULE.getBinding()
-            .getConfigurationSystem()
-            .getConfiguration()
-            .getFormatter()
-            .format(this);
+        ExtendedConfiguration configuration = getConfiguration();
+        Tracer tracer = configuration.getTracer();
+        if (tracer == null) {
+            return configuration.getFormatter().format(this);
+        }
+        long start = System.nanoTime();
+        String formatted = configuration.getFormatter().format(this);
+        tracer.trace(Tracer.Activity.FORMATTING, this, System.nanoTime() - start);
+        return formatted;
     }
 
     /*
@@ -212,11 +232,13 @@ public class DefaultEid implements Eid {
     forbidden.
      */
     @SuppressWarnings({"ConstantConditions", "squid:S2583"})
-    private static CharSequence validate(CharSequence id) {
+    private static CharSequence validate(
+        CharSequence id, Configuration configuration
+    ) {
         if (id == null) {
             throw new IllegalArgumentException("Exception ID can't be null");
         }
-        if (isInvalid(id)) {
+        if (isInvalid(id, configuration.getValidator())) {
             throw new IllegalArgumentException(
                 "Invalid ID given as an Exception ID: " + id
             );
@@ -224,16 +246,13 @@ public class DefaultEid implements Eid {
         return id;
     }
 
-    private static boolean isInvalid(CharSequence id) {
-        Validator validator = getValidator();
+    private static boolean isInvalid(
+        CharSequence id, @Nullable Validator validator
+    ) {
         return validator != null && !validator.isValid(id);
     }
 
-    @Nullable
-    private static Validator getValidator() {
-        return MODULE.getBinding()
-            .getConfigurationSystem()
-            .getConfiguration()
-            .getValidator();
+    private static ExtendedConfiguration getConfiguration() {
+        return ExtendedConfigurations.current();
     }
 }
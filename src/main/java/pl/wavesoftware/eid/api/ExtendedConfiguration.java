@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.api;
+
+import javax.annotation.Nullable;
+
+/**
+ * A configuration of Eid library with settings added in release 2.1.0. They
+ * are kept out of {@link Configuration}, so implementations of it, written
+ * for earlier releases, still work. Configurations of this library implement
+ * this interface. For other ones, defaults are used: whole stack trace and
+ * causes are serialized, messages are serialized formatted, and there is no
+ * occurrence listener nor tracer.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ * @see ExtendedConfigurationBuilder
+ */
+public interface ExtendedConfiguration extends Configuration {
+
+    /**
+     * Gets a maximum number of stack trace elements that will be written
+     * when Eid exception is serialized. A negative value means that whole
+     * stack trace will be written.
+     *
+     * @return a maximum depth of serialized stack trace, or a negative value
+     * for unlimited
+     */
+    int getSerializedStackTraceDepth();
+
+    /**
+     * Checks if causes of Eid exceptions are written when Eid exception is
+     * serialized.
+     *
+     * @return true, if causes are serialized together with Eid exceptions
+     */
+    boolean isSerializingCauses();
+
+    /**
+     * Checks if Eid messages, that weren't formatted yet, are serialized as
+     * a message template with arguments, instead of a formatted text.
+     *
+     * @return true, if message templates are serialized, and formatting is
+     * done on receiving side
+     */
+    boolean isSerializingMessageTemplates();
+
+    /**
+     * Gets a listener of Eid exception occurrences if set. Returns null if
+     * listener wasn't configured.
+     *
+     * @return a listener of Eid exception occurrences, or null
+     * @since 2.1.0
+     */
+    @Nullable
+    OccurrenceListener getOccurrenceListener();
+
+    /**
+     * Gets a tracer of Eid activity if set. Returns null if tracer wasn't
+     * configured.
+     *
+     * @return a tracer of Eid activity, or null
+     * @since 2.1.0
+     */
+    @Nullable
+    Tracer getTracer();
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.api;
+
+import javax.annotation.Nullable;
+
+/**
+ * A builder of settings added in release 2.1.0. They are kept out of
+ * {@link ConfigurationBuilder}, so implementations of it, written for earlier
+ * releases, still work. Builders given to {@link Configurator}s by this
+ * library implement this interface, so they can be cast:
+ * <pre>
+ * public void configure(ConfigurationBuilder configuration) {
+ *     ((ExtendedConfigurationBuilder) configuration)
+ *         .serializeCauses(false);
+ * }
+ * </pre>
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ * @see ExtendedConfiguration
+ */
+public interface ExtendedConfigurationBuilder extends ConfigurationBuilder {
+
+    /**
+     * Sets a maximum number of stack trace elements that will be written when
+     * Eid exception is serialized. By default, whole stack trace is written.
+     * Truncating it, makes serialized exceptions smaller and faster to
+     * transmit, for ex.: over RMI or in a cache cluster.
+     *
+     * @param depth a maximum depth of serialized stack trace, a negative value
+     *              means that whole stack trace will be written
+     * @return a self reference for ease of use
+     */
+    ExtendedConfigurationBuilder serializedStackTraceDepth(int depth);
+
+    /**
+     * Sets whether causes of Eid exceptions should be written when Eid
+     * exception is serialized. By default, causes are serialized.
+     *
+     * @param serialize true, if causes should be serialized together with Eid
+     *                  exceptions
+     * @return a self reference for ease of use
+     */
+    ExtendedConfigurationBuilder serializeCauses(boolean serialize);
+
+    /**
+     * Sets whether Eid messages, that weren't formatted yet, should be
+     * serialized as a message template, locale, time zone and arguments. That
+     * moves formatting cost from the sending side to the receiving side,
+     * where it's done lazily, only if message is read. Arguments other than
+     * strings, numbers, booleans, characters and dates are written as their
+     * string representation. By default, formatted text is serialized.
+     *
+     * @param serialize true, if message templates should be serialized
+     *                  instead of formatted texts
+     * @return a self reference for ease of use
+     */
+    ExtendedConfigurationBuilder serializeMessageTemplates(boolean serialize);
+
+    /**
+     * Configures a listener that will be notified each time an Eid exception
+     * is created. By default, there is no listener configured for maximum
+     * speed.
+     *
+     * @param listener a listener to be used, if {@code null} was given
+     *                 listener will not be used.
+     * @return a self reference for ease of use
+     * @since 2.1.0
+     */
+    ExtendedConfigurationBuilder occurrenceListener(@Nullable OccurrenceListener listener);
+
+    /**
+     * Configures a tracer of Eid activity, that will be given a duration of
+     * each creation, formatting and message rendering. By default, there is
+     * no tracer configured, and nothing is timed.
+     *
+     * @param tracer a tracer to be used, if {@code null} was given tracer
+     *               will not be used.
+     * @return a self reference for ease of use
+     * @since 2.1.0
+     */
+    ExtendedConfigurationBuilder tracer(@Nullable Tracer tracer);
+}
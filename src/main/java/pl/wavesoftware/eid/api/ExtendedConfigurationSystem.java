@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.api;
+
+import java.io.Closeable;
+
+/**
+ * A configuration provider with operations added in release 2.1.0. They are
+ * kept out of {@link ConfigurationSystem}, so implementations of it, written
+ * for earlier releases, still work. A configuration system of this library
+ * implements this interface.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public interface ExtendedConfigurationSystem extends ConfigurationSystem {
+
+    /**
+     * Overrides a configuration for current thread only, until returned
+     * scope is closed. An override is based on a configuration that is
+     * current, when this method is invoked, and it doesn't change a global
+     * configuration. That can be used to set a different locale or time zone
+     * for each tenant of an application:
+     * <pre>
+     * ExtendedConfigurationSystem.Scope scope = system.override(new Configurator() {
+     *     &#64;Override
+     *     public void configure(ConfigurationBuilder configuration) {
+     *         configuration.locale(tenant.getLocale());
+     *     }
+     * });
+     * try {
+     *     handle(request);
+     * } finally {
+     *     scope.close();
+     * }
+     * </pre>
+     *
+     * @param configurator a configurator to use to override a configuration
+     * @return a scope, that restores previous configuration when closed
+     * @since 2.1.0
+     */
+    Scope override(Configurator configurator);
+
+    /**
+     * A scope of configuration override. Scopes should be closed in reverse
+     * order, they were opened, in the same thread.
+     *
+     * @since 2.1.0
+     */
+    interface Scope extends Closeable {
+        /**
+         * Restores a configuration, that was current before this scope.
+         * Closing a scope again has no effect.
+         *
+         * @throws pl.wavesoftware.eid.exceptions.EidIllegalStateException if
+         *         called by other thread, than the one that opened this
+         *         scope, or before a scope opened later is closed
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.api;
+
+/**
+ * A listener, that is notified each time an Eid exception is created. It can
+ * be used to count, sample or record occurrences of Eid numbers, without
+ * hooking into every place, that throws an exception.
+ * <p>
+ * Listener is called on a hot path, from constructors of Eid exceptions, so
+ * it should be fast and it shouldn't throw any exceptions. The exception
+ * passed to a listener might not be fully constructed yet, if it's a
+ * subclass, so only its Eid, message, cause, class and stack trace should be
+ * used.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @see ExtendedConfigurationBuilder#occurrenceListener(OccurrenceListener)
+ * @since 2.1.0
+ */
+public interface OccurrenceListener {
+    /**
+     * Notifies about an occurrence of Eid exception.
+     *
+     * @param eid       an Eid of exception
+     * @param exception an exception that is being created
+     */
+    void onOccurrence(Eid eid, Throwable exception);
+}
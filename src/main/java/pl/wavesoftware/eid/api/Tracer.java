@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.api;
+
+/**
+ * A tracer of Eid activity: creation of Eid numbers, formatting of them,
+ * rendering of messages, and creation of Eid exceptions. It can be used to
+ * bridge Eid activity into a profiler, like Java Flight Recorder, or into a
+ * metrics system.
+ * <p>
+ * Tracer is disabled by default. When it isn't configured, Eid activity
+ * isn't timed at all. Tracer is called on a hot path, so it should be fast
+ * and it shouldn't throw any exceptions.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @see ExtendedConfigurationBuilder#tracer(Tracer)
+ * @since 2.1.0
+ */
+public interface Tracer {
+    /**
+     * Traces a single Eid activity, after it's done.
+     *
+     * @param activity a kind of activity
+     * @param eid      an Eid, that activity was about
+     * @param nanos    a duration of activity, in nanoseconds
+     */
+    void trace(Activity activity, Eid eid, long nanos);
+
+    /**
+     * A kind of traced Eid activity.
+     */
+    enum Activity {
+        /**
+         * A construction of {@code DefaultEid}, with validation of its ID.
+         */
+        CREATION,
+        /**
+         * Formatting of Eid alone, with {@link Formatter#format(Eid)}.
+         */
+        FORMATTING,
+        /**
+         * Formatting of Eid with its message, with
+         * {@link Formatter#format(Eid, String)}.
+         */
+        MESSAGE_FORMATTING,
+        /**
+         * Rendering of message template with its arguments.
+         */
+        MESSAGE,
+        /**
+         * A creation of Eid exception. It's traced when exception is already
+         * constructed, so its duration is always zero.
+         */
+        EXCEPTION
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.codec;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+
+import javax.annotation.Nullable;
+
+import static pl.wavesoftware.eid.system.EidModule.MODULE;
+
+/**
+ * An Eid read back from the wire. All of its parts, including the unique ID,
+ * are already known, so nothing is generated nor validated.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class DecodedEid implements Eid {
+    private static final long serialVersionUID = 20261019102207L;
+
+    private final String id;
+    @Nullable
+    private final String ref;
+    private final String unique;
+
+    DecodedEid(String id, @Nullable String ref, String unique) {
+        this.id = id;
+        this.ref = ref;
+        this.unique = unique;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    @Nullable
+    public String getRef() {
+        return ref;
+    }
+
+    @Override
+    public boolean hasRef() {
+        return ref != null;
+    }
+
+    @Override
+    public String getUnique() {
+        return unique;
+    }
+
+    @Override
+    public EidMessage message(
+        CharSequence messageTemplate,
+        Object... templateArguments
+    ) {
+        return MODULE.getBinding()
+            .getFactories()
+            .getMessageFactory()
+            .create(this, messageTemplate, templateArguments);
+    }
+
+    @Override
+    public String toString() {
+        return MODULE.getBinding()
+            .getConfigurationSystem()
+            .getConfiguration()
+            .getFormatter()
+            .format(this);
+    }
+}
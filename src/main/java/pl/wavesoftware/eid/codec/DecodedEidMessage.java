@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.codec;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+
+import javax.annotation.Nullable;
+import java.io.Serializable;
+
+import static pl.wavesoftware.eid.system.EidModule.MODULE;
+
+/**
+ * An Eid message read back from the wire. The formatted message is taken as
+ * is, and only the Eid prefix is rendered, with currently configured
+ * formatter, when the message is displayed.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class DecodedEidMessage implements EidMessage, Serializable {
+    private static final long serialVersionUID = 20261019102241L;
+
+    private final Eid eid;
+    private final String formattedMessage;
+    @Nullable
+    private transient String representation;
+
+    DecodedEidMessage(Eid eid, String formattedMessage) {
+        this.eid = eid;
+        this.formattedMessage = formattedMessage;
+    }
+
+    @Override
+    public Eid getEid() {
+        return eid;
+    }
+
+    @Override
+    public CharSequence getFormattedMessage() {
+        return formattedMessage;
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String rendered = representation;
+        if (rendered == null) {
+            rendered = MODULE.getBinding()
+                .getConfigurationSystem()
+                .getConfiguration()
+                .getFormatter()
+                .format(eid, formattedMessage);
+            representation = rendered;
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.codec;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.context.EidContext;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import javax.annotation.Nullable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static pl.wavesoftware.eid.codec.WireFormat.readString;
+import static pl.wavesoftware.eid.codec.WireFormat.readVarint;
+import static pl.wavesoftware.eid.codec.WireFormat.sizeOfString;
+import static pl.wavesoftware.eid.codec.WireFormat.sizeOfVarint;
+import static pl.wavesoftware.eid.codec.WireFormat.writeString;
+import static pl.wavesoftware.eid.codec.WireFormat.writeVarint;
+
+/**
+ * <h3>Compact binary wire format</h3>
+ * Encodes {@link Eid} numbers, {@link EidMessage}s, stack traces and
+ * {@link EidContext}s into a {@link ByteBuffer}, and decodes them back,
+ * without Java serialization and without reflection. It is meant for shipping error envelopes between
+ * services, for ex.: over a message bus.
+ * <p>
+ * Each record starts with a single byte that tells the kind of the record,
+ * followed by Eid ID, reference and unique ID. A message record adds an
+ * already formatted message. A stack trace record writes class, method and
+ * file names seen first time inline, and repeated ones as references. Every
+ * text is written as UTF-8 bytes, prefixed
+ * with its length as an unsigned varint, which makes typical Eid number to
+ * take about 25 bytes.
+ * <p>
+ * Example:
+ * <pre>
+ * ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(message));
+ * EidCodec.encode(message, buffer);
+ * buffer.flip();
+ * // [..] send it over the wire
+ * EidMessage received = EidCodec.decodeMessage(buffer);
+ * </pre>
+ * <p>
+ * Please, note that encoding evaluates the unique ID of an Eid and the
+ * formatted message, as those must be the same on both sides of the wire.
+ * Decoded values aren't validated with configured {@code Validator}.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidCodec {
+
+    private static final byte EID = 1;
+    private static final byte MESSAGE = 2;
+    private static final byte STACK_TRACE = 3;
+    private static final byte CONTEXT = 4;
+    private static final int KIND_SIZE = 1;
+    private static final int NULL_STRING = 0;
+    private static final int NEW_STRING = 1;
+    private static final int FIRST_REFERENCE = 2;
+
+    private EidCodec() {
+        // nothing here
+    }
+
+    /**
+     * Calculates a number of bytes that given Eid will take when encoded.
+     *
+     * @param eid an Eid to calculate size of
+     * @return a number of bytes needed to encode given Eid
+     */
+    public static int sizeOf(Eid eid) {
+        return KIND_SIZE + sizeOfEid(eid);
+    }
+
+    /**
+     * Calculates a number of bytes that given Eid message will take when
+     * encoded.
+     *
+     * @param message an Eid message to calculate size of
+     * @return a number of bytes needed to encode given Eid message
+     */
+    public static int sizeOf(EidMessage message) {
+        return KIND_SIZE
+            + sizeOfEid(message.getEid())
+            + sizeOfString(message.getFormattedMessage());
+    }
+
+    /**
+     * Calculates a number of bytes that given stack trace will take when
+     * encoded.
+     *
+     * @param stackTrace a stack trace to calculate size of
+     * @return a number of bytes needed to encode given stack trace
+     * @since 2.1.0
+     */
+    public static int sizeOf(StackTraceElement[] stackTrace) {
+        int size = KIND_SIZE + sizeOfVarint(stackTrace.length);
+        Map<String, Integer> dictionary = new HashMap<String, Integer>();
+        for (StackTraceElement element : stackTrace) {
+            size += sizeOfReference(dictionary, element.getClassName())
+                + sizeOfReference(dictionary, element.getMethodName())
+                + sizeOfReference(dictionary, element.getFileName())
+                + sizeOfVarint(zigzag(element.getLineNumber()));
+        }
+        return size;
+    }
+
+    /**
+     * Calculates a number of bytes that given context will take when
+     * encoded.
+     *
+     * @param context a context to calculate size of
+     * @return a number of bytes needed to encode given context
+     * @since 2.1.0
+     */
+    public static int sizeOf(EidContext context) {
+        Map<String, String> entries = context.toMap();
+        int size = KIND_SIZE + sizeOfVarint(entries.size());
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            size += sizeOfString(entry.getKey()) + sizeOfString(entry.getValue());
+        }
+        return size;
+    }
+
+    /**
+     * Encodes given Eid into target buffer, starting at buffer's current
+     * position.
+     *
+     * @param eid    an Eid to encode
+     * @param target a target buffer
+     * @throws BufferOverflowException if there isn't enough space remaining
+     *                                 in the target buffer, in which case
+     *                                 nothing is written
+     */
+    public static void encode(Eid eid, ByteBuffer target) {
+        ensureRemaining(target, sizeOf(eid));
+        target.put(EID);
+        writeEid(target, eid);
+    }
+
+    /**
+     * Encodes given Eid message into target buffer, starting at buffer's
+     * current position.
+     *
+     * @param message an Eid message to encode
+     * @param target  a target buffer
+     * @throws BufferOverflowException if there isn't enough space remaining
+     *                                 in the target buffer, in which case
+     *                                 nothing is written
+     */
+    public static void encode(EidMessage message, ByteBuffer target) {
+        ensureRemaining(target, sizeOf(message));
+        target.put(MESSAGE);
+        writeEid(target, message.getEid());
+        writeString(target, message.getFormattedMessage());
+    }
+
+    /**
+     * Encodes given stack trace into target buffer, starting at buffer's
+     * current position.
+     *
+     * @param stackTrace a stack trace to encode
+     * @param target     a target buffer
+     * @throws BufferOverflowException if there isn't enough space remaining
+     *                                 in the target buffer, in which case
+     *                                 nothing is written
+     * @since 2.1.0
+     */
+    public static void encode(StackTraceElement[] stackTrace, ByteBuffer target) {
+        ensureRemaining(target, sizeOf(stackTrace));
+        target.put(STACK_TRACE);
+        writeVarint(target, stackTrace.length);
+        Map<String, Integer> dictionary = new HashMap<String, Integer>();
+        for (StackTraceElement element : stackTrace) {
+            writeReference(target, dictionary, element.getClassName());
+            writeReference(target, dictionary, element.getMethodName());
+            writeReference(target, dictionary, element.getFileName());
+            writeVarint(target, zigzag(element.getLineNumber()));
+        }
+    }
+
+    /**
+     * Encodes given context into target buffer, starting at buffer's current
+     * position.
+     *
+     * @param context a context to encode
+     * @param target  a target buffer
+     * @throws BufferOverflowException if there isn't enough space remaining
+     *                                 in the target buffer, in which case
+     *                                 nothing is written
+     * @since 2.1.0
+     */
+    public static void encode(EidContext context, ByteBuffer target) {
+        ensureRemaining(target, sizeOf(context));
+        Map<String, String> entries = context.toMap();
+        target.put(CONTEXT);
+        writeVarint(target, entries.size());
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            writeString(target, entry.getKey());
+            writeString(target, entry.getValue());
+        }
+    }
+
+    /**
+     * Decodes an Eid from source buffer, starting at buffer's current
+     * position.
+     *
+     * @param source a source buffer
+     * @return a decoded Eid
+     * @throws EidIllegalArgumentException if buffer doesn't contain an encoded
+     *                                     Eid at current position
+     * @throws java.nio.BufferUnderflowException if the record is truncated
+     */
+    public static Eid decodeEid(ByteBuffer source) {
+        ensureKind(source.get(), EID);
+        return readEid(source);
+    }
+
+    /**
+     * Decodes an Eid message from source buffer, starting at buffer's
+     * current position.
+     *
+     * @param source a source buffer
+     * @return a decoded Eid message
+     * @throws EidIllegalArgumentException if buffer doesn't contain an encoded
+     *                                     Eid message at current position
+     * @throws java.nio.BufferUnderflowException if the record is truncated
+     */
+    public static EidMessage decodeMessage(ByteBuffer source) {
+        ensureKind(source.get(), MESSAGE);
+        Eid eid = readEid(source);
+        return new DecodedEidMessage(eid, required(readString(source)));
+    }
+
+    /**
+     * Decodes a stack trace from source buffer, starting at buffer's current
+     * position.
+     *
+     * @param source a source buffer
+     * @return a decoded stack trace
+     * @throws EidIllegalArgumentException if buffer doesn't contain an encoded
+     *                                     stack trace at current position
+     * @throws java.nio.BufferUnderflowException if the record is truncated
+     * @since 2.1.0
+     */
+    public static StackTraceElement[] decodeStackTrace(ByteBuffer source) {
+        ensureKind(source.get(), STACK_TRACE);
+        int depth = readVarint(source);
+        if (depth < 0 || depth > source.remaining()) {
+            throw new EidIllegalArgumentException(
+                "20261019:161604",
+                "Stack trace depth " + (depth & 0xFFFFFFFFL)
+                    + " exceeds " + source.remaining() + " remaining bytes"
+            );
+        }
+        StackTraceElement[] stackTrace = new StackTraceElement[depth];
+        List<String> dictionary = new ArrayList<String>();
+        for (int i = 0; i < depth; i++) {
+            String className = required(readReference(source, dictionary));
+            String methodName = required(readReference(source, dictionary));
+            String fileName = readReference(source, dictionary);
+            int zigzag = readVarint(source);
+            stackTrace[i] = new StackTraceElement(
+                className, methodName, fileName, (zigzag >>> 1) ^ -(zigzag & 1)
+            );
+        }
+        return stackTrace;
+    }
+
+    /**
+     * Decodes a context from source buffer, starting at buffer's current
+     * position.
+     *
+     * @param source a source buffer
+     * @return a decoded context
+     * @throws EidIllegalArgumentException if buffer doesn't contain an encoded
+     *                                     context at current position
+     * @throws java.nio.BufferUnderflowException if the record is truncated
+     * @since 2.1.0
+     */
+    public static EidContext decodeContext(ByteBuffer source) {
+        ensureKind(source.get(), CONTEXT);
+        int entries = readVarint(source);
+        EidContext context = EidContext.EMPTY;
+        for (int i = 0; i < entries; i++) {
+            String key = required(readString(source));
+            String value = required(readString(source));
+            context = context.with(key, value);
+        }
+        return context;
+    }
+
+    private static int sizeOfEid(Eid eid) {
+        return sizeOfString(eid.getId())
+            + sizeOfString(eid.getRef())
+            + sizeOfString(eid.getUnique());
+    }
+
+    private static void writeEid(ByteBuffer target, Eid eid) {
+        writeString(target, eid.getId());
+        writeString(target, eid.getRef());
+        writeString(target, eid.getUnique());
+    }
+
+    private static Eid readEid(ByteBuffer source) {
+        String id = required(readString(source));
+        String ref = readString(source);
+        String unique = required(readString(source));
+        return new DecodedEid(id, ref, unique);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int sizeOfReference(
+        Map<String, Integer> dictionary, @Nullable String value
+    ) {
+        if (value == null) {
+            return sizeOfVarint(NULL_STRING);
+        }
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            dictionary.put(value, dictionary.size());
+            return sizeOfVarint(NEW_STRING) + sizeOfString(value);
+        }
+        return sizeOfVarint(index + FIRST_REFERENCE);
+    }
+
+    /**
+     * Writes a string as a reference to an already written one, or inline if
+     * it is seen first time. Stack traces repeat class and file names a lot.
+     */
+    private static void writeReference(
+        ByteBuffer target, Map<String, Integer> dictionary, @Nullable String value
+    ) {
+        if (value == null) {
+            writeVarint(target, NULL_STRING);
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            dictionary.put(value, dictionary.size());
+            writeVarint(target, NEW_STRING);
+            writeString(target, value);
+        } else {
+            writeVarint(target, index + FIRST_REFERENCE);
+        }
+    }
+
+    @Nullable
+    private static String readReference(ByteBuffer source, List<String> dictionary) {
+        int tag = readVarint(source);
+        if (tag == NULL_STRING) {
+            return null;
+        }
+        if (tag == NEW_STRING) {
+            String value = required(readString(source));
+            dictionary.add(value);
+            return value;
+        }
+        int index = tag - FIRST_REFERENCE;
+        if (index < 0 || index >= dictionary.size()) {
+            throw new EidIllegalArgumentException(
+                "20261019:161627",
+                "Unknown string reference " + index
+                    + " at position " + source.position()
+            );
+        }
+        return dictionary.get(index);
+    }
+
+    private static void ensureRemaining(ByteBuffer target, int size) {
+        if (target.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    private static void ensureKind(byte kind, byte expected) {
+        if (kind != expected) {
+            throw new EidIllegalArgumentException(
+                "20261019:102536",
+                "Expected record kind " + expected + ", but got " + kind
+            );
+        }
+    }
+
+    private static String required(@Nullable String value) {
+        if (value == null) {
+            throw new EidIllegalArgumentException(
+                "20261019:102612", "Required value is missing in the record"
+            );
+        }
+        return value;
+    }
+}
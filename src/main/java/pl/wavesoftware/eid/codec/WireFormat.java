@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.codec;
+
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+
+/**
+ * Low level primitives of the wire format: unsigned varints and varint
+ * length prefixed UTF-8 strings. A {@code null} string is encoded as a length
+ * of zero, and every other string has its length incremented by one.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class WireFormat {
+
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int CONTINUATION = 0x80;
+    private static final int MAX_VARINT_SHIFT = 28;
+    private static final char REPLACEMENT = '?';
+
+    private WireFormat() {
+        // nothing here
+    }
+
+    static int sizeOfVarint(int value) {
+        int size = 1;
+        int rest = value >>> 7;
+        while (rest != 0) {
+            size++;
+            rest >>>= 7;
+        }
+        return size;
+    }
+
+    static void writeVarint(ByteBuffer target, int value) {
+        int rest = value;
+        while ((rest & ~SEVEN_BITS) != 0) {
+            target.put((byte) ((rest & SEVEN_BITS) | CONTINUATION));
+            rest >>>= 7;
+        }
+        target.put((byte) rest);
+    }
+
+    static int readVarint(ByteBuffer source) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            byte current = source.get();
+            value |= (current & SEVEN_BITS) << shift;
+            if ((current & CONTINUATION) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > MAX_VARINT_SHIFT) {
+                throw new EidIllegalArgumentException(
+                    "20261019:101422",
+                    "Malformed varint at position " + source.position()
+                );
+            }
+        }
+    }
+
+    static int sizeOfString(@Nullable CharSequence value) {
+        if (value == null) {
+            return sizeOfVarint(0);
+        }
+        int bytes = utf8Length(value);
+        return sizeOfVarint(bytes + 1) + bytes;
+    }
+
+    static void writeString(ByteBuffer target, @Nullable CharSequence value) {
+        if (value == null) {
+            writeVarint(target, 0);
+            return;
+        }
+        writeVarint(target, utf8Length(value) + 1);
+        writeUtf8(target, value);
+    }
+
+    @Nullable
+    static String readString(ByteBuffer source) {
+        int prefix = readVarint(source);
+        if (prefix == 0) {
+            return null;
+        }
+        int length = prefix - 1;
+        if (prefix < 0) {
+            throw new EidIllegalArgumentException(
+                "20261019:161204",
+                "String length " + (prefix & 0xFFFFFFFFL) + " is malformed"
+            );
+        }
+        if (length > source.remaining()) {
+            throw new EidIllegalArgumentException(
+                "20261019:101507",
+                "String of " + length + " bytes exceeds "
+                    + source.remaining() + " remaining bytes"
+            );
+        }
+        return readUtf8(source, length);
+    }
+
+    static int utf8Length(CharSequence value) {
+        int length = value.length();
+        int bytes = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                bytes++;
+            } else if (ch < 0x800) {
+                bytes += 2;
+            } else if (isSurrogate(ch)) {
+                if (isSurrogatePair(value, i)) {
+                    bytes += 4;
+                    i++;
+                } else {
+                    bytes++;
+                }
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static void writeUtf8(ByteBuffer target, CharSequence value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                target.put((byte) ch);
+            } else if (ch < 0x800) {
+                target.put((byte) (0xC0 | (ch >> 6)));
+                target.put((byte) (0x80 | (ch & 0x3F)));
+            } else if (isSurrogate(ch)) {
+                if (isSurrogatePair(value, i)) {
+                    int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                    target.put((byte) (0xF0 | (codePoint >> 18)));
+                    target.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    target.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    target.put((byte) (0x80 | (codePoint & 0x3F)));
+                } else {
+                    target.put((byte) REPLACEMENT);
+                }
+            } else {
+                target.put((byte) (0xE0 | (ch >> 12)));
+                target.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+                target.put((byte) (0x80 | (ch & 0x3F)));
+            }
+        }
+    }
+
+    private static String readUtf8(ByteBuffer source, int length) {
+        char[] chars = new char[length];
+        int count = 0;
+        int end = source.position() + length;
+        while (source.position() < end) {
+            int first = source.get() & 0xFF;
+            if (first < 0x80) {
+                chars[count++] = (char) first;
+                continue;
+            }
+            int continuations = continuationsOf(first, source.position() - 1);
+            if (end - source.position() < continuations) {
+                throw new EidIllegalArgumentException(
+                    "20261019:101548",
+                    "Malformed UTF-8 sequence overruns the string end at " + end
+                );
+            }
+            if (continuations == 1) {
+                chars[count++] = (char) (((first & 0x1F) << 6)
+                    | continuation(source));
+            } else if (continuations == 2) {
+                chars[count++] = (char) (((first & 0x0F) << 12)
+                    | (continuation(source) << 6)
+                    | continuation(source));
+            } else {
+                int codePoint = ((first & 0x07) << 18)
+                    | (continuation(source) << 12)
+                    | (continuation(source) << 6)
+                    | continuation(source);
+                if (codePoint > Character.MAX_CODE_POINT) {
+                    throw new EidIllegalArgumentException(
+                        "20261019:161237",
+                        "Code point " + Integer.toHexString(codePoint)
+                            + " is out of Unicode range at position "
+                            + (source.position() - 4)
+                    );
+                }
+                count += Character.toChars(codePoint, chars, count);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    private static int continuationsOf(int first, int position) {
+        if (first >= 0xC0 && first < 0xE0) {
+            return 1;
+        }
+        if (first >= 0xE0 && first < 0xF0) {
+            return 2;
+        }
+        if (first >= 0xF0 && first < 0xF8) {
+            return 3;
+        }
+        throw new EidIllegalArgumentException(
+            "20261019:161221",
+            "Malformed UTF-8 sequence at position " + position
+        );
+    }
+
+    private static int continuation(ByteBuffer source) {
+        int next = source.get() & 0xFF;
+        if ((next & 0xC0) != 0x80) {
+            throw new EidIllegalArgumentException(
+                "20261019:101631",
+                "Malformed UTF-8 sequence at position " + (source.position() - 1)
+            );
+        }
+        return next & 0x3F;
+    }
+
+    private static boolean isSurrogate(char ch) {
+        return ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE;
+    }
+
+    private static boolean isSurrogatePair(CharSequence value, int index) {
+        return Character.isHighSurrogate(value.charAt(index))
+            && index + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(index + 1));
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.context;
+
+import pl.wavesoftware.eid.exceptions.EidNullPointerException;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable diagnostic context, like request ID, tenant or user, that is
+ * captured by Eid exceptions, when they are created. A context of current
+ * thread is set with {@link #put(String, String)}, for a scope:
+ * <pre>
+ * EidContext.Scope scope = EidContext.put("request", requestId);
+ * try {
+ *     handle(request);
+ * } catch (EidRuntimeException ex) {
+ *     String request = ex.getContext().get("request");
+ * } finally {
+ *     scope.close();
+ * }
+ * </pre>
+ * A context is a persistent map: a new entry is added in front of existing
+ * ones, that are shared, and never copied. So capturing a context by an
+ * exception is a single thread local read, and adding an entry is a single
+ * allocation. Lookups walk entries, so contexts are meant to be small.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidContext {
+
+    /**
+     * An empty context.
+     */
+    public static final EidContext EMPTY = new EidContext();
+
+    private static final ThreadLocal<EidContext> CURRENT =
+        new ThreadLocal<EidContext>() {
+            @Override
+            protected EidContext initialValue() {
+                return EMPTY;
+            }
+        };
+
+    @Nullable
+    private final String key;
+    @Nullable
+    private final String value;
+    @Nullable
+    private final EidContext parent;
+    private final int depth;
+
+    private EidContext() {
+        this.key = null;
+        this.value = null;
+        this.parent = null;
+        this.depth = 0;
+    }
+
+    private EidContext(String key, @Nullable String value, EidContext parent) {
+        this.key = key;
+        this.value = value;
+        this.parent = parent;
+        this.depth = parent.depth + 1;
+    }
+
+    /**
+     * Gets a context of current thread.
+     *
+     * @return a current context
+     */
+    public static EidContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Puts an entry into a context of current thread, until returned scope
+     * is closed.
+     *
+     * @param key   a key
+     * @param value a value, or null to remove a key
+     * @return a scope, that restores previous context when closed
+     */
+    public static Scope put(String key, @Nullable String value) {
+        return attach(current().with(key, value));
+    }
+
+    /**
+     * Sets a context of current thread, until returned scope is closed. It
+     * can be used to carry a context to other threads.
+     *
+     * @param context a context to set
+     * @return a scope, that restores previous context when closed
+     */
+    public static Scope attach(EidContext context) {
+        return new Scope(swap(context));
+    }
+
+    /**
+     * Sets a context of current thread, without allocating a scope.
+     *
+     * @param context a context to set
+     * @return a previous context
+     */
+    static EidContext swap(EidContext context) {
+        EidContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    /**
+     * Creates a context with an additional entry. This context isn't
+     * changed.
+     *
+     * @param key   a key
+     * @param value a value, or null to remove a key
+     * @return a new context
+     */
+    public EidContext with(String key, @Nullable String value) {
+        if (key == null) {
+            throw new EidNullPointerException(
+                "20261019:160512", "Context key can't be null"
+            );
+        }
+        return new EidContext(key, value, this);
+    }
+
+    /**
+     * Gets a value of a key.
+     *
+     * @param key a key
+     * @return a value, or null if there is no such key
+     */
+    @Nullable
+    public String get(String key) {
+        for (EidContext entry = this; entry.parent != null; entry = entry.parent) {
+            if (key.equals(entry.key)) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a context has no entries.
+     *
+     * @return true, if context is empty
+     */
+    public boolean isEmpty() {
+        Set<String> removed = null;
+        for (EidContext entry = this; entry.parent != null; entry = entry.parent) {
+            if (entry.value == null) {
+                if (removed == null) {
+                    removed = new HashSet<String>();
+                }
+                removed.add(entry.key);
+            } else if (removed == null || !removed.contains(entry.key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets entries of a context, in order they were put.
+     *
+     * @return an unmodifiable map of entries
+     */
+    public Map<String, String> toMap() {
+        List<EidContext> entries = new ArrayList<EidContext>(depth);
+        Set<String> seen = new HashSet<String>();
+        for (EidContext entry = this; entry.parent != null; entry = entry.parent) {
+            if (seen.add(entry.key)) {
+                entries.add(entry);
+            }
+        }
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            EidContext entry = entries.get(i);
+            if (entry.value != null) {
+                map.put(entry.key, entry.value);
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /**
+     * A scope of context, set for current thread. Scopes should be closed in
+     * reverse order, they were opened, in the same thread.
+     */
+    public static final class Scope implements Closeable {
+        private final EidContext previous;
+
+        private Scope(EidContext previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Restores a context, that was current before this scope.
+         */
+        @Override
+        public void close() {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorators of tasks and executors, that carry an {@link EidContext} from
+ * a thread that submits a task, to a thread that runs it. So Eid exceptions
+ * thrown by tasks capture the context of a request, that caused them:
+ * <pre>
+ * ExecutorService executor = EidContexts.propagating(
+ *     Executors.newFixedThreadPool(8)
+ * );
+ * </pre>
+ * A context is captured with a single thread local read when a task is
+ * submitted, and it's set and restored around the task, without copying any
+ * entries.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidContexts {
+
+    private EidContexts() {
+        // nothing here
+    }
+
+    /**
+     * Wraps a task, to run with a context of current thread.
+     *
+     * @param task a task to wrap
+     * @return a wrapped task
+     */
+    public static Runnable wrap(Runnable task) {
+        return new ContextRunnable(EidContext.current(), task);
+    }
+
+    /**
+     * Wraps a task, to run with a context of current thread.
+     *
+     * @param task a task to wrap
+     * @param <V>  a type of result
+     * @return a wrapped task
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        return new ContextCallable<V>(EidContext.current(), task);
+    }
+
+    /**
+     * Decorates an executor, to run tasks with a context of a thread, that
+     * submitted them.
+     *
+     * @param executor an executor to decorate
+     * @return a decorated executor
+     */
+    public static Executor propagating(final Executor executor) {
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                executor.execute(wrap(command));
+            }
+        };
+    }
+
+    /**
+     * Decorates an executor service, to run tasks with a context of a thread,
+     * that submitted them.
+     *
+     * @param executor an executor service to decorate
+     * @return a decorated executor service
+     */
+    public static ExecutorService propagating(ExecutorService executor) {
+        return new ContextExecutorService(executor);
+    }
+
+    private static <T> List<Callable<T>> wrapAll(
+        Collection<? extends Callable<T>> tasks
+    ) {
+        EidContext context = EidContext.current();
+        List<Callable<T>> wrapped = new ArrayList<Callable<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(new ContextCallable<T>(context, task));
+        }
+        return wrapped;
+    }
+
+    private static final class ContextRunnable implements Runnable {
+        private final EidContext context;
+        private final Runnable task;
+
+        private ContextRunnable(EidContext context, Runnable task) {
+            this.context = context;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            EidContext previous = EidContext.swap(context);
+            try {
+                task.run();
+            } finally {
+                EidContext.swap(previous);
+            }
+        }
+    }
+
+    private static final class ContextCallable<V> implements Callable<V> {
+        private final EidContext context;
+        private final Callable<V> task;
+
+        private ContextCallable(EidContext context, Callable<V> task) {
+            this.context = context;
+            this.task = task;
+        }
+
+        @Override
+        public V call() throws Exception {
+            EidContext previous = EidContext.swap(context);
+            try {
+                return task.call();
+            } finally {
+                EidContext.swap(previous);
+            }
+        }
+    }
+
+    private static final class ContextExecutorService implements ExecutorService {
+        private final ExecutorService executor;
+
+        private ContextExecutorService(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            executor.execute(wrap(command));
+        }
+
+        @Override
+        public <T> Future<T> submit(Callable<T> task) {
+            return executor.submit(wrap(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(Runnable task, T result) {
+            return executor.submit(wrap(task), result);
+        }
+
+        @Override
+        public Future<?> submit(Runnable task) {
+            return executor.submit(wrap(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(
+            Collection<? extends Callable<T>> tasks
+        ) throws InterruptedException {
+            return executor.invokeAll(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(
+            Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit
+        ) throws InterruptedException {
+            return executor.invokeAll(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+            return executor.invokeAny(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(
+            Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit
+        ) throws InterruptedException, ExecutionException, TimeoutException {
+            return executor.invokeAny(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executor.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executor.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+            return executor.awaitTermination(timeout, unit);
+        }
+    }
+}
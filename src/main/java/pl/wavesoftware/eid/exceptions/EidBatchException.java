@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.exceptions;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.system.EidModule;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * This exception aggregates failures of a batch execution, in which the same
+ * code block was executed for each item of a collection. Each failure is kept
+ * with an index of item, that caused it. The first failure is set as a cause
+ * of this exception.
+ * <p>
+ * It's thrown by
+ * {@link pl.wavesoftware.eid.utils.EidExecutions#tryToExecuteAll(java.util.Collection, pl.wavesoftware.eid.utils.UnsafeConsumer, Eid, java.util.concurrent.Executor)}
+ * method.
+ * <p>
+ * <strong>Caution!</strong> This class shouldn't be used in any public API or
+ * library. It is designed to be used for in-house development of end user
+ * applications which will report bugs in standardized error pages or post them
+ * to issue tracker.
+ *
+ * @see pl.wavesoftware.eid.utils.EidExecutions
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidBatchException extends EidRuntimeException {
+
+    private static final long serialVersionUID = 20261019133406L;
+
+    private final int size;
+    private final SortedMap<Integer, EidRuntimeException> failures;
+
+    /**
+     * Constructs a new batch exception with the specified Exception ID, size
+     * of a batch and failures, keyed by index of item.
+     *
+     * @param eid      an exception ID as character sequence
+     * @param size     a number of items in the batch
+     * @param failures a failures keyed by index of item, that caused them
+     */
+    public EidBatchException(
+        CharSequence eid,
+        int size,
+        Map<Integer, ? extends EidRuntimeException> failures
+    ) {
+        this(
+            EidModule.MODULE
+                .getBinding()
+                .getFactories()
+                .getEidFactory()
+                .create(eid),
+            size,
+            failures
+        );
+    }
+
+    /**
+     * Constructs a new batch exception with the specified Exception ID, size
+     * of a batch and failures, keyed by index of item.
+     *
+     * @param id       an exception ID
+     * @param size     a number of items in the batch
+     * @param failures a failures keyed by index of item, that caused them
+     */
+    public EidBatchException(
+        Eid id,
+        int size,
+        Map<Integer, ? extends EidRuntimeException> failures
+    ) {
+        this(id, size, Collections.unmodifiableSortedMap(
+            new TreeMap<Integer, EidRuntimeException>(failures)
+        ));
+    }
+
+    private EidBatchException(
+        Eid id,
+        int size,
+        SortedMap<Integer, EidRuntimeException> failures
+    ) {
+        super(id.message(
+            "Batch execution failed for {0,number,integer} of "
+                + "{1,number,integer} item(s), at indices: {2}",
+            failures.size(), size, failures.keySet()
+        ));
+        this.size = size;
+        this.failures = failures;
+        if (!failures.isEmpty()) {
+            initCause(failures.get(failures.firstKey()));
+        }
+    }
+
+    /**
+     * Gets a number of items in the batch.
+     *
+     * @return a number of items
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets failures of the batch, each with index of item that caused it.
+     *
+     * @return an unmodifiable map of failures, sorted by index of item
+     */
+    public SortedMap<Integer, EidRuntimeException> getFailures() {
+        return failures;
+    }
+}
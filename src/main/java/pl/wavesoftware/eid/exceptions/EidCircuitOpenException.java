@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.exceptions;
+
+import pl.wavesoftware.eid.api.Eid;
+
+/**
+ * This exception is thrown instead of executing a code block, while a
+ * circuit breaker for its Eid is open. It's thrown very often during outages,
+ * so it doesn't have a stack trace, which would be the same for all callers
+ * anyway. Each rejection is a new instance, with Eid of its circuit breaker,
+ * and it's reported to occurrence listener as any other Eid exception.
+ *
+ * @see pl.wavesoftware.eid.utils.EidCircuitBreakers
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidCircuitOpenException extends EidRuntimeException {
+
+    private static final long serialVersionUID = 20261019140211L;
+
+    /**
+     * Constructs a new circuit open exception with the specified Exception
+     * ID.
+     *
+     * @param id an exception ID
+     */
+    public EidCircuitOpenException(Eid id) {
+        super(id, "Circuit breaker is open, execution is rejected");
+    }
+
+    /**
+     * Doesn't fill in a stack trace, as it's thrown very often.
+     *
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
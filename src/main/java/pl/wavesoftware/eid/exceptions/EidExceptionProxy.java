@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.exceptions;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.codec.EidCodec;
+import pl.wavesoftware.eid.context.EidContext;
+import pl.wavesoftware.eid.system.ExtendedConfigurations;
+
+import javax.annotation.Nullable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A compact serialization proxy of Eid exceptions. Instead of a full
+ * {@link Throwable} object graph, it writes only: a kind of exception, Eid
+ * encoded with {@link EidCodec}, detail message, stack trace elements,
+ * optionally a cause, and entries of a captured {@link EidContext}. Stack
+ * trace can be truncated and causes can be skipped with
+ * {@link pl.wavesoftware.eid.api.Configurator}.
+ * <p>
+ * Only exceptions of this library are replaced. Subclasses created by users
+ * are serialized with default Java serialization, as they can hold
+ * additional state.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class EidExceptionProxy implements Externalizable {
+    private static final long serialVersionUID = 20261019111204L;
+    /**
+     * A maximum length of an encoded exception, that is accepted when
+     * reading. It guards against allocating memory for a forged length.
+     */
+    private static final int MAX_LENGTH = 1 << 24;
+    private static final int CHUNK = 1 << 13;
+
+    private Kind kind;
+    private Eid eid;
+    private String message;
+    private StackTraceElement[] stackTrace;
+    @Nullable
+    private Throwable cause;
+    private EidContext context;
+
+    /**
+     * Required by {@link Externalizable} contract. Do not use directly.
+     */
+    public EidExceptionProxy() {
+        // nothing here
+    }
+
+    private EidExceptionProxy(
+        Kind kind,
+        EidRuntimeException exception,
+        ExtendedConfiguration configuration
+    ) {
+        this.kind = kind;
+        this.eid = exception.getEid();
+        this.message = exception.getMessage();
+        this.stackTrace = truncate(
+            exception.getStackTrace(),
+            configuration.getSerializedStackTraceDepth()
+        );
+        this.cause = configuration.isSerializingCauses()
+            ? exception.getCause()
+            : null;
+        this.context = exception.getContext();
+    }
+
+    static Object replace(EidRuntimeException exception) {
+        Kind kind = Kind.of(exception.getClass());
+        if (kind == null) {
+            return exception;
+        }
+        return new EidExceptionProxy(
+            kind, exception, ExtendedConfigurations.current()
+        );
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ByteBuffer target = ByteBuffer.allocate(sizeOf());
+        encode(target);
+        out.writeInt(target.position());
+        out.write(target.array(), 0, target.position());
+        out.writeObject(cause);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in)
+        throws IOException, ClassNotFoundException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new InvalidObjectException(
+                "Length of encoded exception is out of range: " + length
+            );
+        }
+        try {
+            decode(ByteBuffer.wrap(readFully(in, length)));
+        } catch (EidIllegalArgumentException ex) {
+            throw invalid(ex);
+        } catch (BufferUnderflowException ex) {
+            throw invalid(ex);
+        }
+        cause = (Throwable) in.readObject();
+    }
+
+    private Object readResolve() {
+        EidRuntimeException exception = kind.create(
+            new RestoredMessage(eid, message)
+        );
+        if (cause != null) {
+            exception.initCause(cause);
+        }
+        exception.setStackTrace(stackTrace);
+        exception.setContext(context);
+        return exception;
+    }
+
+    /**
+     * Reads bytes in chunks, so a buffer grows only as far as the data
+     * actually arrives, not up to a length read from the stream.
+     */
+    private static byte[] readFully(ObjectInput in, int length)
+        throws IOException {
+        byte[] bytes = new byte[Math.min(length, CHUNK)];
+        int read = 0;
+        while (read < length) {
+            int chunk = Math.min(length - read, CHUNK);
+            if (read + chunk > bytes.length) {
+                bytes = Arrays.copyOf(
+                    bytes, Math.min(length, Math.max(bytes.length * 2, read + chunk))
+                );
+            }
+            in.readFully(bytes, read, chunk);
+            read += chunk;
+        }
+        return bytes;
+    }
+
+    private int sizeOf() {
+        return 1 + EidCodec.sizeOf(new RestoredMessage(eid, message))
+            + EidCodec.sizeOf(stackTrace)
+            + EidCodec.sizeOf(context);
+    }
+
+    private void encode(ByteBuffer target) {
+        target.put((byte) kind.ordinal());
+        EidCodec.encode(new RestoredMessage(eid, message), target);
+        EidCodec.encode(stackTrace, target);
+        EidCodec.encode(context, target);
+    }
+
+    private void decode(ByteBuffer source) throws InvalidObjectException {
+        kind = Kind.of(source.get());
+        EidMessage decoded = EidCodec.decodeMessage(source);
+        eid = decoded.getEid();
+        message = decoded.getFormattedMessage().toString();
+        stackTrace = EidCodec.decodeStackTrace(source);
+        context = EidCodec.decodeContext(source);
+    }
+
+    private static StackTraceElement[] truncate(
+        StackTraceElement[] stackTrace, int depth
+    ) {
+        if (depth < 0 || depth >= stackTrace.length) {
+            return stackTrace;
+        }
+        return Arrays.copyOf(stackTrace, depth);
+    }
+
+    private static InvalidObjectException invalid(RuntimeException cause) {
+        InvalidObjectException exception = new InvalidObjectException(
+            "Malformed Eid exception: " + cause.getMessage()
+        );
+        exception.initCause(cause);
+        return exception;
+    }
+
+    private enum Kind {
+        RUNTIME(EidRuntimeException.class) {
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidRuntimeException(message, false);
+            }
+        },
+        ILLEGAL_ARGUMENT(EidIllegalArgumentException.class) {
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidIllegalArgumentException(message, false);
+            }
+        },
+        ILLEGAL_STATE(EidIllegalStateException.class) {
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidIllegalStateException(message, false);
+            }
+        },
+        INDEX_OUT_OF_BOUNDS(EidIndexOutOfBoundsException.class) {
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidIndexOutOfBoundsException(message, false);
+            }
+        },
+        NULL_POINTER(EidNullPointerException.class) {
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidNullPointerException(message, false);
+            }
+        };
+
+        private static final Kind[] KINDS = values();
+        private final Class<? extends EidRuntimeException> type;
+
+        Kind(Class<? extends EidRuntimeException> type) {
+            this.type = type;
+        }
+
+        abstract EidRuntimeException create(EidMessage message);
+
+        @Nullable
+        static Kind of(Class<?> type) {
+            for (Kind kind : KINDS) {
+                if (kind.type == type) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+
+        static Kind of(byte ordinal) throws InvalidObjectException {
+            if (ordinal < 0 || ordinal >= KINDS.length) {
+                throw new InvalidObjectException(
+                    "Unknown kind of Eid exception: " + ordinal
+                );
+            }
+            return KINDS[ordinal];
+        }
+    }
+}
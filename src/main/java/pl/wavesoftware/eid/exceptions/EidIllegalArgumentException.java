@@ -80,6 +80,10 @@ public class EidIllegalArgumentException extends EidRuntimeException {
         super(message);
     }
 
+    EidIllegalArgumentException(EidMessage message, boolean occurred) {
+        super(message, occurred);
+    }
+
     /**
      * Constructs a new runtime exception with the specified Exception ID,
      * detail message and cause.
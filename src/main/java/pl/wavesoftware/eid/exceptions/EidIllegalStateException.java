@@ -80,6 +80,10 @@ public class EidIllegalStateException extends EidRuntimeException {
         super(message);
     }
 
+    EidIllegalStateException(EidMessage message, boolean occurred) {
+        super(message, occurred);
+    }
+
     /**
      * Constructs a new runtime exception with the specified Exception ID,
      * detail message and cause.
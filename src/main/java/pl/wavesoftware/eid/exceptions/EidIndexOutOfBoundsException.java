@@ -80,6 +80,10 @@ public class EidIndexOutOfBoundsException extends EidRuntimeException {
         super(message);
     }
 
+    EidIndexOutOfBoundsException(EidMessage message, boolean occurred) {
+        super(message, occurred);
+    }
+
     /**
      * Constructs a new runtime exception with the specified Exception ID,
      * detail message and cause.
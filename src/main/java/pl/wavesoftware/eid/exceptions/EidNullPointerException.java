@@ -80,6 +80,10 @@ public class EidNullPointerException extends EidRuntimeException {
         super(message);
     }
 
+    EidNullPointerException(EidMessage message, boolean occurred) {
+        super(message, occurred);
+    }
+
     /**
      * Constructs a new runtime exception with the specified Exception ID,
      * detail message and cause.
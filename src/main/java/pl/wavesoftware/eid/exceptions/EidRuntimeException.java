@@ -18,10 +18,16 @@ package pl.wavesoftware.eid.exceptions;
 import pl.wavesoftware.eid.api.EidContainer;
 import pl.wavesoftware.eid.api.Eid;
 import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.api.Tracer;
+import pl.wavesoftware.eid.context.EidContext;
 import pl.wavesoftware.eid.system.EidModule;
+import pl.wavesoftware.eid.system.ExtendedConfigurations;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.ObjectStreamException;
 
 /**
  * This exception class is baseline of all Eid runtime exception classes. It is
@@ -52,6 +58,8 @@ public class EidRuntimeException extends RuntimeException implements EidContaine
 
     private static final long serialVersionUID = 20181029202308L;
     private final Eid eid;
+    @Nullable
+    private transient EidContext context;
 
     /**
      * Constructs a new runtime exception with the specified Exception ID as
@@ -104,8 +112,24 @@ public class EidRuntimeException extends RuntimeException implements EidContaine
      *                later retrieval by the {@link #getMessage()} method.
      */
     public EidRuntimeException(EidMessage message) {
+        this(message, true);
+    }
+
+    /**
+     * Constructs a new runtime exception with the specified Eid message. An
+     * exception restored from a serialized form didn't occur locally, so it
+     * isn't reported to occurrence listener nor tracer, and it doesn't
+     * capture a context of current thread.
+     *
+     * @param message  the Eid message
+     * @param occurred false, if exception is restored from a serialized form
+     */
+    EidRuntimeException(EidMessage message, boolean occurred) {
         super(message.toString());
         this.eid = message.getEid();
+        if (occurred) {
+            occurred();
+        }
     }
 
     /**
@@ -199,6 +223,7 @@ public class EidRuntimeException extends RuntimeException implements EidContaine
     public EidRuntimeException(Eid id) {
         super(id.toString());
         eid = id;
+        occurred();
     }
 
     /**
@@ -215,6 +240,7 @@ public class EidRuntimeException extends RuntimeException implements EidContaine
     public EidRuntimeException(Eid id, String message) {
         super(id.message(message).toString());
         this.eid = id;
+        occurred();
     }
 
     /**
@@ -239,6 +265,7 @@ public class EidRuntimeException extends RuntimeException implements EidContaine
     ) {
         super(id.message(message).toString(), cause);
         this.eid = id;
+        occurred();
     }
 
     /**
@@ -261,6 +288,7 @@ public class EidRuntimeException extends RuntimeException implements EidContaine
     public EidRuntimeException(Eid id, @Nullable Throwable cause) {
         super(messageOf(id, cause), cause);
         eid = id;
+        occurred();
     }
 
     @Override
@@ -268,6 +296,45 @@ public class EidRuntimeException extends RuntimeException implements EidContaine
         return eid;
     }
 
+    /**
+     * Gets a diagnostic context, that was current when this exception was
+     * created.
+     *
+     * @return a captured context
+     * @since 2.1.0
+     */
+    public EidContext getContext() {
+        EidContext captured = context;
+        return captured == null ? EidContext.EMPTY : captured;
+    }
+
+    void setContext(EidContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Replaces exceptions of this library with a compact serialization proxy.
+     *
+     * @return an object to be serialized in place of this exception
+     * @throws ObjectStreamException never, required by serialization contract
+     */
+    Object writeReplace() throws ObjectStreamException {
+        return EidExceptionProxy.replace(this);
+    }
+
+    private void occurred() {
+        context = EidContext.current();
+        ExtendedConfiguration configuration = ExtendedConfigurations.current();
+        OccurrenceListener listener = configuration.getOccurrenceListener();
+        if (listener != null) {
+            listener.onOccurrence(eid, this);
+        }
+        Tracer tracer = configuration.getTracer();
+        if (tracer != null) {
+            tracer.trace(Tracer.Activity.EXCEPTION, eid, 0L);
+        }
+    }
+
     private static String messageOf(Eid eid, @Nullable Throwable cause) {
         if (cause != null) {
             return eid.message(messageOf(cause)).toString();
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.exceptions;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.system.EidModule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This exception aggregates a number of validation failures, each with its
+ * own Eid message. It's thrown by
+ * {@link pl.wavesoftware.eid.utils.EidValidation#throwIfInvalid(String)}
+ * method, to report all failed checks at once.
+ * <p>
+ * <strong>Caution!</strong> This class shouldn't be used in any public API or
+ * library. It is designed to be used for in-house development of end user
+ * applications which will report bugs in standardized error pages or post them
+ * to issue tracker.
+ *
+ * @see pl.wavesoftware.eid.utils.EidValidation
+ * @see EidIllegalArgumentException
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidValidationException extends EidIllegalArgumentException {
+
+    private static final long serialVersionUID = 20261019130512L;
+    private static final String SEPARATOR = "; ";
+
+    private final List<EidMessage> violations;
+
+    /**
+     * Constructs a new validation exception with the specified Exception ID
+     * and violations. The detail message lists all given violations.
+     *
+     * @param eid        an exception ID as character sequence
+     * @param violations a violations of validation
+     */
+    public EidValidationException(
+        CharSequence eid,
+        Collection<? extends EidMessage> violations
+    ) {
+        this(
+            EidModule.MODULE
+                .getBinding()
+                .getFactories()
+                .getEidFactory()
+                .create(eid),
+            violations
+        );
+    }
+
+    /**
+     * Constructs a new validation exception with the specified Exception ID
+     * and violations. The detail message lists all given violations.
+     *
+     * @param id         an exception ID
+     * @param violations a violations of validation
+     */
+    public EidValidationException(
+        Eid id,
+        Collection<? extends EidMessage> violations
+    ) {
+        this(id, Collections.unmodifiableList(
+            new ArrayList<EidMessage>(violations)
+        ));
+    }
+
+    private EidValidationException(Eid id, List<EidMessage> violations) {
+        super(id.message(
+            "Validation failed with {0,number,integer} violation(s): {1}",
+            violations.size(), join(violations)
+        ));
+        this.violations = violations;
+    }
+
+    /**
+     * Gets violations of validation, each with its own Eid.
+     *
+     * @return an unmodifiable list of violations
+     */
+    public List<EidMessage> getViolations() {
+        return violations;
+    }
+
+    private static String join(List<EidMessage> violations) {
+        StringBuilder builder = new StringBuilder();
+        for (EidMessage violation : violations) {
+            if (builder.length() > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(violation);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.exceptions;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+
+/**
+ * An Eid message of deserialized Eid exception. It holds already rendered
+ * message of an exception, so it can be restored verbatim.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class RestoredMessage implements EidMessage {
+
+    private final Eid eid;
+    private final String message;
+
+    RestoredMessage(Eid eid, String message) {
+        this.eid = eid;
+        this.message = message;
+    }
+
+    @Override
+    public Eid getEid() {
+        return eid;
+    }
+
+    @Override
+    public CharSequence getFormattedMessage() {
+        return message;
+    }
+
+    @Override
+    public int length() {
+        return message.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return message.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return message.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return message;
+    }
+}
@@ -18,9 +18,14 @@ package pl.wavesoftware.eid.impl;
 
 import pl.wavesoftware.eid.api.Configuration;
 import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
 import pl.wavesoftware.eid.api.Formatter;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.api.Tracer;
 import pl.wavesoftware.eid.api.UniqueIdGenerator;
 import pl.wavesoftware.eid.api.Validator;
+import pl.wavesoftware.eid.system.ExtendedConfigurations;
 
 import javax.annotation.Nullable;
 import java.util.Locale;
@@ -42,18 +47,43 @@ final class ConfigurationImpl implements MutableConfiguration {
     private Locale locale;
     @Nullable
     private TimeZone zone;
+    private int serializedStackTraceDepth = -1;
+    private boolean serializingCauses = true;
+    private boolean serializingMessageTemplates;
+    @Nullable
+    private OccurrenceListener occurrenceListener;
+    @Nullable
+    private Tracer tracer;
 
     ConfigurationImpl() {
         // nothing here
     }
 
-    ConfigurationImpl(MutableConfiguration settings) {
+    ConfigurationImpl(Configuration settings) {
         checkNotNull(settings, "20181218:002046");
-        this.formatter = settings.getFormatter();
+        this.formatter = rebind(settings.getFormatter());
         this.generator = settings.getIdGenerator();
         this.validator = settings.getValidator();
         this.locale = settings.getLocale();
         this.zone = settings.getTimeZone();
+        ExtendedConfiguration extended = ExtendedConfigurations.extend(settings);
+        this.serializedStackTraceDepth = extended.getSerializedStackTraceDepth();
+        this.serializingCauses = extended.isSerializingCauses();
+        this.serializingMessageTemplates =
+            extended.isSerializingMessageTemplates();
+        this.occurrenceListener = extended.getOccurrenceListener();
+        this.tracer = extended.getTracer();
+    }
+
+    /**
+     * A default formatter reads a locale from configuration it was created
+     * for, so a copy gets its own one, that follows locale of the copy.
+     */
+    private Formatter rebind(Formatter formatter) {
+        if (formatter instanceof DefaultFormatter) {
+            return new DefaultFormatter(this);
+        }
+        return formatter;
     }
 
     @Override
@@ -86,6 +116,38 @@ final class ConfigurationImpl implements MutableConfiguration {
         return this;
     }
 
+    @Override
+    public ExtendedConfigurationBuilder serializedStackTraceDepth(int depth) {
+        this.serializedStackTraceDepth = depth;
+        return this;
+    }
+
+    @Override
+    public ExtendedConfigurationBuilder serializeCauses(boolean serialize) {
+        this.serializingCauses = serialize;
+        return this;
+    }
+
+    @Override
+    public ExtendedConfigurationBuilder serializeMessageTemplates(boolean serialize) {
+        this.serializingMessageTemplates = serialize;
+        return this;
+    }
+
+    @Override
+    public ExtendedConfigurationBuilder occurrenceListener(
+        @Nullable OccurrenceListener listener
+    ) {
+        this.occurrenceListener = listener;
+        return this;
+    }
+
+    @Override
+    public ExtendedConfigurationBuilder tracer(@Nullable Tracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
     @Override
     public Configuration getFutureConfiguration() {
         return this;
@@ -118,4 +180,31 @@ final class ConfigurationImpl implements MutableConfiguration {
     public TimeZone getTimeZone() {
         return zone;
     }
+
+    @Override
+    public int getSerializedStackTraceDepth() {
+        return serializedStackTraceDepth;
+    }
+
+    @Override
+    public boolean isSerializingCauses() {
+        return serializingCauses;
+    }
+
+    @Override
+    public boolean isSerializingMessageTemplates() {
+        return serializingMessageTemplates;
+    }
+
+    @Nullable
+    @Override
+    public OccurrenceListener getOccurrenceListener() {
+        return occurrenceListener;
+    }
+
+    @Nullable
+    @Override
+    public Tracer getTracer() {
+        return tracer;
+    }
 }
@@ -18,20 +18,27 @@ package pl.wavesoftware.eid.impl;
 
 import pl.wavesoftware.eid.api.Configuration;
 import pl.wavesoftware.eid.api.ConfigurationBuilder;
-import pl.wavesoftware.eid.api.ConfigurationSystem;
 import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.ExtendedConfigurationSystem;
 import pl.wavesoftware.eid.api.Supplier;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
 
+import javax.annotation.Nullable;
 import java.util.ServiceLoader;
 
 /**
  * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
  * @since 2018-10-29
  */
-final class ConfigurationSystemImpl implements ConfigurationSystem {
+final class ConfigurationSystemImpl implements ExtendedConfigurationSystem {
 
-    private Lazy<MutableConfiguration> configuration =
+    // volatile, so a new configuration is safely published to readers,
+    // that never lock
+    private volatile Lazy<MutableConfiguration> configuration =
         Lazy.of(new MutableConfigurationSupplier());
+    private final ThreadLocal<Configuration> overrides =
+        new ThreadLocal<Configuration>();
 
     ConfigurationSystemImpl() {
         // nothing here
@@ -39,11 +46,15 @@ final class ConfigurationSystemImpl implements ConfigurationSystem {
 
     @Override
     public Configuration getConfiguration() {
+        Configuration override = overrides.get();
+        if (override != null) {
+            return override;
+        }
         return configuration.get();
     }
 
     @Override
-    public Configurator configure(Configurator configurator) {
+    public synchronized Configurator configure(Configurator configurator) {
         MutableConfiguration configured = configuration.get();
         MutableConfiguration mutable = new ConfigurationImpl(configured);
         configurator.configure(mutable);
@@ -51,6 +62,60 @@ final class ConfigurationSystemImpl implements ConfigurationSystem {
         return new RestoreConfigurator(configured);
     }
 
+    @Override
+    public Scope override(Configurator configurator) {
+        Configuration previous = overrides.get();
+        MutableConfiguration mutable = new ConfigurationImpl(getConfiguration());
+        configurator.configure(mutable);
+        overrides.set(mutable);
+        return new OverrideScope(previous, mutable);
+    }
+
+    /**
+     * A scope of an override, that can be closed only by a thread, that
+     * opened it, and only when its override is still current, so scopes
+     * can't be closed out of order. Closing it again has no effect.
+     */
+    private final class OverrideScope implements Scope {
+        private final Thread owner = Thread.currentThread();
+        @Nullable
+        private final Configuration previous;
+        private final Configuration installed;
+        private boolean closed;
+
+        OverrideScope(@Nullable Configuration previous, Configuration installed) {
+            this.previous = previous;
+            this.installed = installed;
+        }
+
+        @Override
+        public void close() {
+            if (Thread.currentThread() != owner) {
+                throw new EidIllegalStateException(
+                    "20261019:161712",
+                    "Configuration override can be closed only by a thread, "
+                        + "that opened it: " + owner.getName()
+                );
+            }
+            if (closed) {
+                return;
+            }
+            if (overrides.get() != installed) {
+                throw new EidIllegalStateException(
+                    "20261019:161738",
+                    "Configuration override is closed out of order, "
+                        + "an override opened later should be closed first"
+                );
+            }
+            closed = true;
+            if (previous == null) {
+                overrides.remove();
+            } else {
+                overrides.set(previous);
+            }
+        }
+    }
+
     private static final class MutableConfigurationSupplier
         implements Supplier<MutableConfiguration> {
 
@@ -90,7 +155,20 @@ final class ConfigurationSystemImpl implements ConfigurationSystem {
             builder.formatter(configuration.getFormatter())
                 .uniqueIdGenerator(configuration.getIdGenerator())
                 .validator(configuration.getValidator())
-                .locale(configuration.getLocale());
+                .locale(configuration.getLocale())
+                .timezone(configuration.getTimeZone());
+            if (builder instanceof ExtendedConfigurationBuilder) {
+                ((ExtendedConfigurationBuilder) builder)
+                    .serializedStackTraceDepth(
+                        configuration.getSerializedStackTraceDepth()
+                    )
+                    .serializeCauses(configuration.isSerializingCauses())
+                    .serializeMessageTemplates(
+                        configuration.isSerializingMessageTemplates()
+                    )
+                    .occurrenceListener(configuration.getOccurrenceListener())
+                    .tracer(configuration.getTracer());
+            }
         }
     }
 }
@@ -19,7 +19,9 @@ package pl.wavesoftware.eid.impl;
 import pl.wavesoftware.eid.api.Configuration;
 import pl.wavesoftware.eid.api.Eid;
 import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.system.ExtendedConfigurations;
 
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
 /**
@@ -39,7 +41,7 @@ final class DefaultEidMessage implements EidMessage, Serializable {
     ) {
         this.represntation = new EidTextRepresentation(
             eid,
-            new TextMessage(configuration, messageFormat, arguments),
+            new TextMessage(configuration, eid, messageFormat, arguments),
             configuration
         );
     }
@@ -71,7 +73,28 @@ final class DefaultEidMessage implements EidMessage, Serializable {
 
     @Override
     public CharSequence getFormattedMessage() {
-        return represntation.getTextMessage().get();
+        return getTextMessage().get();
+    }
+
+    TextMessage getTextMessage() {
+        return represntation.getTextMessage();
+    }
+
+    /**
+     * Replaces not yet formatted message with a message template proxy, if
+     * it's configured to do so.
+     *
+     * @return an object to be serialized in place of this message
+     * @throws ObjectStreamException never, required by serialization contract
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        MessageSupplier pending = getTextMessage().getPendingSupplier();
+        if (pending != null
+            && ExtendedConfigurations.extend(pending.getConfiguration())
+            .isSerializingMessageTemplates()) {
+            return new MessageTemplateProxy(getEid(), pending);
+        }
+        return this;
     }
 
 }
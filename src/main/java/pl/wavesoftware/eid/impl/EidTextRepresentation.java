@@ -20,6 +20,8 @@ import pl.wavesoftware.eid.api.Configuration;
 import pl.wavesoftware.eid.api.EidContainer;
 import pl.wavesoftware.eid.api.Eid;
 import pl.wavesoftware.eid.api.Supplier;
+import pl.wavesoftware.eid.api.Tracer;
+import pl.wavesoftware.eid.system.ExtendedConfigurations;
 
 import java.io.Serializable;
 
@@ -44,8 +46,19 @@ final class EidTextRepresentation implements EidContainer, Serializable {
         this.actual = SerializableLazy.serializableOf(new Supplier<String>() {
             @Override
             public String get() {
-                return configuration.getFormatter()
-                    .format(eid, textMessage.get());
+                String message = textMessage.get();
+                Tracer tracer = ExtendedConfigurations.extend(configuration)
+                    .getTracer();
+                if (tracer == null) {
+                    return configuration.getFormatter().format(eid, message);
+                }
+                long start = System.nanoTime();
+                String formatted = configuration.getFormatter()
+                    .format(eid, message);
+                tracer.trace(
+                    Tracer.Activity.MESSAGE_FORMATTING, eid, System.nanoTime() - start
+                );
+                return formatted;
             }
         });
     }
@@ -18,6 +18,8 @@ package pl.wavesoftware.eid.impl;
 
 import pl.wavesoftware.eid.api.Supplier;
 
+import javax.annotation.Nullable;
+
 import static pl.wavesoftware.eid.impl.InternalChecks.checkNotNull;
 
 
@@ -62,4 +64,15 @@ class Lazy<T> implements Supplier<T> {
         }
         return value;
     }
+
+    /**
+     * Gets a supplier that wasn't yet called, or null if value is already
+     * calculated.
+     *
+     * @return a pending supplier, or null
+     */
+    @Nullable
+    Supplier<T> getPendingSupplier() {
+        return supplier;
+    }
 }
@@ -17,7 +17,10 @@
 package pl.wavesoftware.eid.impl;
 
 import pl.wavesoftware.eid.api.Configuration;
+import pl.wavesoftware.eid.api.Eid;
 import pl.wavesoftware.eid.api.Supplier;
+import pl.wavesoftware.eid.api.Tracer;
+import pl.wavesoftware.eid.system.ExtendedConfigurations;
 
 import javax.annotation.Nullable;
 import java.text.MessageFormat;
@@ -33,6 +36,8 @@ final class MessageSupplier
     implements Supplier<String> {
 
     private final Configuration configuration;
+    @Nullable
+    private final Eid eid;
     private final CharSequence messageFormat;
     private final Object[] arguments;
 
@@ -40,15 +45,49 @@ final class MessageSupplier
         Configuration configuration,
         CharSequence messageFormat,
         Object[] arguments
+    ) {
+        this(configuration, null, messageFormat, arguments);
+    }
+
+    /**
+     * Creates a supplier, that traces rendering of message for given Eid,
+     * if a tracer is configured.
+     */
+    MessageSupplier(
+        Configuration configuration,
+        @Nullable Eid eid,
+        CharSequence messageFormat,
+        Object[] arguments
     ) {
         this.configuration = configuration;
+        this.eid = eid;
         this.messageFormat = messageFormat;
         this.arguments = arguments.clone();
     }
 
     @Override
     public String get() {
-        return getFormatter().format(arguments);
+        Tracer tracer = ExtendedConfigurations.extend(configuration)
+            .getTracer();
+        if (tracer == null || eid == null) {
+            return getFormatter().format(arguments);
+        }
+        long start = System.nanoTime();
+        String message = getFormatter().format(arguments);
+        tracer.trace(Tracer.Activity.MESSAGE, eid, System.nanoTime() - start);
+        return message;
+    }
+
+    Configuration getConfiguration() {
+        return configuration;
+    }
+
+    CharSequence getMessageFormat() {
+        return messageFormat;
+    }
+
+    Object[] getArguments() {
+        return arguments.clone();
     }
 
     private MessageFormat getFormatter() {
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.impl;
+
+import pl.wavesoftware.eid.api.Configuration;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.codec.EidCodec;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+import pl.wavesoftware.eid.system.EidModule;
+
+import javax.annotation.Nullable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * A serialization proxy of Eid message that wasn't formatted yet. It holds a
+ * message template, locale, time zone and arguments, so formatting is done
+ * lazily on receiving side. Arguments of types other than well known JDK
+ * value types are replaced with theirs string representation, so receiving
+ * side doesn't need to have them on class path.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class MessageTemplateProxy implements Externalizable {
+    private static final long serialVersionUID = 20261019120412L;
+    /**
+     * A maximum length of an encoded Eid, that is accepted when reading. It
+     * guards against allocating memory for a forged length.
+     */
+    private static final int MAX_EID_LENGTH = 1 << 16;
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<Class<?>>(
+        Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Character.class, Byte.class,
+            Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, Date.class
+        )
+    );
+
+    private Eid eid;
+    private String template;
+    @Nullable
+    private Locale locale;
+    @Nullable
+    private TimeZone zone;
+    private Object[] arguments;
+
+    /**
+     * Required by {@link Externalizable} contract. Do not use directly.
+     */
+    public MessageTemplateProxy() {
+        // nothing here
+    }
+
+    MessageTemplateProxy(Eid eid, MessageSupplier supplier) {
+        Configuration configuration = supplier.getConfiguration();
+        this.eid = eid;
+        this.template = supplier.getMessageFormat().toString();
+        this.locale = configuration.getLocale();
+        this.zone = configuration.getTimeZone();
+        this.arguments = toValues(supplier.getArguments());
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ByteBuffer encoded = ByteBuffer.allocate(EidCodec.sizeOf(eid));
+        EidCodec.encode(eid, encoded);
+        out.writeInt(encoded.capacity());
+        out.write(encoded.array());
+        out.writeObject(template);
+        out.writeObject(locale);
+        out.writeObject(zone == null ? null : zone.getID());
+        out.writeObject(arguments);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in)
+        throws IOException, ClassNotFoundException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_EID_LENGTH) {
+            throw new InvalidObjectException(
+                "Length of encoded Eid is out of range: " + length
+            );
+        }
+        byte[] encoded = new byte[length];
+        in.readFully(encoded);
+        try {
+            eid = EidCodec.decodeEid(ByteBuffer.wrap(encoded));
+        } catch (EidIllegalArgumentException ex) {
+            throw invalid(ex);
+        } catch (BufferUnderflowException ex) {
+            throw invalid(ex);
+        }
+        template = (String) in.readObject();
+        locale = (Locale) in.readObject();
+        String zoneId = (String) in.readObject();
+        zone = zoneId == null ? null : TimeZone.getTimeZone(zoneId);
+        arguments = (Object[]) in.readObject();
+        if (template == null || arguments == null) {
+            throw new InvalidObjectException("Message template is incomplete");
+        }
+    }
+
+    private Object readResolve() {
+        ConfigurationImpl configuration = new ConfigurationImpl(
+            EidModule.MODULE
+                .getBinding()
+                .getConfigurationSystem()
+                .getConfiguration()
+        );
+        configuration.locale(locale).timezone(zone);
+        return new DefaultEidMessage(eid, configuration, template, arguments);
+    }
+
+    private static InvalidObjectException invalid(RuntimeException cause) {
+        InvalidObjectException exception = new InvalidObjectException(
+            "Malformed Eid: " + cause.getMessage()
+        );
+        exception.initCause(cause);
+        return exception;
+    }
+
+    private static Object[] toValues(Object[] arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            if (argument != null && !VALUE_TYPES.contains(argument.getClass())) {
+                arguments[i] = String.valueOf(argument);
+            }
+        }
+        return arguments;
+    }
+}
@@ -16,13 +16,13 @@
 
 package pl.wavesoftware.eid.impl;
 
-import pl.wavesoftware.eid.api.ConfigurationBuilder;
-import pl.wavesoftware.eid.api.Configuration;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
 
 /**
  * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
  * @since 2.0.0
  */
 interface MutableConfiguration
-    extends Configuration, ConfigurationBuilder {
+    extends ExtendedConfiguration, ExtendedConfigurationBuilder {
 }
@@ -17,7 +17,10 @@
 package pl.wavesoftware.eid.impl;
 
 import pl.wavesoftware.eid.api.Configuration;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.Supplier;
 
+import javax.annotation.Nullable;
 import java.io.Serializable;
 
 /**
@@ -33,9 +36,18 @@ final class TextMessage implements Serializable {
         Configuration configuration,
         CharSequence messageFormat,
         Object[] arguments
+    ) {
+        this(configuration, null, messageFormat, arguments);
+    }
+
+    TextMessage(
+        Configuration configuration,
+        @Nullable Eid eid,
+        CharSequence messageFormat,
+        Object[] arguments
     ) {
         message = SerializableLazy.serializableOf(new MessageSupplier(
-            configuration, messageFormat, arguments
+            configuration, eid, messageFormat, arguments
         ));
     }
 
@@ -43,4 +55,18 @@ final class TextMessage implements Serializable {
         return message.get();
     }
 
+    /**
+     * Gets a message supplier if message wasn't formatted yet.
+     *
+     * @return a message supplier, or null if message is already formatted
+     */
+    @Nullable
+    MessageSupplier getPendingSupplier() {
+        Supplier<String> pending = message.getPendingSupplier();
+        if (pending instanceof MessageSupplier) {
+            return (MessageSupplier) pending;
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.journal;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static pl.wavesoftware.eid.journal.JournalLayout.CAPACITY_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.CHECKSUM;
+import static pl.wavesoftware.eid.journal.JournalLayout.CURSOR_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.EXCEPTION;
+import static pl.wavesoftware.eid.journal.JournalLayout.EXCEPTION_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.FNV_OFFSET_BASIS;
+import static pl.wavesoftware.eid.journal.JournalLayout.ID;
+import static pl.wavesoftware.eid.journal.JournalLayout.ID_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.MAGIC;
+import static pl.wavesoftware.eid.journal.JournalLayout.MAGIC_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.RECORD_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.RECORD_SIZE_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.REF;
+import static pl.wavesoftware.eid.journal.JournalLayout.REF_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.SEQUENCE;
+import static pl.wavesoftware.eid.journal.JournalLayout.THREAD;
+import static pl.wavesoftware.eid.journal.JournalLayout.TIMESTAMP;
+import static pl.wavesoftware.eid.journal.JournalLayout.UNIQUE;
+import static pl.wavesoftware.eid.journal.JournalLayout.UNIQUE_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.VERSION;
+import static pl.wavesoftware.eid.journal.JournalLayout.VERSION_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.fileSize;
+import static pl.wavesoftware.eid.journal.JournalLayout.hashLong;
+import static pl.wavesoftware.eid.journal.JournalLayout.offsetOf;
+import static pl.wavesoftware.eid.journal.JournalLayout.putString;
+
+/**
+ * A journal of Eid exception occurrences, written to a memory mapped file.
+ * Records are written directly to memory shared with an operating system, so
+ * they survive a hard crash of JVM, like an OOM kill or a segmentation fault
+ * in native code. To survive a crash of the operating system itself, call
+ * {@link #flush()} periodically.
+ * <p>
+ * A file holds a fixed number of fixed width records, in a circular region,
+ * so the newest records overwrite the oldest ones. Writers claim a sequence
+ * number from an atomic cursor, without locks, and write records with
+ * absolute puts. Each record has a checksum, so a record that was torn by a
+ * crash is skipped by {@link EidJournalReader}. A cursor is also stored in a
+ * file header, and a journal reopened on the same file continues after
+ * the last record.
+ * <p>
+ * It's fed with Eid exceptions, when it's configured as an occurrence
+ * listener.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @see EidJournalReader
+ * @since 2.1.0
+ */
+public final class EidJournal implements OccurrenceListener, Closeable {
+
+    private static final int DEFAULT_CAPACITY = 16384;
+    private static final int MAX_CAPACITY = 1 << 22;
+
+    private final RandomAccessFile file;
+    private final MappedByteBuffer buffer;
+    private final int mask;
+    private final AtomicLong cursor;
+
+    private EidJournal(RandomAccessFile file, MappedByteBuffer buffer, int capacity) {
+        this.file = file;
+        this.buffer = buffer;
+        this.mask = capacity - 1;
+        this.cursor = new AtomicLong(lastCursor(buffer, capacity));
+    }
+
+    /**
+     * Opens a journal file, with a capacity of 16384 records, that's 4 MiB.
+     *
+     * @param path a path to journal file
+     * @return an opened journal
+     * @throws IOException if file can't be opened
+     */
+    public static EidJournal open(File path) throws IOException {
+        return open(path, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens a journal file. If a file is already a journal, it's reused with
+     * its own capacity. Otherwise, it's created with given capacity, rounded
+     * up to a power of two.
+     *
+     * @param path     a path to journal file
+     * @param capacity a number of records to keep
+     * @return an opened journal
+     * @throws IOException if file can't be opened
+     */
+    public static EidJournal open(File path, int capacity) throws IOException {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new EidIllegalArgumentException(
+                "20261019:150514",
+                "Capacity must be in [1, " + MAX_CAPACITY + "], but was "
+                    + capacity
+            );
+        }
+        RandomAccessFile file = new RandomAccessFile(path, "rw");
+        boolean opened = false;
+        try {
+            int actual = existingCapacity(file);
+            if (actual == 0) {
+                actual = ceilingPowerOfTwo(capacity);
+                file.setLength(fileSize(actual));
+            }
+            MappedByteBuffer buffer = file.getChannel()
+                .map(FileChannel.MapMode.READ_WRITE, 0, fileSize(actual));
+            writeHeader(buffer, actual);
+            EidJournal journal = new EidJournal(file, buffer, actual);
+            opened = true;
+            return journal;
+        } finally {
+            if (!opened) {
+                file.close();
+            }
+        }
+    }
+
+    @Override
+    public void onOccurrence(Eid eid, Throwable exception) {
+        long sequence = cursor.getAndIncrement();
+        int offset = offsetOf((int) sequence & mask);
+        long timestamp = System.currentTimeMillis();
+        long threadId = Thread.currentThread().getId();
+        // a record is marked as empty while being written
+        buffer.putLong(offset + SEQUENCE, 0L);
+        buffer.putLong(offset + TIMESTAMP, timestamp);
+        buffer.putLong(offset + THREAD, threadId);
+        int hash = hashLong(FNV_OFFSET_BASIS, sequence + 1);
+        hash = hashLong(hash, timestamp);
+        hash = hashLong(hash, threadId);
+        hash = putString(buffer, offset + ID, ID_SIZE, eid.getId(), hash);
+        hash = putString(buffer, offset + REF, REF_SIZE, eid.getRef(), hash);
+        hash = putString(buffer, offset + UNIQUE, UNIQUE_SIZE, eid.getUnique(), hash);
+        hash = putString(
+            buffer, offset + EXCEPTION, EXCEPTION_SIZE,
+            exception.getClass().getName(), hash
+        );
+        buffer.putInt(offset + CHECKSUM, hash);
+        buffer.putLong(offset + SEQUENCE, sequence + 1);
+        // approximate under contention, reopening scans records anyway
+        buffer.putLong(CURSOR_OFFSET, sequence + 1);
+    }
+
+    /**
+     * Forces written records to a storage device. It's needed only to
+     * survive a crash of operating system, as memory of a crashed JVM is
+     * written by operating system anyway.
+     */
+    public void flush() {
+        buffer.force();
+    }
+
+    /**
+     * Gets a number of records written to a journal file, since it was
+     * created, including those, that were already overwritten.
+     *
+     * @return a number of all records
+     */
+    public long getTotal() {
+        return cursor.get();
+    }
+
+    /**
+     * Flushes and closes a journal file. A mapping of file is released by
+     * garbage collector, as there is no way to unmap it explicitly.
+     *
+     * @throws IOException if file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        file.close();
+    }
+
+    private static int existingCapacity(RandomAccessFile file) throws IOException {
+        if (file.length() < JournalLayout.HEADER_SIZE) {
+            return 0;
+        }
+        file.seek(MAGIC_OFFSET);
+        if (file.readInt() != MAGIC) {
+            throw new EidIllegalStateException(
+                "20261019:150601", "Not an Eid journal file"
+            );
+        }
+        file.seek(VERSION_OFFSET);
+        int version = file.readInt();
+        int recordSize = file.readInt();
+        int capacity = file.readInt();
+        if (version != VERSION || recordSize != RECORD_SIZE
+            || Integer.bitCount(capacity) != 1
+            || file.length() < fileSize(capacity)) {
+            throw new EidIllegalStateException(
+                "20261019:150642",
+                "Unsupported Eid journal file, version " + version
+                    + ", record size " + recordSize + ", capacity " + capacity
+            );
+        }
+        return capacity;
+    }
+
+    private static void writeHeader(MappedByteBuffer buffer, int capacity) {
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+    }
+
+    private static long lastCursor(MappedByteBuffer buffer, int capacity) {
+        long last = buffer.getLong(CURSOR_OFFSET);
+        for (int slot = 0; slot < capacity; slot++) {
+            last = Math.max(last, buffer.getLong(offsetOf(slot) + SEQUENCE));
+        }
+        return last;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.journal;
+
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static pl.wavesoftware.eid.journal.JournalLayout.HEADER_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.RECORD_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.offsetOf;
+
+/**
+ * An index of Eid IDs over journal files written by {@link EidJournal}, to
+ * query them offline without scanning whole files each time.
+ * <p>
+ * Files are streamed once, through a {@link FileChannel}, in read only
+ * mapped windows, so records aren't copied to heap buffers. Index is kept
+ * in sorted arrays: distinct Eid IDs, and for each of them, timestamps of
+ * its occurrences with a location of each record. Queries are binary
+ * searches over them, and only records that are returned by
+ * {@link #find(String, long, long)} are read from files again.
+ * <p>
+ * Index is a snapshot. If a journal is still written to, records that were
+ * overwritten since index was built are skipped by
+ * {@link #find(String, long, long)}.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidJournalIndex {
+
+    private static final int WINDOW_RECORDS = 4096;
+
+    private final List<File> files;
+    private final String[] ids;
+    private final int[] starts;
+    private final long[] timestamps;
+    private final int[] fileIndexes;
+    private final int[] offsets;
+
+    private EidJournalIndex(List<File> files, List<Entry> entries) {
+        this.files = Collections.unmodifiableList(new ArrayList<File>(files));
+        Collections.sort(entries);
+        List<String> distinct = new ArrayList<String>();
+        List<Integer> firsts = new ArrayList<Integer>();
+        int size = entries.size();
+        timestamps = new long[size];
+        fileIndexes = new int[size];
+        offsets = new int[size];
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            if (i == 0 || !entry.id.equals(entries.get(i - 1).id)) {
+                distinct.add(entry.id);
+                firsts.add(i);
+            }
+            timestamps[i] = entry.timestamp;
+            fileIndexes[i] = entry.file;
+            offsets[i] = entry.offset;
+        }
+        ids = distinct.toArray(new String[distinct.size()]);
+        starts = new int[ids.length + 1];
+        for (int i = 0; i < ids.length; i++) {
+            starts[i] = firsts.get(i);
+        }
+        starts[ids.length] = size;
+    }
+
+    /**
+     * Builds an index of given journal files, in current thread.
+     *
+     * @param files journal files
+     * @return an index
+     * @throws IOException if a file can't be read
+     */
+    public static EidJournalIndex build(File... files) throws IOException {
+        List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < files.length; i++) {
+            entries.addAll(scan(files[i], i));
+        }
+        return new EidJournalIndex(Arrays.asList(files), entries);
+    }
+
+    /**
+     * Builds an index of given journal files, scanning each of them in
+     * parallel, as a separate task of given executor.
+     *
+     * @param files    journal files
+     * @param executor an executor to scan files on
+     * @return an index
+     * @throws IOException if a file can't be read
+     */
+    public static EidJournalIndex build(List<File> files, ExecutorService executor)
+        throws IOException {
+        List<Future<List<Entry>>> scans = new ArrayList<Future<List<Entry>>>();
+        for (int i = 0; i < files.size(); i++) {
+            final File file = files.get(i);
+            final int index = i;
+            scans.add(executor.submit(new Callable<List<Entry>>() {
+                @Override
+                public List<Entry> call() throws IOException {
+                    return scan(file, index);
+                }
+            }));
+        }
+        List<Entry> entries = new ArrayList<Entry>();
+        for (Future<List<Entry>> scan : scans) {
+            entries.addAll(await(scan));
+        }
+        return new EidJournalIndex(files, entries);
+    }
+
+    /**
+     * Gets indexed journal files.
+     *
+     * @return a list of files
+     */
+    public List<File> getFiles() {
+        return files;
+    }
+
+    /**
+     * Gets a number of indexed records.
+     *
+     * @return a number of records
+     */
+    public int getTotal() {
+        return timestamps.length;
+    }
+
+    /**
+     * Gets distinct Eid IDs, in natural order.
+     *
+     * @return a list of Eid IDs
+     */
+    public List<String> getIds() {
+        return Collections.unmodifiableList(Arrays.asList(ids));
+    }
+
+    /**
+     * Counts occurrences of given Eid ID.
+     *
+     * @param id an Eid ID
+     * @return a number of occurrences
+     */
+    public int count(String id) {
+        return count(id, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Counts occurrences of given Eid ID, in a time range.
+     *
+     * @param id   an Eid ID
+     * @param from a start of time range, inclusive, in milliseconds since epoch
+     * @param to   an end of time range, exclusive, in milliseconds since epoch
+     * @return a number of occurrences
+     */
+    public int count(String id, long from, long to) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return 0;
+        }
+        return count(position, from, to);
+    }
+
+    /**
+     * Gets the most frequent Eid IDs.
+     *
+     * @param limit a maximal number of Eid IDs
+     * @return Eid IDs, the most frequent first
+     */
+    public List<String> top(int limit) {
+        return top(limit, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Gets the most frequent Eid IDs, in a time range.
+     *
+     * @param limit a maximal number of Eid IDs
+     * @param from  a start of time range, inclusive, in milliseconds since epoch
+     * @param to    an end of time range, exclusive, in milliseconds since epoch
+     * @return Eid IDs, the most frequent first
+     */
+    public List<String> top(int limit, long from, long to) {
+        if (limit < 0) {
+            throw new EidIllegalArgumentException(
+                "20261019:152114", "Limit can't be negative, but was " + limit
+            );
+        }
+        final int[] counts = new int[ids.length];
+        List<Integer> found = new ArrayList<Integer>();
+        for (int i = 0; i < ids.length; i++) {
+            counts[i] = count(i, from, to);
+            if (counts[i] > 0) {
+                found.add(i);
+            }
+        }
+        Collections.sort(found, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                // ids are sorted already, so ties are kept in natural order
+                return counts[second] - counts[first];
+            }
+        });
+        List<String> top = new ArrayList<String>();
+        for (int i = 0; i < Math.min(limit, found.size()); i++) {
+            top.add(ids[found.get(i)]);
+        }
+        return top;
+    }
+
+    /**
+     * Finds occurrences of given Eid ID, in a time range, reading only their
+     * records from journal files.
+     *
+     * @param id   an Eid ID
+     * @param from a start of time range, inclusive, in milliseconds since epoch
+     * @param to   an end of time range, exclusive, in milliseconds since epoch
+     * @return records, ordered by timestamp
+     * @throws IOException if a file can't be read
+     */
+    public List<JournalRecord> find(String id, long from, long to) throws IOException {
+        List<JournalRecord> records = new ArrayList<JournalRecord>();
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return records;
+        }
+        int first = lowerBound(position, from);
+        int last = lowerBound(position, to);
+        Map<Integer, FileInputStream> opened = new HashMap<Integer, FileInputStream>();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        try {
+            for (int i = first; i < last; i++) {
+                FileInputStream input = opened.get(fileIndexes[i]);
+                if (input == null) {
+                    input = new FileInputStream(files.get(fileIndexes[i]));
+                    opened.put(fileIndexes[i], input);
+                }
+                JournalRecord record = readRecord(input.getChannel(), offsets[i], buffer);
+                if (record != null && record.getId().equals(id)
+                    && record.getTimestamp() == timestamps[i]) {
+                    records.add(record);
+                }
+            }
+        } finally {
+            for (FileInputStream input : opened.values()) {
+                input.close();
+            }
+        }
+        return records;
+    }
+
+    private int count(int position, long from, long to) {
+        if (from >= to) {
+            return 0;
+        }
+        return lowerBound(position, to) - lowerBound(position, from);
+    }
+
+    /**
+     * Searches for a first occurrence of Eid ID at given position, that isn't
+     * earlier than given timestamp.
+     */
+    private int lowerBound(int position, long timestamp) {
+        int low = starts[position];
+        int high = starts[position + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps[middle] < timestamp) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static List<Entry> scan(File path, int file) throws IOException {
+        FileInputStream input = new FileInputStream(path);
+        try {
+            FileChannel channel = input.getChannel();
+            long size = channel.size();
+            int capacity = EidJournalReader.capacityOf(
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, HEADER_SIZE)),
+                size, path
+            );
+            Map<String, String> canonical = new HashMap<String, String>();
+            List<Entry> entries = new ArrayList<Entry>();
+            for (int first = 0; first < capacity; first += WINDOW_RECORDS) {
+                int count = Math.min(WINDOW_RECORDS, capacity - first);
+                MappedByteBuffer window = channel.map(
+                    FileChannel.MapMode.READ_ONLY, offsetOf(first), (long) count * RECORD_SIZE
+                );
+                for (int i = 0; i < count; i++) {
+                    JournalRecord record = JournalLayout.decode(window, i * RECORD_SIZE);
+                    if (record != null) {
+                        entries.add(new Entry(
+                            canonical(canonical, record.getId()), record.getTimestamp(),
+                            record.getSequence(), file, offsetOf(first + i)
+                        ));
+                    }
+                }
+            }
+            return entries;
+        } finally {
+            input.close();
+        }
+    }
+
+    private static String canonical(Map<String, String> canonical, String id) {
+        String existing = canonical.get(id);
+        if (existing == null) {
+            canonical.put(id, id);
+            return id;
+        }
+        return existing;
+    }
+
+    @Nullable
+    private static JournalRecord readRecord(
+        FileChannel channel, long offset, ByteBuffer buffer
+    ) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset + buffer.position());
+            if (read < 0) {
+                return null;
+            }
+        }
+        return JournalLayout.decode(buffer, 0);
+    }
+
+    private static List<Entry> await(Future<List<Entry>> scan) throws IOException {
+        try {
+            return scan.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new EidRuntimeException("20261019:152146", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new EidRuntimeException("20261019:152203", cause);
+        }
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final String id;
+        private final long timestamp;
+        private final long sequence;
+        private final int file;
+        private final int offset;
+
+        private Entry(String id, long timestamp, long sequence, int file, int offset) {
+            this.id = id;
+            this.timestamp = timestamp;
+            this.sequence = sequence;
+            this.file = file;
+            this.offset = offset;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = id.compareTo(other.id);
+            if (result == 0) {
+                result = compare(timestamp, other.timestamp);
+            }
+            if (result == 0) {
+                result = file - other.file;
+            }
+            if (result == 0) {
+                result = compare(sequence, other.sequence);
+            }
+            return result;
+        }
+
+        private static int compare(long first, long second) {
+            if (first == second) {
+                return 0;
+            }
+            return first < second ? -1 : 1;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.journal;
+
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static pl.wavesoftware.eid.journal.JournalLayout.CAPACITY_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.HEADER_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.MAGIC;
+import static pl.wavesoftware.eid.journal.JournalLayout.MAGIC_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.RECORD_SIZE;
+import static pl.wavesoftware.eid.journal.JournalLayout.RECORD_SIZE_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.VERSION;
+import static pl.wavesoftware.eid.journal.JournalLayout.VERSION_OFFSET;
+import static pl.wavesoftware.eid.journal.JournalLayout.fileSize;
+import static pl.wavesoftware.eid.journal.JournalLayout.offsetOf;
+
+/**
+ * Reads a journal file written by {@link EidJournal}, offline. It can be
+ * used as a command line tool:
+ * <pre>
+ * java -cp eid-exceptions.jar pl.wavesoftware.eid.journal.EidJournalReader eid.journal
+ * </pre>
+ * It prints records, oldest first, one in a line.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidJournalReader {
+
+    private EidJournalReader() {
+        // nothing here
+    }
+
+    /**
+     * Prints records of journal files given as arguments.
+     *
+     * @param args paths to journal files
+     * @throws IOException if a file can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        PrintStream out = System.out;
+        if (args.length == 0) {
+            out.println("Usage: EidJournalReader <journal file>...");
+            return;
+        }
+        for (String path : args) {
+            List<JournalRecord> records = read(new File(path));
+            for (JournalRecord record : records) {
+                out.println(record);
+            }
+            out.println(path + ": " + records.size() + " record(s)");
+        }
+    }
+
+    /**
+     * Reads valid records of a journal file. Empty and torn records are
+     * skipped.
+     *
+     * @param path a path to journal file
+     * @return a list of records, oldest first
+     * @throws IOException if file can't be read
+     */
+    public static List<JournalRecord> read(File path) throws IOException {
+        FileInputStream input = new FileInputStream(path);
+        try {
+            FileChannel channel = input.getChannel();
+            MappedByteBuffer buffer = channel.map(
+                FileChannel.MapMode.READ_ONLY, 0, channel.size()
+            );
+            int capacity = capacityOf(buffer, channel.size(), path);
+            List<JournalRecord> records = new ArrayList<JournalRecord>();
+            for (int slot = 0; slot < capacity; slot++) {
+                JournalRecord record = JournalLayout.decode(buffer, offsetOf(slot));
+                if (record != null) {
+                    records.add(record);
+                }
+            }
+            Collections.sort(records, BySequence.INSTANCE);
+            return records;
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Validates a header of journal file.
+     *
+     * @param buffer a buffer, that starts with a header
+     * @param size   a size of whole file
+     * @param path   a path to journal file, for error messages
+     * @return a capacity of journal file
+     */
+    static int capacityOf(ByteBuffer buffer, long size, File path) {
+        if (buffer.capacity() < HEADER_SIZE
+            || buffer.getInt(MAGIC_OFFSET) != MAGIC
+            || buffer.getInt(VERSION_OFFSET) != VERSION
+            || buffer.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+            throw new EidIllegalStateException(
+                "20261019:150911", "Not a supported Eid journal file: " + path
+            );
+        }
+        int capacity = buffer.getInt(CAPACITY_OFFSET);
+        if (capacity < 0 || size < fileSize(capacity)) {
+            throw new EidIllegalStateException(
+                "20261019:150944", "Truncated Eid journal file: " + path
+            );
+        }
+        return capacity;
+    }
+
+    private enum BySequence implements Comparator<JournalRecord> {
+        INSTANCE;
+
+        @Override
+        public int compare(JournalRecord first, JournalRecord second) {
+            if (first.getSequence() == second.getSequence()) {
+                return 0;
+            }
+            return first.getSequence() < second.getSequence() ? -1 : 1;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.journal;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+
+/**
+ * A binary layout of journal file. A file starts with a header:
+ * <pre>
+ * offset size field
+ *      0    4 magic number, "EIJ1"
+ *      4    4 version of layout
+ *      8    4 size of record
+ *     12    4 capacity, a number of records
+ *     16    8 cursor, a sequence number of next record
+ *     24   40 reserved
+ * </pre>
+ * Header is followed by a circular region of fixed width records:
+ * <pre>
+ * offset size field
+ *      0    8 sequence number + 1, or 0 if record is empty or being written
+ *      8    8 timestamp, in milliseconds since epoch
+ *     16    8 thread ID
+ *     24    4 checksum, FNV-1a of the other fields
+ *     28   32 Eid ID
+ *     60   64 Eid ref
+ *    124   24 Eid unique ID
+ *    148  108 exception class name
+ * </pre>
+ * Strings are stored as a length byte, {@code 0xFF} for null, followed by
+ * ASCII characters. Other characters are replaced with {@code '?'}, and too
+ * long strings are truncated. All numbers are big endian.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class JournalLayout {
+
+    static final int MAGIC = 0x45494A31;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int RECORD_SIZE_OFFSET = 8;
+    static final int CAPACITY_OFFSET = 12;
+    static final int CURSOR_OFFSET = 16;
+
+    static final int RECORD_SIZE = 256;
+    static final int SEQUENCE = 0;
+    static final int TIMESTAMP = 8;
+    static final int THREAD = 16;
+    static final int CHECKSUM = 24;
+    static final int ID = 28;
+    static final int ID_SIZE = 32;
+    static final int REF = ID + ID_SIZE;
+    static final int REF_SIZE = 64;
+    static final int UNIQUE = REF + REF_SIZE;
+    static final int UNIQUE_SIZE = 24;
+    static final int EXCEPTION = UNIQUE + UNIQUE_SIZE;
+    static final int EXCEPTION_SIZE = RECORD_SIZE - EXCEPTION;
+
+    static final int NULL_LENGTH = 0xFF;
+    static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    static final int FNV_PRIME = 0x01000193;
+
+    private static final int BYTE_MASK = 0xFF;
+    private static final int ASCII_LIMIT = 0x80;
+    private static final byte REPLACEMENT = '?';
+    private static final int LONG_BYTES = 8;
+    private static final int BITS_IN_BYTE = 8;
+
+    private JournalLayout() {
+        // nothing here
+    }
+
+    static long fileSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * RECORD_SIZE;
+    }
+
+    static int offsetOf(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    static int hashLong(int hash, long value) {
+        int result = hash;
+        for (int shift = (LONG_BYTES - 1) * BITS_IN_BYTE; shift >= 0; shift -= BITS_IN_BYTE) {
+            result = hashByte(result, (int) (value >>> shift));
+        }
+        return result;
+    }
+
+    static int hashByte(int hash, int value) {
+        return (hash ^ (value & BYTE_MASK)) * FNV_PRIME;
+    }
+
+    /**
+     * Writes a string field, without allocation.
+     *
+     * @return a hash updated with written bytes
+     */
+    static int putString(
+        ByteBuffer buffer, int offset, int size, @Nullable String value, int hash
+    ) {
+        if (value == null) {
+            buffer.put(offset, (byte) NULL_LENGTH);
+            return hashByte(hash, NULL_LENGTH);
+        }
+        int length = Math.min(value.length(), size - 1);
+        buffer.put(offset, (byte) length);
+        int result = hashByte(hash, length);
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            byte ascii = ch < ASCII_LIMIT ? (byte) ch : REPLACEMENT;
+            buffer.put(offset + 1 + i, ascii);
+            result = hashByte(result, ascii);
+        }
+        return result;
+    }
+
+    /**
+     * Hashes a string field, as it was hashed while written.
+     */
+    static int hashString(ByteBuffer buffer, int offset, int size, int hash) {
+        int length = buffer.get(offset) & BYTE_MASK;
+        int result = hashByte(hash, length);
+        if (length == NULL_LENGTH) {
+            return result;
+        }
+        for (int i = 0; i < Math.min(length, size - 1); i++) {
+            result = hashByte(result, buffer.get(offset + 1 + i));
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a record at given offset.
+     *
+     * @return a record, or null if record is empty, being written or torn
+     */
+    @Nullable
+    static JournalRecord decode(ByteBuffer buffer, int offset) {
+        long sequence = buffer.getLong(offset + SEQUENCE);
+        if (sequence == 0L) {
+            return null;
+        }
+        long timestamp = buffer.getLong(offset + TIMESTAMP);
+        long threadId = buffer.getLong(offset + THREAD);
+        int hash = hashLong(FNV_OFFSET_BASIS, sequence);
+        hash = hashLong(hash, timestamp);
+        hash = hashLong(hash, threadId);
+        hash = hashString(buffer, offset + ID, ID_SIZE, hash);
+        hash = hashString(buffer, offset + REF, REF_SIZE, hash);
+        hash = hashString(buffer, offset + UNIQUE, UNIQUE_SIZE, hash);
+        hash = hashString(buffer, offset + EXCEPTION, EXCEPTION_SIZE, hash);
+        String id = getString(buffer, offset + ID, ID_SIZE);
+        String unique = getString(buffer, offset + UNIQUE, UNIQUE_SIZE);
+        String exception = getString(buffer, offset + EXCEPTION, EXCEPTION_SIZE);
+        if (hash != buffer.getInt(offset + CHECKSUM)
+            || id == null || unique == null || exception == null) {
+            return null;
+        }
+        return new JournalRecord(
+            sequence - 1, timestamp, threadId, id,
+            getString(buffer, offset + REF, REF_SIZE), unique, exception
+        );
+    }
+
+    @Nullable
+    static String getString(ByteBuffer buffer, int offset, int size) {
+        int length = buffer.get(offset) & BYTE_MASK;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        char[] chars = new char[Math.min(length, size - 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (buffer.get(offset + 1 + i) & BYTE_MASK);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.logging;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidContainer;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Logs Eid exceptions, collapsing repeats. A first exception of a given Eid
+ * ID and exception class is logged in full. Its repeats within a window are
+ * only counted, and when the window ends, a single summary is logged, with
+ * a count of repeats and unique IDs of a few of them.
+ * <pre>
+ * private static final EidLogEmitter EMITTER = EidLogEmitter
+ *     .builder(new JulLogSink(Logger.getLogger("errors")))
+ *     .window(10, TimeUnit.SECONDS)
+ *     .build();
+ * // [..]
+ * } catch (EidRuntimeException ex) {
+ *     EMITTER.log(ex);
+ * }
+ * </pre>
+ * A summary is logged by a next exception of the same key, after its window
+ * ended. Call {@link #flush()} periodically, to log summaries of exceptions,
+ * that stopped repeating.
+ * <p>
+ * Keys are kept in a bounded, lock-free, open addressing table. When there
+ * is no room for a new key, an old one is evicted, and a summary of its
+ * repeats is logged. A repeat costs a clock read, a table probe and an
+ * atomic increment. Counts are approximate, when a window ends while
+ * exceptions are still being counted.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidLogEmitter {
+
+    private static final int MAX_PROBES = 8;
+
+    private final LogSink sink;
+    private final long windowNanos;
+    private final int samples;
+    private final Clock clock;
+    private final AtomicReferenceArray<Key> table;
+    private final int mask;
+
+    private EidLogEmitter(Builder builder) {
+        this.sink = builder.sink;
+        this.windowNanos = builder.windowNanos;
+        this.samples = builder.samples;
+        this.clock = builder.clock;
+        int capacity = Integer.highestOneBit(builder.capacity);
+        if (capacity < builder.capacity) {
+            capacity <<= 1;
+        }
+        this.table = new AtomicReferenceArray<Key>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates a builder of emitter, that logs to given sink.
+     *
+     * @param sink a sink to log to
+     * @return a builder
+     */
+    public static Builder builder(LogSink sink) {
+        return new Builder(sink);
+    }
+
+    /**
+     * Logs an exception in full, or counts it as a repeat.
+     *
+     * @param exception an exception to log
+     */
+    public void log(Throwable exception) {
+        Eid eid = exception instanceof EidContainer
+            ? ((EidContainer) exception).getEid()
+            : null;
+        String id = eid == null ? null : eid.getId();
+        Class<?> type = exception.getClass();
+        long now = clock.nanoTime();
+        Key key = find(id, type, now);
+        if (key == null) {
+            sink.logException(exception);
+            return;
+        }
+        long start = key.windowStart.get();
+        if (now - start >= windowNanos && key.windowStart.compareAndSet(start, now)) {
+            RepeatSummary summary = key.summarize(now - start);
+            if (summary == null) {
+                sink.logException(exception);
+                return;
+            }
+            sink.logRepeats(summary);
+        }
+        key.repeat(eid);
+    }
+
+    /**
+     * Logs summaries of all repeats, that weren't summarized yet, and starts
+     * new windows for them.
+     */
+    public void flush() {
+        long now = clock.nanoTime();
+        for (int i = 0; i < table.length(); i++) {
+            Key key = table.get(i);
+            if (key != null) {
+                long start = key.windowStart.get();
+                if (key.windowStart.compareAndSet(start, now)) {
+                    RepeatSummary summary = key.summarize(now - start);
+                    if (summary != null) {
+                        sink.logRepeats(summary);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds a key in a table, or inserts a new one.
+     *
+     * @return an existing key, or null if a new key was inserted
+     */
+    @Nullable
+    private Key find(@Nullable String id, Class<?> type, long now) {
+        int home = hash(id, type) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int index = (home + probe) & mask;
+            Key key = table.get(index);
+            if (key == null) {
+                if (table.compareAndSet(index, null, new Key(id, type, samples, now))) {
+                    return null;
+                }
+                key = table.get(index);
+            }
+            if (key.matches(id, type)) {
+                return key;
+            }
+        }
+        evict(home, new Key(id, type, samples, now), now);
+        return null;
+    }
+
+    private void evict(int index, Key replacement, long now) {
+        Key evicted = table.getAndSet(index, replacement);
+        RepeatSummary summary = evicted.summarize(now - evicted.windowStart.get());
+        if (summary != null) {
+            sink.logRepeats(summary);
+        }
+    }
+
+    private static int hash(@Nullable String id, Class<?> type) {
+        int hash = (id == null ? 0 : id.hashCode()) * 31 + type.getName().hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A source of monotonic time. It can be replaced, for ex.: in tests.
+     */
+    public interface Clock {
+        /**
+         * Gets current value of monotonic time source, like
+         * {@link System#nanoTime()}.
+         *
+         * @return a current time in nanoseconds
+         */
+        long nanoTime();
+    }
+
+    /**
+     * A builder of {@link EidLogEmitter}. By default, repeats are summarized
+     * every 10 seconds, with 3 sample unique IDs, for up to 1024 keys.
+     */
+    public static final class Builder {
+        private static final long DEFAULT_WINDOW_SECONDS = 10L;
+        private static final int DEFAULT_SAMPLES = 3;
+        private static final int DEFAULT_CAPACITY = 1024;
+        private static final int MAX_CAPACITY = 1 << 20;
+
+        private final LogSink sink;
+        private long windowNanos = TimeUnit.SECONDS.toNanos(DEFAULT_WINDOW_SECONDS);
+        private int samples = DEFAULT_SAMPLES;
+        private int capacity = DEFAULT_CAPACITY;
+        private Clock clock = SystemClock.INSTANCE;
+
+        private Builder(LogSink sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Sets a window, in which repeats are counted.
+         *
+         * @param window a length of window
+         * @param unit   a unit of window length
+         * @return this builder
+         */
+        public Builder window(long window, TimeUnit unit) {
+            long nanos = unit.toNanos(window);
+            if (nanos < 1L) {
+                throw new EidIllegalArgumentException(
+                    "20261019:155014", "Window must be positive, but was " + window
+                );
+            }
+            this.windowNanos = nanos;
+            return this;
+        }
+
+        /**
+         * Sets a number of unique IDs, given as samples in a summary.
+         *
+         * @param samples a number of samples, can be zero
+         * @return this builder
+         */
+        public Builder samples(int samples) {
+            if (samples < 0) {
+                throw new EidIllegalArgumentException(
+                    "20261019:155042", "Samples can't be negative, but was " + samples
+                );
+            }
+            this.samples = samples;
+            return this;
+        }
+
+        /**
+         * Sets a maximal number of keys, an Eid ID and exception class,
+         * that are tracked at once. It's rounded up to a power of two.
+         *
+         * @param capacity a number of keys
+         * @return this builder
+         */
+        public Builder capacity(int capacity) {
+            if (capacity < 1 || capacity > MAX_CAPACITY) {
+                throw new EidIllegalArgumentException(
+                    "20261019:155109",
+                    "Capacity must be in [1, " + MAX_CAPACITY + "], but was "
+                        + capacity
+                );
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets a source of time.
+         *
+         * @param clock a clock
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds an emitter.
+         *
+         * @return an emitter
+         */
+        public EidLogEmitter build() {
+            return new EidLogEmitter(this);
+        }
+    }
+
+    private static final class Key {
+        @Nullable
+        private final String id;
+        private final Class<?> type;
+        private final AtomicLong windowStart;
+        private final AtomicLong repeats = new AtomicLong();
+        private final AtomicReferenceArray<String> samples;
+
+        private Key(@Nullable String id, Class<?> type, int samples, long now) {
+            this.id = id;
+            this.type = type;
+            this.samples = new AtomicReferenceArray<String>(samples);
+            this.windowStart = new AtomicLong(now);
+        }
+
+        private boolean matches(@Nullable String id, Class<?> type) {
+            return this.type == type
+                && (this.id == null ? id == null : this.id.equals(id));
+        }
+
+        private void repeat(@Nullable Eid eid) {
+            long count = repeats.incrementAndGet();
+            if (eid != null && count <= samples.length()) {
+                samples.set((int) count - 1, eid.getUnique());
+            }
+        }
+
+        @Nullable
+        private RepeatSummary summarize(long nanos) {
+            long count = repeats.getAndSet(0L);
+            if (count == 0L) {
+                return null;
+            }
+            List<String> taken = new ArrayList<String>();
+            for (int i = 0; i < samples.length(); i++) {
+                String sample = samples.getAndSet(i, null);
+                if (sample != null) {
+                    taken.add(sample);
+                }
+            }
+            return new RepeatSummary(id, type.getName(), count, taken, nanos);
+        }
+    }
+
+    private enum SystemClock implements Clock {
+        INSTANCE;
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.logging;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A log sink, that logs to java.util.logging. Exceptions are logged on
+ * {@link Level#SEVERE} level, and summaries of repeats on
+ * {@link Level#WARNING} level.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class JulLogSink implements LogSink {
+
+    private final Logger logger;
+
+    /**
+     * Creates a sink, that logs to given logger.
+     *
+     * @param logger a logger
+     */
+    public JulLogSink(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void logException(Throwable exception) {
+        if (logger.isLoggable(Level.SEVERE)) {
+            logger.log(Level.SEVERE, exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public void logRepeats(RepeatSummary summary) {
+        if (logger.isLoggable(Level.WARNING)) {
+            logger.log(Level.WARNING, summary.toString());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.logging;
+
+/**
+ * A destination of log events emitted by {@link EidLogEmitter}, like
+ * java.util.logging with {@link JulLogSink}, or an adapter to any other
+ * logging library.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public interface LogSink {
+    /**
+     * Logs an exception in full, with its stack trace.
+     *
+     * @param exception an exception to log
+     */
+    void logException(Throwable exception);
+
+    /**
+     * Logs a summary of repeated exceptions, that weren't logged in full.
+     *
+     * @param summary a summary of repeats
+     */
+    void logRepeats(RepeatSummary summary);
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.logging;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A summary of exceptions with the same Eid ID and class, that were
+ * repeated within a window, and weren't logged in full.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class RepeatSummary {
+
+    @Nullable
+    private final String id;
+    private final String exceptionClass;
+    private final long count;
+    private final List<String> samples;
+    private final long nanos;
+
+    RepeatSummary(
+        @Nullable String id,
+        String exceptionClass,
+        long count,
+        List<String> samples,
+        long nanos
+    ) {
+        this.id = id;
+        this.exceptionClass = exceptionClass;
+        this.count = count;
+        this.samples = Collections.unmodifiableList(samples);
+        this.nanos = nanos;
+    }
+
+    /**
+     * Gets an Eid ID of repeated exceptions.
+     *
+     * @return an Eid ID, or null if exceptions have no Eid
+     */
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets a class name of repeated exceptions.
+     *
+     * @return a class name
+     */
+    public String getExceptionClass() {
+        return exceptionClass;
+    }
+
+    /**
+     * Gets a number of repeats, that weren't logged in full.
+     *
+     * @return a number of repeats
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets unique IDs of a few of repeated exceptions, so they can be
+     * correlated with error pages, that displayed them.
+     *
+     * @return sample unique IDs
+     */
+    public List<String> getSamples() {
+        return samples;
+    }
+
+    /**
+     * Gets a time, in which exceptions were repeated.
+     *
+     * @param unit a unit of time
+     * @return a time in given unit
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (id != null) {
+            text.append('[').append(id).append("] ");
+        }
+        text.append(exceptionClass)
+            .append(" repeated ").append(count)
+            .append(" time(s) in ").append(getDuration(TimeUnit.MILLISECONDS))
+            .append(" ms");
+        if (!samples.isEmpty()) {
+            text.append(", e.g.:");
+            for (String sample : samples) {
+                text.append(" <").append(sample).append('>');
+            }
+        }
+        return text.toString();
+    }
+}
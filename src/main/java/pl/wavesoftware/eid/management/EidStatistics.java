@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.management;
+
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.ConfigurationSystem;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.api.Tracer;
+import pl.wavesoftware.eid.api.Validator;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.metrics.EidHeavyHitters;
+import pl.wavesoftware.eid.metrics.EidLatencies;
+import pl.wavesoftware.eid.metrics.EidOccurrences;
+import pl.wavesoftware.eid.metrics.HeavyHitter;
+import pl.wavesoftware.eid.metrics.OccurrenceListeners;
+import pl.wavesoftware.eid.system.EidModule;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static pl.wavesoftware.eid.system.ExtendedConfigurations.extend;
+
+/**
+ * Publishes statistics and configuration of Eid library with JMX, as
+ * {@value #OBJECT_NAME} MBean. It's opt-in, and it needs to be registered
+ * with {@link #register()}.
+ * <p>
+ * When registered, it adds its own occurrence listener to configuration, to
+ * count Eid exceptions, and to track the most frequent Eid IDs and refs.
+ * If there is no tracer configured, it also records durations of Eid
+ * formatting and message rendering, with {@link EidLatencies}. Reading them
+ * doesn't block threads, that create exceptions.
+ * <p>
+ * Writable attributes reconfigure Eid library with
+ * {@link ConfigurationSystem#configure(Configurator)}, so a change is
+ * applied at once, to a copy of current configuration.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidStatistics implements EidStatisticsMXBean {
+
+    /**
+     * A name of MBean, that statistics are registered with.
+     */
+    public static final String OBJECT_NAME = "pl.wavesoftware.eid:type=EidStatistics";
+
+    private static final String NONE = "null";
+
+    private final ConfigurationSystem system;
+    private final MBeanServer server;
+    private final ObjectName name;
+    private final EidOccurrences occurrences = new EidOccurrences();
+    private final EidHeavyHitters heavyHitters = new EidHeavyHitters();
+    private final EidLatencies latencies = new EidLatencies();
+    private volatile boolean tracing;
+    @Nullable
+    private OccurrenceListener previous;
+    @Nullable
+    private OccurrenceListener installed;
+    @Nullable
+    private volatile Validator disabledValidator;
+
+    private EidStatistics(
+        ConfigurationSystem system, MBeanServer server, ObjectName name
+    ) {
+        this.system = system;
+        this.server = server;
+        this.name = name;
+    }
+
+    /**
+     * Registers statistics in platform MBean server.
+     *
+     * @return registered statistics
+     */
+    public static EidStatistics register() {
+        return register(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Registers statistics in given MBean server.
+     *
+     * @param server an MBean server
+     * @return registered statistics
+     */
+    public static EidStatistics register(MBeanServer server) {
+        ConfigurationSystem system = EidModule.MODULE
+            .getBinding()
+            .getConfigurationSystem();
+        EidStatistics statistics;
+        try {
+            statistics = new EidStatistics(
+                system, server, new ObjectName(OBJECT_NAME)
+            );
+            server.registerMBean(statistics, statistics.name);
+        } catch (JMException ex) {
+            throw new EidIllegalStateException(
+                "20261019:154018", "Can't register " + OBJECT_NAME, ex
+            );
+        }
+        statistics.install();
+        return statistics;
+    }
+
+    /**
+     * Unregisters statistics, and removes its occurrence listener, unless
+     * listener was reconfigured since.
+     */
+    public void unregister() {
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException ex) {
+            throw new EidIllegalStateException(
+                "20261019:154043", "Can't unregister " + OBJECT_NAME, ex
+            );
+        }
+        system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                ExtendedConfigurationBuilder builder = extend(configuration);
+                OccurrenceListener current = extend(
+                    configuration.getFutureConfiguration()
+                ).getOccurrenceListener();
+                if (current == installed) {
+                    builder.occurrenceListener(previous);
+                }
+                if (tracing && extend(configuration.getFutureConfiguration())
+                    .getTracer() == latencies) {
+                    builder.tracer(null);
+                }
+            }
+        });
+    }
+
+    @Override
+    public long getTotalOccurrences() {
+        return occurrences.snapshot().getTotal();
+    }
+
+    @Override
+    public Map<String, Long> getOccurrences() {
+        return occurrences.snapshot().getCounts();
+    }
+
+    @Override
+    public List<String> getTopIds() {
+        return asText(heavyHitters.getTopIds());
+    }
+
+    @Override
+    public List<String> getTopRefs() {
+        return asText(heavyHitters.getTopRefs());
+    }
+
+    @Override
+    public Map<String, String> getLatencies() {
+        Map<String, String> snapshots = new LinkedHashMap<String, String>();
+        if (tracing) {
+            for (Tracer.Activity activity : Tracer.Activity.values()) {
+                snapshots.put(
+                    activity.name(), latencies.snapshot(activity).toString()
+                );
+            }
+        }
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, String> getConfiguration() {
+        ExtendedConfiguration configuration = extend(system.getConfiguration());
+        Map<String, String> snapshot = new LinkedHashMap<String, String>();
+        snapshot.put("formatter", nameOf(configuration.getFormatter()));
+        snapshot.put("idGenerator", nameOf(configuration.getIdGenerator()));
+        snapshot.put("validator", nameOf(configuration.getValidator()));
+        snapshot.put("locale", String.valueOf(configuration.getLocale()));
+        TimeZone zone = configuration.getTimeZone();
+        snapshot.put("timeZone", zone == null ? NONE : zone.getID());
+        snapshot.put("serializedStackTraceDepth",
+            String.valueOf(configuration.getSerializedStackTraceDepth()));
+        snapshot.put("serializingCauses",
+            String.valueOf(configuration.isSerializingCauses()));
+        snapshot.put("serializingMessageTemplates",
+            String.valueOf(configuration.isSerializingMessageTemplates()));
+        snapshot.put("occurrenceListener",
+            nameOf(configuration.getOccurrenceListener()));
+        snapshot.put("tracer", nameOf(configuration.getTracer()));
+        return snapshot;
+    }
+
+    @Override
+    public int getSerializedStackTraceDepth() {
+        return extend(system.getConfiguration()).getSerializedStackTraceDepth();
+    }
+
+    @Override
+    public void setSerializedStackTraceDepth(final int depth) {
+        system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                extend(configuration).serializedStackTraceDepth(depth);
+            }
+        });
+    }
+
+    @Override
+    public boolean isSerializingCauses() {
+        return extend(system.getConfiguration()).isSerializingCauses();
+    }
+
+    @Override
+    public void setSerializingCauses(final boolean serialize) {
+        system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                extend(configuration).serializeCauses(serialize);
+            }
+        });
+    }
+
+    @Override
+    public boolean isSerializingMessageTemplates() {
+        return extend(system.getConfiguration()).isSerializingMessageTemplates();
+    }
+
+    @Override
+    public void setSerializingMessageTemplates(final boolean serialize) {
+        system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                extend(configuration).serializeMessageTemplates(serialize);
+            }
+        });
+    }
+
+    @Override
+    public boolean isValidating() {
+        return system.getConfiguration().getValidator() != null;
+    }
+
+    @Override
+    public void setValidating(final boolean validating) {
+        system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                Validator current = configuration
+                    .getFutureConfiguration()
+                    .getValidator();
+                if (!validating && current != null) {
+                    disabledValidator = current;
+                    configuration.validator(null);
+                }
+                if (validating && current == null) {
+                    configuration.validator(disabledValidator);
+                }
+            }
+        });
+    }
+
+    private void install() {
+        final OccurrenceListener own = OccurrenceListeners.compose(
+            occurrences, heavyHitters
+        );
+        system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                ExtendedConfigurationBuilder builder = extend(configuration);
+                ExtendedConfiguration future = extend(
+                    configuration.getFutureConfiguration()
+                );
+                previous = future.getOccurrenceListener();
+                installed = previous == null
+                    ? own
+                    : OccurrenceListeners.compose(previous, own);
+                builder.occurrenceListener(installed);
+                if (future.getTracer() == null) {
+                    tracing = true;
+                    builder.tracer(latencies);
+                }
+            }
+        });
+    }
+
+    private static List<String> asText(List<HeavyHitter> heavyHitters) {
+        List<String> text = new ArrayList<String>(heavyHitters.size());
+        for (HeavyHitter heavyHitter : heavyHitters) {
+            text.add(heavyHitter.toString());
+        }
+        return text;
+    }
+
+    private static String nameOf(@Nullable Object element) {
+        return element == null ? NONE : element.getClass().getName();
+    }
+}
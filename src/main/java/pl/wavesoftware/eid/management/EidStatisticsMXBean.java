@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.management;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A management interface of Eid library, published with JMX by
+ * {@link EidStatistics}.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public interface EidStatisticsMXBean {
+
+    /**
+     * Gets a number of Eid exceptions, since statistics were registered.
+     *
+     * @return a number of Eid exceptions
+     */
+    long getTotalOccurrences();
+
+    /**
+     * Gets numbers of Eid exceptions, for each Eid ID.
+     *
+     * @return a map of Eid ID to a number of exceptions
+     */
+    Map<String, Long> getOccurrences();
+
+    /**
+     * Gets the most frequent Eid IDs, with their approximate counts.
+     *
+     * @return a list of Eid IDs, as {@code id=count(-error)}
+     */
+    List<String> getTopIds();
+
+    /**
+     * Gets the most frequent Eid refs, with their approximate counts.
+     *
+     * @return a list of Eid refs, as {@code ref=count(-error)}
+     */
+    List<String> getTopRefs();
+
+    /**
+     * Gets histograms of durations of Eid activity, in nanoseconds, with
+     * their percentiles. They are recorded only, if there was no other
+     * tracer configured, when statistics were registered.
+     *
+     * @return a map of activity to its histogram, as text
+     */
+    Map<String, String> getLatencies();
+
+    /**
+     * Gets a snapshot of current configuration, as text.
+     *
+     * @return a map of configuration property to its value
+     */
+    Map<String, String> getConfiguration();
+
+    /**
+     * Gets a maximal depth of stack traces of serialized exceptions.
+     *
+     * @return a depth, or -1 if stack traces aren't truncated
+     */
+    int getSerializedStackTraceDepth();
+
+    /**
+     * Sets a maximal depth of stack traces of serialized exceptions.
+     *
+     * @param depth a depth, or -1 to not truncate stack traces
+     */
+    void setSerializedStackTraceDepth(int depth);
+
+    /**
+     * Checks if causes of exceptions are serialized.
+     *
+     * @return true, if causes are serialized
+     */
+    boolean isSerializingCauses();
+
+    /**
+     * Sets if causes of exceptions are serialized.
+     *
+     * @param serialize true, to serialize causes
+     */
+    void setSerializingCauses(boolean serialize);
+
+    /**
+     * Checks if message templates are serialized, instead of messages.
+     *
+     * @return true, if message templates are serialized
+     */
+    boolean isSerializingMessageTemplates();
+
+    /**
+     * Sets if message templates are serialized, instead of messages.
+     *
+     * @param serialize true, to serialize message templates
+     */
+    void setSerializingMessageTemplates(boolean serialize);
+
+    /**
+     * Checks if Eid IDs are validated.
+     *
+     * @return true, if a validator is configured
+     */
+    boolean isValidating();
+
+    /**
+     * Turns a validation of Eid IDs off, or back on, with a validator, that
+     * was configured before.
+     *
+     * @param validating true, to validate Eid IDs
+     */
+    void setValidating(boolean validating);
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import pl.wavesoftware.eid.api.EidContainer;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import javax.annotation.Nullable;
+import java.util.WeakHashMap;
+
+/**
+ * Computes 64 bit fingerprints of exceptions, to group failures with the
+ * same root cause. A fingerprint combines Eid ID, a class of exception,
+ * classes of its causes, and top frames of its stack trace: class, method
+ * and line number of each. Unique IDs and messages aren't included, so
+ * exceptions thrown by the same code, for the same reason, have the same
+ * fingerprint.
+ * <pre>
+ * long fingerprint = EidFingerprints.fingerprint(exception);
+ * </pre>
+ * Fingerprint is computed from cached hash codes of strings, without
+ * building any text, and it's memoized for each exception, so repeated
+ * calls for the same exception are a map lookup. Memoized values are
+ * dropped together with exceptions, as they are held weakly.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidFingerprints {
+
+    private static final int DEFAULT_FRAMES = 5;
+    private static final int MAX_CAUSES = 16;
+    private static final int STRIPES = 16;
+    private static final long SEED = 0x45494446L;
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final long MIX_FIRST = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_SECOND = 0x94D049BB133111EBL;
+    private static final int SHIFT_FIRST = 30;
+    private static final int SHIFT_SECOND = 27;
+    private static final int SHIFT_THIRD = 31;
+    private static final int NULL_HASH = 0x6E756C6C;
+    private static final EidFingerprints DEFAULT = new EidFingerprints(DEFAULT_FRAMES);
+
+    private final int frames;
+    private final Stripe[] memoized = new Stripe[STRIPES];
+
+    /**
+     * Creates fingerprints, that include given number of top stack frames.
+     *
+     * @param frames a number of top stack frames, can be zero
+     */
+    public EidFingerprints(int frames) {
+        if (frames < 0) {
+            throw new EidIllegalArgumentException(
+                "20261019:155803", "Frames can't be negative, but was " + frames
+            );
+        }
+        this.frames = frames;
+        for (int i = 0; i < STRIPES; i++) {
+            memoized[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Gets a fingerprint of exception, with 5 top stack frames.
+     *
+     * @param exception an exception
+     * @return a fingerprint
+     */
+    public static long fingerprint(Throwable exception) {
+        return DEFAULT.of(exception);
+    }
+
+    /**
+     * Gets a fingerprint of exception.
+     *
+     * @param exception an exception
+     * @return a fingerprint
+     */
+    public long of(Throwable exception) {
+        Stripe stripe = memoized[System.identityHashCode(exception) & (STRIPES - 1)];
+        synchronized (stripe) {
+            Long known = stripe.get(exception);
+            if (known != null) {
+                return known;
+            }
+        }
+        long computed = compute(exception);
+        synchronized (stripe) {
+            stripe.put(exception, computed);
+        }
+        return computed;
+    }
+
+    private long compute(Throwable exception) {
+        long hash = SEED;
+        if (exception instanceof EidContainer) {
+            hash = combine(hash, ((EidContainer) exception).getEid().getId());
+        } else {
+            hash = combine(hash, NULL_HASH);
+        }
+        hash = combine(hash, exception.getClass().getName());
+        Throwable cause = exception.getCause();
+        for (int i = 0; cause != null && cause != exception && i < MAX_CAUSES; i++) {
+            hash = combine(hash, cause.getClass().getName());
+            cause = cause.getCause();
+        }
+        StackTraceElement[] stackTrace = exception.getStackTrace();
+        for (int i = 0; i < Math.min(frames, stackTrace.length); i++) {
+            StackTraceElement frame = stackTrace[i];
+            hash = combine(hash, frame.getClassName());
+            hash = combine(hash, frame.getMethodName());
+            hash = combine(hash, frame.getLineNumber());
+        }
+        return mix(hash);
+    }
+
+    private static long combine(long hash, @Nullable String value) {
+        return combine(hash, value == null ? NULL_HASH : value.hashCode());
+    }
+
+    private static long combine(long hash, int value) {
+        return (hash ^ (value & 0xFFFFFFFFL)) * MULTIPLIER;
+    }
+
+    /**
+     * A finalizer of SplitMix64, that spreads bits of a hash.
+     */
+    private static long mix(long hash) {
+        long result = (hash ^ (hash >>> SHIFT_FIRST)) * MIX_FIRST;
+        result = (result ^ (result >>> SHIFT_SECOND)) * MIX_SECOND;
+        return result ^ (result >>> SHIFT_THIRD);
+    }
+
+    /**
+     * Memoized fingerprints of a part of exceptions, chosen by identity hash,
+     * so threads rarely wait for each other.
+     */
+    private static final class Stripe extends WeakHashMap<Throwable, Long> {
+    }
+}
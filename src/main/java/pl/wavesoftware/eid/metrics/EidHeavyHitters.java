@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import java.util.List;
+
+/**
+ * Tracks top K most frequent Eid IDs and refs, in a fixed amount of memory,
+ * no matter how many distinct values there are. It's useful when refs are
+ * built dynamically, and counting each of them, like {@link EidOccurrences}
+ * does, would use unbounded memory.
+ * <p>
+ * Counts are approximate. They come from a Count-Min Sketch, so they are
+ * never lower than true counts, and they are higher by at most
+ * {@code epsilon * total} with probability of {@code 1 - delta}. Updates are
+ * lock free. It's fed with Eid exceptions, when it's configured as an
+ * occurrence listener.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @see OccurrenceListeners#compose(OccurrenceListener...)
+ * @since 2.1.0
+ */
+public final class EidHeavyHitters implements OccurrenceListener {
+
+    private static final int DEFAULT_K = 10;
+    private static final double DEFAULT_EPSILON = 0.01d;
+    private static final double DEFAULT_DELTA = 0.01d;
+    private static final int MAX_WIDTH = 1 << 24;
+
+    private final TopKSketch ids;
+    private final TopKSketch refs;
+
+    /**
+     * Creates a tracker of top 10 Eid IDs and refs, with error of 1% of
+     * total count with 99% probability. It uses about 40 KiB of memory.
+     */
+    public EidHeavyHitters() {
+        this(DEFAULT_K, DEFAULT_EPSILON, DEFAULT_DELTA);
+    }
+
+    /**
+     * Creates a tracker of top K Eid IDs and refs.
+     *
+     * @param k       a number of top IDs and refs to track
+     * @param epsilon a maximum error, as a fraction of total count, for ex.:
+     *                0.001
+     * @param delta   a probability, that error exceeds epsilon, for ex.:
+     *                0.01
+     */
+    public EidHeavyHitters(int k, double epsilon, double delta) {
+        if (k < 1 || epsilon <= 0d || epsilon >= 1d || delta <= 0d || delta >= 1d) {
+            throw new EidIllegalArgumentException(
+                "20261019:143841",
+                "Invalid heavy hitters parameters: k = " + k
+                    + ", epsilon = " + epsilon + ", delta = " + delta
+            );
+        }
+        int width = widthOf(epsilon);
+        int depth = (int) Math.ceil(Math.log(1d / delta));
+        this.ids = new TopKSketch(k, width, depth);
+        this.refs = new TopKSketch(k, width, depth);
+    }
+
+    @Override
+    public void onOccurrence(Eid eid, Throwable exception) {
+        ids.add(eid.getId());
+        String ref = eid.getRef();
+        if (ref != null) {
+            refs.add(ref);
+        }
+    }
+
+    /**
+     * Gets top K most frequent Eid IDs.
+     *
+     * @return a list of Eid IDs, with most frequent first
+     */
+    public List<HeavyHitter> getTopIds() {
+        return ids.top();
+    }
+
+    /**
+     * Gets top K most frequent Eid refs.
+     *
+     * @return a list of Eid refs, with most frequent first
+     */
+    public List<HeavyHitter> getTopRefs() {
+        return refs.top();
+    }
+
+    /**
+     * Estimates a count of given Eid ID, even if it's not in top K.
+     *
+     * @param id an Eid ID
+     * @return an estimated count
+     */
+    public HeavyHitter estimateId(String id) {
+        return new HeavyHitter(id, ids.estimate(id), ids.getError());
+    }
+
+    /**
+     * Estimates a count of given Eid ref, even if it's not in top K.
+     *
+     * @param ref an Eid ref
+     * @return an estimated count
+     */
+    public HeavyHitter estimateRef(String ref) {
+        return new HeavyHitter(ref, refs.estimate(ref), refs.getError());
+    }
+
+    /**
+     * Gets a total count of tracked Eid occurrences.
+     *
+     * @return a total count
+     */
+    public long getTotal() {
+        return ids.getTotal();
+    }
+
+    private static int widthOf(double epsilon) {
+        int width = (int) Math.min(MAX_WIDTH, Math.ceil(Math.E / epsilon));
+        int highest = Integer.highestOneBit(width);
+        return highest == width ? width : highest << 1;
+    }
+}
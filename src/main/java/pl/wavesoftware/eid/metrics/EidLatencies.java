@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.Tracer;
+
+/**
+ * A tracer, that records durations of Eid activity in histograms, one for
+ * each {@link Tracer.Activity}. Use it to find out how long formatting of Eid
+ * numbers and rendering of messages take, up to high percentiles.
+ * <pre>
+ * EidLatencies latencies = new EidLatencies();
+ * // in Configurator
+ * ((ExtendedConfigurationBuilder) configuration).tracer(latencies);
+ * // [..]
+ * long p999 = latencies.snapshot(Tracer.Activity.MESSAGE)
+ *     .getValueAtPercentile(99.9);
+ * </pre>
+ * Each thread records to its own histogram, without locks, and histograms
+ * are merged by {@link #snapshot(Tracer.Activity)}.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidLatencies implements Tracer {
+
+    private static final Activity[] ACTIVITIES = Activity.values();
+
+    private final LatencyHistogram[] histograms =
+        new LatencyHistogram[ACTIVITIES.length];
+
+    /**
+     * Creates a tracer with empty histograms.
+     */
+    public EidLatencies() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void trace(Activity activity, Eid eid, long nanos) {
+        histograms[activity.ordinal()].record(nanos);
+    }
+
+    /**
+     * Takes a snapshot of durations of given activity, without blocking
+     * threads, that record them.
+     *
+     * @param activity a kind of activity
+     * @return a snapshot of histogram
+     */
+    public HistogramSnapshot snapshot(Activity activity) {
+        return histograms[activity.ordinal()].snapshot();
+    }
+}
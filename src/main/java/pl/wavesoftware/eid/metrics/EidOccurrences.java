@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A registry of occurrence counters, keyed by Eid ID. It counts Eid
+ * exceptions, when it's configured as an occurrence listener:
+ * <pre>
+ * public final class MetricsConfigurator implements Configurator {
+ *     public static final EidOccurrences OCCURRENCES = new EidOccurrences();
+ *
+ *     &#64;Override
+ *     public void configure(ConfigurationBuilder configuration) {
+ *         ((ExtendedConfigurationBuilder) configuration)
+ *             .occurrenceListener(OCCURRENCES);
+ *     }
+ * }
+ * </pre>
+ * Each Eid ID has its own striped counter, so concurrent increments from
+ * many threads don't contend on a single memory location. Counters are
+ * created once per Eid ID, and never removed. Eid IDs are static numbers
+ * written by developers, so there is a limited number of them.
+ * <p>
+ * Registry is lock free and thread safe. Taking a snapshot doesn't block
+ * writers.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidOccurrences implements OccurrenceListener {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final ConcurrentMap<String, StripedCounter> counters =
+        new ConcurrentHashMap<String, StripedCounter>();
+    private final int stripes;
+
+    /**
+     * Creates a registry with a number of stripes matching a number of
+     * available processors.
+     */
+    public EidOccurrences() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a registry with a given number of stripes per counter. It's
+     * rounded up to a power of two, and capped at 64.
+     *
+     * @param stripes a number of stripes per counter, at least 1
+     */
+    public EidOccurrences(int stripes) {
+        if (stripes < 1) {
+            throw new EidIllegalArgumentException(
+                "20261019:142417",
+                "Number of stripes must be positive, but was " + stripes
+            );
+        }
+        this.stripes = ceilingPowerOfTwo(Math.min(MAX_STRIPES, stripes));
+    }
+
+    @Override
+    public void onOccurrence(Eid eid, Throwable exception) {
+        record(eid.getId());
+    }
+
+    /**
+     * Records a single occurrence of given Eid ID.
+     *
+     * @param id an Eid ID
+     */
+    public void record(String id) {
+        StripedCounter counter = counters.get(id);
+        if (counter == null) {
+            counter = createCounter(id);
+        }
+        counter.increment();
+    }
+
+    /**
+     * Gets a current count of occurrences of given Eid ID.
+     *
+     * @param id an Eid ID
+     * @return a count of occurrences, zero if Eid didn't occur
+     */
+    public long getCount(String id) {
+        StripedCounter counter = counters.get(id);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    /**
+     * Takes a snapshot of all counters, without blocking writers.
+     *
+     * @return a snapshot of counters
+     */
+    public OccurrencesSnapshot snapshot() {
+        SortedMap<String, Long> counts = new TreeMap<String, Long>();
+        for (Map.Entry<String, StripedCounter> entry : counters.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return new OccurrencesSnapshot(counts);
+    }
+
+    private StripedCounter createCounter(String id) {
+        StripedCounter created = new StripedCounter(stripes);
+        StripedCounter existing = counters.putIfAbsent(id, created);
+        return existing == null ? created : existing;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return highest == value ? value : highest << 1;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed size ring buffer of recent Eid exception occurrences, to be dumped
+ * for post-mortem analysis of an incident. It records Eid ID, ref, unique
+ * ID, thread ID, timestamp and exception class of each occurrence, when it's
+ * configured as an occurrence listener.
+ * <p>
+ * Arrays of the buffer are preallocated, and recording doesn't allocate any
+ * objects. Strings are stored as references to immutable strings, that an
+ * Eid and a class already hold. Many threads can record at once, without
+ * locks: each claims a sequence number from an atomic cursor, and guards its
+ * slot with a sequence lock. Readers skip slots, that are being written or
+ * were overwritten while read, so a snapshot holds only consistent
+ * occurrences. If a slot is still being written by a thread, a whole buffer
+ * length behind, new occurrence for that slot is dropped.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidRecentOccurrences implements OccurrenceListener {
+
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+    /**
+     * Sequence lock of each slot: odd while a sequence number is being
+     * written, and even, equal to {@code 2 * (sequence + 1)}, when it's done.
+     */
+    private final AtomicLongArray locks;
+    private final AtomicLongArray timestamps;
+    private final AtomicLongArray threadIds;
+    private final AtomicReferenceArray<String> ids;
+    private final AtomicReferenceArray<String> refs;
+    private final AtomicReferenceArray<String> uniques;
+    private final AtomicReferenceArray<String> exceptionClasses;
+
+    /**
+     * Creates a buffer of at least 10 000 recent occurrences.
+     */
+    public EidRecentOccurrences() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a buffer of given number of recent occurrences. It's rounded up
+     * to a power of two, so a slot of occurrence is calculated with a bit
+     * mask.
+     *
+     * @param capacity a minimum number of occurrences to keep
+     */
+    public EidRecentOccurrences(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new EidIllegalArgumentException(
+                "20261019:145125",
+                "Capacity must be in [1, " + MAX_CAPACITY + "], but was "
+                    + capacity
+            );
+        }
+        int highest = Integer.highestOneBit(capacity);
+        this.capacity = highest == capacity ? capacity : highest << 1;
+        this.mask = this.capacity - 1;
+        this.locks = new AtomicLongArray(this.capacity);
+        this.timestamps = new AtomicLongArray(this.capacity);
+        this.threadIds = new AtomicLongArray(this.capacity);
+        this.ids = new AtomicReferenceArray<String>(this.capacity);
+        this.refs = new AtomicReferenceArray<String>(this.capacity);
+        this.uniques = new AtomicReferenceArray<String>(this.capacity);
+        this.exceptionClasses = new AtomicReferenceArray<String>(this.capacity);
+    }
+
+    @Override
+    public void onOccurrence(Eid eid, Throwable exception) {
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) sequence & mask;
+        if (!lock(slot, sequence)) {
+            return;
+        }
+        // lazy sets are ordered after the lock, and before the unlock
+        timestamps.lazySet(slot, System.currentTimeMillis());
+        threadIds.lazySet(slot, Thread.currentThread().getId());
+        ids.lazySet(slot, eid.getId());
+        refs.lazySet(slot, eid.getRef());
+        uniques.lazySet(slot, eid.getUnique());
+        exceptionClasses.lazySet(slot, exception.getClass().getName());
+        locks.lazySet(slot, written(sequence));
+    }
+
+    /**
+     * Takes a snapshot of recent occurrences, without blocking writers.
+     *
+     * @return a list of occurrences, oldest first
+     */
+    public List<RecentOccurrence> snapshot() {
+        long end = cursor.get();
+        long start = Math.max(0L, end - capacity);
+        List<RecentOccurrence> occurrences =
+            new ArrayList<RecentOccurrence>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            RecentOccurrence occurrence = read(sequence);
+            if (occurrence != null) {
+                occurrences.add(occurrence);
+            }
+        }
+        return Collections.unmodifiableList(occurrences);
+    }
+
+    /**
+     * Dumps recent occurrences as text, one in a line, oldest first.
+     *
+     * @param output an output to write to
+     * @throws IOException if output can't be written
+     */
+    public void dump(Appendable output) throws IOException {
+        for (RecentOccurrence occurrence : snapshot()) {
+            output.append(occurrence.toString()).append(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Gets a number of occurrences recorded since creation of this buffer,
+     * including those, that were already overwritten.
+     *
+     * @return a number of all occurrences
+     */
+    public long getTotal() {
+        return cursor.get();
+    }
+
+    private boolean lock(int slot, long sequence) {
+        long writing = written(sequence) - 1;
+        while (true) {
+            long current = locks.get(slot);
+            if ((current & 1L) != 0L || current > writing) {
+                // a slower writer still holds it, or a newer one took it
+                return false;
+            }
+            if (locks.compareAndSet(slot, current, writing)) {
+                return true;
+            }
+        }
+    }
+
+    @Nullable
+    private RecentOccurrence read(long sequence) {
+        int slot = (int) sequence & mask;
+        long expected = written(sequence);
+        if (locks.get(slot) != expected) {
+            return null;
+        }
+        RecentOccurrence occurrence = new RecentOccurrence(
+            sequence,
+            timestamps.get(slot),
+            threadIds.get(slot),
+            ids.get(slot),
+            refs.get(slot),
+            uniques.get(slot),
+            exceptionClasses.get(slot)
+        );
+        if (locks.get(slot) != expected) {
+            return null;
+        }
+        return occurrence;
+    }
+
+    private static long written(long sequence) {
+        return 2L * (sequence + 1L);
+    }
+}
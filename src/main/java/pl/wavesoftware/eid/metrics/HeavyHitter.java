@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+/**
+ * An approximate count of occurrences of a key, an Eid ID or a ref, tracked
+ * by {@link EidHeavyHitters}. The count is never lower than the true count,
+ * and, with high probability, it's higher by at most an error.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class HeavyHitter {
+
+    private final String key;
+    private final long count;
+    private final long error;
+
+    HeavyHitter(String key, long count, long error) {
+        this.key = key;
+        this.count = count;
+        this.error = error;
+    }
+
+    /**
+     * Gets a key, an Eid ID or a ref.
+     *
+     * @return a key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets an estimated count of occurrences. It's an upper bound of the
+     * true count.
+     *
+     * @return an estimated count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets a maximum overestimation of the count, with high probability.
+     *
+     * @return an error of the count
+     */
+    public long getError() {
+        return error;
+    }
+
+    /**
+     * Gets a lower bound of the true count.
+     *
+     * @return a lower bound of the count
+     */
+    public long getMinimumCount() {
+        return Math.max(0L, count - error);
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + count + "(-" + error + ")";
+    }
+}
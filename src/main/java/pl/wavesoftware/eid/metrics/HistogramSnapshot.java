@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+/**
+ * An immutable snapshot of a histogram of durations, in nanoseconds. Buckets
+ * of threads are read one by one, while they are still being written, so a
+ * snapshot isn't an atomic view of all of them.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class HistogramSnapshot {
+
+    private static final double HUNDRED = 100d;
+
+    private final long[] buckets;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] buckets, long count, long sum, long max) {
+        this.buckets = buckets;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Gets a number of recorded durations.
+     *
+     * @return a number of durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return a duration in nanoseconds, or zero if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets a mean of recorded durations.
+     *
+     * @return a mean in nanoseconds, or zero if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0L ? 0d : (double) sum / count;
+    }
+
+    /**
+     * Gets a duration, that given percentage of recorded durations doesn't
+     * exceed. It's precise up to about 3%, and never higher than
+     * {@link #getMax()}.
+     *
+     * @param percentile a percentile, from 0 to 100, like 99.9
+     * @return a duration in nanoseconds, or zero if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0d || percentile > HUNDRED) {
+            throw new EidIllegalArgumentException(
+                "20261019:154711",
+                "Percentile must be in [0, 100], but was " + percentile
+            );
+        }
+        long total = 0L;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / HUNDRED * total));
+        long seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValue(i), max);
+            }
+        }
+        return 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{count=" + count
+            + ", mean=" + Math.round(getMean())
+            + ", p50=" + getValueAtPercentile(50d)
+            + ", p90=" + getValueAtPercentile(90d)
+            + ", p99=" + getValueAtPercentile(99d)
+            + ", p999=" + getValueAtPercentile(99.9d)
+            + ", max=" + max + "}";
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations, in log-linear buckets, like HdrHistogram. Each
+ * power of two range of values is split into 32 linear buckets, so a value
+ * is recorded with a relative error of at most about 3%. Values up to
+ * {@value #MAX_VALUE} nanoseconds, that's more than a minute, are recorded,
+ * and bigger ones are counted as that maximum.
+ * <p>
+ * Each thread records to its own bucket array, without locks and without
+ * contention. Arrays are merged on read. Arrays of threads, that are gone,
+ * are folded into a single retired array on read, so their values aren't
+ * lost, and memory isn't leaked when threads come and go.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class LatencyHistogram {
+
+    static final long MAX_VALUE = (1L << 36) - 1;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LONG_BITS = 64;
+    static final int BUCKETS = index(MAX_VALUE) + 1;
+    private static final int COUNT = BUCKETS;
+    private static final int SUM = BUCKETS + 1;
+    private static final int MAX = BUCKETS + 2;
+
+    private final List<Recorder> recorders =
+        new CopyOnWriteArrayList<Recorder>();
+    private final long[] retired = new long[MAX + 1];
+    private final ThreadLocal<AtomicLongArray> recorder =
+        new ThreadLocal<AtomicLongArray>() {
+            @Override
+            protected AtomicLongArray initialValue() {
+                Recorder created = new Recorder(Thread.currentThread());
+                recorders.add(created);
+                return created.buckets;
+            }
+        };
+
+    /**
+     * Records a value. Only an owner thread writes to its array, so plain
+     * reads and ordered writes are enough, without atomic increments.
+     */
+    void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        AtomicLongArray buckets = recorder.get();
+        int index = index(value);
+        buckets.lazySet(index, buckets.get(index) + 1);
+        buckets.lazySet(SUM, buckets.get(SUM) + value);
+        if (value > buckets.get(MAX)) {
+            buckets.lazySet(MAX, value);
+        }
+        buckets.lazySet(COUNT, buckets.get(COUNT) + 1);
+    }
+
+    HistogramSnapshot snapshot() {
+        synchronized (retired) {
+            retire();
+            long[] merged = new long[BUCKETS];
+            System.arraycopy(retired, 0, merged, 0, BUCKETS);
+            long count = retired[COUNT];
+            long sum = retired[SUM];
+            long max = retired[MAX];
+            for (Recorder recorder : recorders) {
+                AtomicLongArray buckets = recorder.buckets;
+                count += buckets.get(COUNT);
+                for (int i = 0; i < BUCKETS; i++) {
+                    merged[i] += buckets.get(i);
+                }
+                sum += buckets.get(SUM);
+                max = Math.max(max, buckets.get(MAX));
+            }
+            return new HistogramSnapshot(merged, count, sum, max);
+        }
+    }
+
+    int getRecordersCount() {
+        return recorders.size();
+    }
+
+    /**
+     * Folds arrays of terminated threads into retired array. Termination of
+     * a thread happens before its death is seen, so all of its writes are
+     * visible here.
+     */
+    private void retire() {
+        for (Recorder recorder : recorders) {
+            if (recorder.isRetired()) {
+                AtomicLongArray buckets = recorder.buckets;
+                for (int i = 0; i < MAX; i++) {
+                    retired[i] += buckets.get(i);
+                }
+                retired[MAX] = Math.max(retired[MAX], buckets.get(MAX));
+                recorders.remove(recorder);
+            }
+        }
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = LONG_BITS - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value, that is recorded in a bucket of given index.
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static final class Recorder {
+        private final WeakReference<Thread> owner;
+        private final AtomicLongArray buckets = new AtomicLongArray(MAX + 1);
+
+        private Recorder(Thread owner) {
+            this.owner = new WeakReference<Thread>(owner);
+        }
+
+        private boolean isRetired() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+    }
+}
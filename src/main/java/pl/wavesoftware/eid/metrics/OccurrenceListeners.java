@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+
+/**
+ * Utilities for occurrence listeners.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class OccurrenceListeners {
+
+    private OccurrenceListeners() {
+        // nothing here
+    }
+
+    /**
+     * Composes a number of listeners into one, that notifies each of them,
+     * in given order. Only one listener can be configured, so use it to
+     * configure many of them.
+     *
+     * @param listeners a listeners to compose
+     * @return a composite listener
+     */
+    public static OccurrenceListener compose(OccurrenceListener... listeners) {
+        if (listeners.length == 1) {
+            return listeners[0];
+        }
+        return new Composite(listeners.clone());
+    }
+
+    private static final class Composite implements OccurrenceListener {
+        private final OccurrenceListener[] listeners;
+
+        private Composite(OccurrenceListener[] listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void onOccurrence(Eid eid, Throwable exception) {
+            for (OccurrenceListener listener : listeners) {
+                listener.onOccurrence(eid, exception);
+            }
+        }
+    }
+}
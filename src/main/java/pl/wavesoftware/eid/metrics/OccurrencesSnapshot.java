@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * An immutable snapshot of Eid occurrence counts, taken by
+ * {@link EidOccurrences#snapshot()}. Counters are read one by one, while
+ * they are still being incremented, so a snapshot isn't an atomic view of
+ * all of them.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class OccurrencesSnapshot {
+
+    private final SortedMap<String, Long> counts;
+    private final long total;
+
+    OccurrencesSnapshot(SortedMap<String, Long> counts) {
+        this.counts = Collections.unmodifiableSortedMap(counts);
+        long sum = 0L;
+        for (Long count : counts.values()) {
+            sum += count;
+        }
+        this.total = sum;
+    }
+
+    /**
+     * Gets counts of occurrences keyed by Eid ID.
+     *
+     * @return an unmodifiable map of counts, sorted by Eid ID
+     */
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    /**
+     * Gets a count of occurrences of given Eid ID.
+     *
+     * @param id an Eid ID
+     * @return a count of occurrences, zero if Eid didn't occur
+     */
+    public long getCount(String id) {
+        Long count = counts.get(id);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * Gets a total count of occurrences of all Eid numbers.
+     *
+     * @return a total count of occurrences
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "OccurrencesSnapshot{total=" + total + ", counts=" + counts + "}";
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import javax.annotation.Nullable;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * A single occurrence of Eid exception, read from
+ * {@link EidRecentOccurrences}.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class RecentOccurrence {
+
+    private static final String TIMESTAMP_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+    private final long sequence;
+    private final long timestamp;
+    private final long threadId;
+    private final String id;
+    @Nullable
+    private final String ref;
+    private final String unique;
+    private final String exceptionClass;
+
+    RecentOccurrence(
+        long sequence,
+        long timestamp,
+        long threadId,
+        String id,
+        @Nullable String ref,
+        String unique,
+        String exceptionClass
+    ) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.threadId = threadId;
+        this.id = id;
+        this.ref = ref;
+        this.unique = unique;
+        this.exceptionClass = exceptionClass;
+    }
+
+    /**
+     * Gets a sequence number of occurrence, counted from creation of a
+     * buffer. Gaps in sequence numbers mean that occurrences were dropped.
+     *
+     * @return a sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets a time of occurrence.
+     *
+     * @return a time in milliseconds since epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets an ID of thread, that created an exception.
+     *
+     * @return a thread ID
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * Gets an Eid ID.
+     *
+     * @return an Eid ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets an Eid ref, if set.
+     *
+     * @return an Eid ref, or null
+     */
+    @Nullable
+    public String getRef() {
+        return ref;
+    }
+
+    /**
+     * Gets an unique ID of Eid.
+     *
+     * @return an unique ID
+     */
+    public String getUnique() {
+        return unique;
+    }
+
+    /**
+     * Gets a class name of exception.
+     *
+     * @return a class name
+     */
+    public String getExceptionClass() {
+        return exceptionClass;
+    }
+
+    @Override
+    public String toString() {
+        SimpleDateFormat format = new SimpleDateFormat(TIMESTAMP_FORMAT);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return "#" + sequence + " " + format.format(new Date(timestamp))
+            + " [thread-" + threadId + "] " + exceptionClass + " [" + id
+            + (ref == null ? "" : "|" + ref) + "]<" + unique + ">";
+    }
+}
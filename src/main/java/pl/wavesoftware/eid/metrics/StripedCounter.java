@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter, that spreads increments of different threads over a number of
+ * cells, like {@code LongAdder} of Java 8. Cells are placed a cache line
+ * apart, so threads don't invalidate each other's caches. A cell is chosen by
+ * a hash of thread ID. Sum is calculated on read, without blocking writers.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class StripedCounter {
+
+    /**
+     * A number of longs in a 64 bytes cache line.
+     */
+    private static final int PADDING = 8;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int HALF_LONG = 32;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    /**
+     * Creates a counter.
+     *
+     * @param stripes a number of stripes, must be a power of two
+     */
+    StripedCounter(int stripes) {
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        this.mask = stripes - 1;
+    }
+
+    void increment() {
+        cells.getAndIncrement(index(Thread.currentThread().getId()));
+    }
+
+    long sum() {
+        long sum = 0L;
+        for (int i = 0; i < cells.length(); i += PADDING) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+
+    private int index(long threadId) {
+        int hash = (int) ((threadId * GOLDEN_RATIO) >>> HALF_LONG);
+        return (hash & mask) * PADDING;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tracks top K most frequent keys in a fixed amount of memory. Counts are
+ * kept in a Count-Min Sketch: a number of rows of counters, each indexed by a
+ * differently seeded hash of chars of a key. A count of a key is a minimum of its counters, so
+ * it's never underestimated, and it's overestimated by more than
+ * {@code e / width * total} with probability of {@code exp(-depth)} only.
+ * <p>
+ * Candidates for top K are kept in K slots. A key replaces the least frequent
+ * candidate, when its estimated count is greater. Updates use only atomic
+ * operations. The slots are updated with compare-and-set, so under
+ * contention a candidate might be missed until its next occurrence.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class TopKSketch {
+
+    private static final long MURMUR_MULTIPLIER_1 = 0xff51afd7ed558ccdL;
+    private static final long MURMUR_MULTIPLIER_2 = 0xc4ceb9fe1a85ec53L;
+    private static final long ROW_SEED = 0x9E3779B97F4A7C15L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int HALF_LONG = 32;
+    private static final int MURMUR_SHIFT = 33;
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+    private final AtomicReferenceArray<String> candidates;
+    private final AtomicLong total = new AtomicLong();
+    private volatile long threshold;
+
+    /**
+     * Creates a sketch.
+     *
+     * @param k     a number of top keys to track
+     * @param width a width of a row, must be a power of two
+     * @param depth a number of rows
+     */
+    TopKSketch(int k, int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(width * depth);
+        this.candidates = new AtomicReferenceArray<String>(k);
+    }
+
+    void add(String key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(
+                estimate, counters.incrementAndGet(index(key, row))
+            );
+        }
+        total.incrementAndGet();
+        if (estimate > threshold) {
+            offer(key, estimate);
+        }
+    }
+
+    long estimate(String key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(key, row)));
+        }
+        return estimate;
+    }
+
+    long getTotal() {
+        return total.get();
+    }
+
+    /**
+     * Gets a maximum overestimation of counts, that holds with probability
+     * of {@code 1 - exp(-depth)}.
+     */
+    long getError() {
+        return (long) Math.ceil(Math.E / width * total.get());
+    }
+
+    List<HeavyHitter> top() {
+        long error = getError();
+        Set<String> keys = new HashSet<String>();
+        List<HeavyHitter> top = new ArrayList<HeavyHitter>(candidates.length());
+        for (int i = 0; i < candidates.length(); i++) {
+            String key = candidates.get(i);
+            // a racing update could have put the same key in two slots
+            if (key != null && keys.add(key)) {
+                top.add(new HeavyHitter(key, estimate(key), error));
+            }
+        }
+        Collections.sort(top, ByCountDescending.INSTANCE);
+        return top;
+    }
+
+    private void offer(String key, long estimate) {
+        if (isCandidate(key)) {
+            return;
+        }
+        int weakest = -1;
+        String weakestKey = null;
+        long weakestEstimate = Long.MAX_VALUE;
+        for (int i = 0; i < candidates.length(); i++) {
+            String candidate = candidates.get(i);
+            if (candidate == null) {
+                if (candidates.compareAndSet(i, null, key)) {
+                    return;
+                }
+                candidate = candidates.get(i);
+            }
+            long candidateEstimate = estimate(candidate);
+            if (candidateEstimate < weakestEstimate) {
+                weakest = i;
+                weakestKey = candidate;
+                weakestEstimate = candidateEstimate;
+            }
+        }
+        // counts only grow, so a key can't enter until it beats the weakest
+        threshold = weakestEstimate;
+        if (estimate > weakestEstimate) {
+            candidates.compareAndSet(weakest, weakestKey, key);
+        }
+    }
+
+    /**
+     * Checks slots for a key. Eid IDs are usually string constants, so the
+     * identity check is enough most of the time.
+     */
+    private boolean isCandidate(String key) {
+        for (int i = 0; i < candidates.length(); i++) {
+            String candidate = candidates.get(i);
+            if (candidate == key || key.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int index(String key, int row) {
+        long rowHash = hash(key, (row + 1) * ROW_SEED);
+        return row * width + ((int) (rowHash ^ (rowHash >>> HALF_LONG)) & (width - 1));
+    }
+
+    /**
+     * Calculates a seeded 64-bit FNV-1a hash of chars of a key. Each row uses
+     * a different seed, so keys with equal {@link String#hashCode()} don't
+     * collide in all rows.
+     */
+    private static long hash(String key, long seed) {
+        long hash = FNV_OFFSET_BASIS ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> MURMUR_SHIFT;
+        hash *= MURMUR_MULTIPLIER_1;
+        hash ^= hash >>> MURMUR_SHIFT;
+        hash *= MURMUR_MULTIPLIER_2;
+        hash ^= hash >>> MURMUR_SHIFT;
+        return hash;
+    }
+
+    private enum ByCountDescending implements Comparator<HeavyHitter> {
+        INSTANCE;
+
+        @Override
+        public int compare(HeavyHitter first, HeavyHitter second) {
+            if (first.getCount() == second.getCount()) {
+                return first.getKey().compareTo(second.getKey());
+            }
+            return first.getCount() > second.getCount() ? -1 : 1;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.system;
+
+import pl.wavesoftware.eid.api.Configuration;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.Formatter;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.api.Tracer;
+import pl.wavesoftware.eid.api.UniqueIdGenerator;
+import pl.wavesoftware.eid.api.Validator;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import javax.annotation.Nullable;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Gives access to settings of {@link ExtendedConfiguration}, also for
+ * configurations that don't implement it, for ex.: ones provided by a custom
+ * binding written for an earlier release. Those get default settings, and
+ * their builders can't change them.
+ * <p>
+ * <strong>Caution!</strong> This class is used internally by the library,
+ * and it isn't a part of public API.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class ExtendedConfigurations {
+
+    private ExtendedConfigurations() {
+        // nothing here
+    }
+
+    /**
+     * Gets a configuration, that is current for this thread.
+     *
+     * @return a current configuration
+     */
+    public static ExtendedConfiguration current() {
+        return extend(
+            EidModule.MODULE
+                .getBinding()
+                .getConfigurationSystem()
+                .getConfiguration()
+        );
+    }
+
+    /**
+     * Gets given configuration as extended one.
+     *
+     * @param configuration a configuration
+     * @return given configuration, if it's extended already, or a view of it
+     * with default extended settings
+     */
+    public static ExtendedConfiguration extend(Configuration configuration) {
+        if (configuration instanceof ExtendedConfiguration) {
+            return (ExtendedConfiguration) configuration;
+        }
+        return new DefaultExtension(configuration);
+    }
+
+    /**
+     * Gets given configuration builder as extended one.
+     *
+     * @param builder a configuration builder
+     * @return given builder
+     * @throws EidIllegalStateException if given builder doesn't support
+     *                                  extended settings
+     */
+    public static ExtendedConfigurationBuilder extend(ConfigurationBuilder builder) {
+        if (builder instanceof ExtendedConfigurationBuilder) {
+            return (ExtendedConfigurationBuilder) builder;
+        }
+        throw new EidIllegalStateException(
+            "20261019:161651",
+            "Configuration builder " + builder.getClass().getName()
+                + " does not support settings of release 2.1.0"
+        );
+    }
+
+    private static final class DefaultExtension implements ExtendedConfiguration {
+        private final Configuration configuration;
+
+        DefaultExtension(Configuration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        public Formatter getFormatter() {
+            return configuration.getFormatter();
+        }
+
+        @Override
+        public UniqueIdGenerator getIdGenerator() {
+            return configuration.getIdGenerator();
+        }
+
+        @Nullable
+        @Override
+        public Validator getValidator() {
+            return configuration.getValidator();
+        }
+
+        @Nullable
+        @Override
+        public Locale getLocale() {
+            return configuration.getLocale();
+        }
+
+        @Nullable
+        @Override
+        public TimeZone getTimeZone() {
+            return configuration.getTimeZone();
+        }
+
+        @Override
+        public int getSerializedStackTraceDepth() {
+            return -1;
+        }
+
+        @Override
+        public boolean isSerializingCauses() {
+            return true;
+        }
+
+        @Override
+        public boolean isSerializingMessageTemplates() {
+            return false;
+        }
+
+        @Nullable
+        @Override
+        public OccurrenceListener getOccurrenceListener() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Tracer getTracer() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A backoff policy, that tells how long to wait before next attempt of
+ * {@link EidRetry}. Use one of factory methods to create it.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public abstract class Backoff {
+
+    private static final int MAX_SHIFT = 62;
+
+    Backoff() {
+        // only implementations of this package
+    }
+
+    /**
+     * Calculates a delay before given retry.
+     *
+     * @param retry a number of retry, starting with 1
+     * @return a delay in milliseconds
+     */
+    public abstract long delayMillis(int retry);
+
+    /**
+     * Creates a backoff, that waits the same amount of time before each retry.
+     *
+     * @param delay a delay
+     * @param unit  a unit of delay
+     * @return a backoff policy
+     */
+    public static Backoff fixed(long delay, TimeUnit unit) {
+        final long millis = toMillis(delay, unit);
+        return new Backoff() {
+            @Override
+            public long delayMillis(int retry) {
+                return millis;
+            }
+        };
+    }
+
+    /**
+     * Creates a backoff, that doubles a delay before each retry, starting with
+     * initial delay, up to a maximum delay.
+     *
+     * @param initial an initial delay
+     * @param maximum a maximum delay
+     * @param unit    a unit of delays
+     * @return a backoff policy
+     */
+    public static Backoff exponential(long initial, long maximum, TimeUnit unit) {
+        final long initialMillis = toMillis(initial, unit);
+        final long maximumMillis = toMillis(maximum, unit);
+        return new Backoff() {
+            @Override
+            public long delayMillis(int retry) {
+                int shift = Math.min(Math.max(retry - 1, 0), MAX_SHIFT);
+                if (initialMillis > (maximumMillis >> shift)) {
+                    return maximumMillis;
+                }
+                return initialMillis << shift;
+            }
+        };
+    }
+
+    /**
+     * Creates a backoff, that waits a random amount of time between zero and
+     * a delay of given backoff ("full jitter"). It spreads retries of many
+     * callers, that failed at the same time.
+     *
+     * @param backoff a backoff to randomize
+     * @return a backoff policy
+     */
+    public static Backoff jittered(Backoff backoff) {
+        return jittered(backoff, new Random());
+    }
+
+    /**
+     * Creates a backoff, that waits a random amount of time between zero and
+     * a delay of given backoff ("full jitter"), using given source of
+     * randomness.
+     *
+     * @param backoff a backoff to randomize
+     * @param random  a source of randomness
+     * @return a backoff policy
+     */
+    public static Backoff jittered(final Backoff backoff, final Random random) {
+        return new Backoff() {
+            @Override
+            public long delayMillis(int retry) {
+                long delay = backoff.delayMillis(retry);
+                if (delay <= 0) {
+                    return 0L;
+                }
+                return (long) (random.nextDouble() * delay);
+            }
+        };
+    }
+
+    private static long toMillis(long delay, TimeUnit unit) {
+        if (delay < 0) {
+            throw new EidIllegalArgumentException(
+                "20261019:135312",
+                "Delay must not be negative, but was " + delay + " " + unit
+            );
+        }
+        return unit.toMillis(delay);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidFactory;
+import pl.wavesoftware.eid.exceptions.EidBatchException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.eid.system.EidModule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Executes an unsafe consumer for each item of a collection, with given
+ * executor, collecting failures by index of item. Each item is a separate
+ * task, and failures are written to distinct slots of an array, so tasks
+ * don't contend with each other.
+ * <p>
+ * Each task is claimed once, either by the executor or by calling thread.
+ * After all tasks are handed to the executor, calling thread runs the ones,
+ * that weren't started yet, so an executor, that discards tasks silently,
+ * can't make it wait forever.
+ *
+ * @param <T> a type of consumed items
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class BatchExecution<T> {
+
+    private static final int NEW = 0;
+    private static final int CLAIMED = 1;
+
+    private final UnsafeConsumer<? super T> consumer;
+    private final Eid eid;
+    private final CountDownLatch pending;
+    private final AtomicIntegerArray states;
+    private final AtomicReferenceArray<EidRuntimeException> failures;
+    private final AtomicReference<Error> error = new AtomicReference<Error>();
+
+    private BatchExecution(UnsafeConsumer<? super T> consumer, Eid eid, int size) {
+        this.consumer = consumer;
+        this.eid = eid;
+        this.pending = new CountDownLatch(size);
+        this.states = new AtomicIntegerArray(size);
+        this.failures = new AtomicReferenceArray<EidRuntimeException>(size);
+    }
+
+    static <T> void execute(
+        Collection<? extends T> items,
+        UnsafeConsumer<? super T> consumer,
+        Eid eid,
+        Executor executor
+    ) {
+        List<T> snapshot = new ArrayList<T>(items);
+        new BatchExecution<T>(consumer, eid, snapshot.size())
+            .execute(snapshot, executor);
+    }
+
+    private void execute(List<T> items, Executor executor) {
+        List<Task> tasks = new ArrayList<Task>(items.size());
+        for (int index = 0; index < items.size(); index++) {
+            Task task = new Task(index, items.get(index));
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException ex) {
+                if (task.claim()) {
+                    task.fail(ex);
+                    pending.countDown();
+                }
+            }
+        }
+        for (Task task : tasks) {
+            task.run();
+        }
+        await();
+        Error failed = error.get();
+        if (failed != null) {
+            throw failed;
+        }
+        throwIfFailed();
+    }
+
+    private void await() {
+        try {
+            pending.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new EidRuntimeException(newEid(), ex);
+        }
+    }
+
+    private void throwIfFailed() {
+        Map<Integer, EidRuntimeException> failed = null;
+        for (int i = 0; i < failures.length(); i++) {
+            EidRuntimeException failure = failures.get(i);
+            if (failure != null) {
+                if (failed == null) {
+                    failed = new TreeMap<Integer, EidRuntimeException>();
+                }
+                failed.put(i, failure);
+            }
+        }
+        if (failed != null) {
+            throw new EidBatchException(newEid(), failures.length(), failed);
+        }
+    }
+
+    /**
+     * Creates an Eid with ID and ref of given one, so each failure has its
+     * own unique ID.
+     */
+    private Eid newEid() {
+        EidFactory factory = EidModule.MODULE
+            .getBinding()
+            .getFactories()
+            .getEidFactory();
+        String ref = eid.getRef();
+        return ref == null
+            ? factory.create(eid.getId())
+            : factory.create(eid.getId(), ref);
+    }
+
+    private final class Task implements Runnable {
+        private final int index;
+        private final T item;
+
+        private Task(int index, T item) {
+            this.index = index;
+            this.item = item;
+        }
+
+        @Override
+        public void run() {
+            if (!claim()) {
+                return;
+            }
+            try {
+                consumer.accept(item);
+            } catch (Exception ex) {
+                fail(ex);
+            } catch (Error err) {
+                // rethrown by calling thread as well, after all tasks end
+                error.compareAndSet(null, err);
+                throw err;
+            } finally {
+                pending.countDown();
+            }
+        }
+
+        private boolean claim() {
+            return states.compareAndSet(index, NEW, CLAIMED);
+        }
+
+        private void fail(Exception exception) {
+            failures.set(index, new EidRuntimeException(newEid(), exception));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.exceptions.EidCircuitOpenException;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A circuit breaker of a single Eid. Calls are counted in a sliding window of
+ * time buckets. Each bucket is tagged with an epoch, and it's reset by the
+ * first call that sees a stale epoch. All of the state is kept in atomic
+ * variables, so there are no locks on a hot path. Counts are approximate
+ * under contention, which is good enough to calculate a failure rate.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+final class CircuitBreaker {
+
+    private static final long NO_EPOCH = -1L;
+
+    private final EidCircuitBreakers.Settings settings;
+    private final Eid eid;
+    private final long origin;
+    private final AtomicInteger state =
+        new AtomicInteger(EidCircuitBreakers.State.CLOSED.ordinal());
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray successes;
+    private final AtomicLongArray failures;
+    private volatile long openedAt;
+
+    CircuitBreaker(Eid eid, EidCircuitBreakers.Settings settings) {
+        this.settings = settings;
+        this.eid = eid;
+        this.origin = settings.clock.nanoTime();
+        this.epochs = new AtomicLongArray(settings.buckets);
+        this.successes = new AtomicLongArray(settings.buckets);
+        this.failures = new AtomicLongArray(settings.buckets);
+        resetWindow();
+    }
+
+    EidCircuitBreakers.State getState() {
+        return EidCircuitBreakers.State.values()[state.get()];
+    }
+
+    /**
+     * Acquires a permission to execute a call.
+     *
+     * @return a permission or null, if call should be rejected
+     */
+    @Nullable
+    Permission acquire() {
+        int current = state.get();
+        if (current == EidCircuitBreakers.State.CLOSED.ordinal()) {
+            return Permission.CALL;
+        }
+        if (current == EidCircuitBreakers.State.OPEN.ordinal()
+            && now() - openedAt >= settings.openNanos
+            && state.compareAndSet(
+                current, EidCircuitBreakers.State.HALF_OPEN.ordinal()
+            )) {
+            return Permission.TRIAL;
+        }
+        return null;
+    }
+
+    /**
+     * Creates a new rejection. It doesn't have a stack trace, so it's cheap,
+     * but it isn't shared, so callers can add causes or suppressed exceptions
+     * to it, and each rejection is reported to occurrence listener.
+     *
+     * @return a new rejection exception
+     */
+    EidCircuitOpenException rejection() {
+        return new EidCircuitOpenException(eid);
+    }
+
+    void onSuccess(Permission permission) {
+        if (permission == Permission.TRIAL) {
+            resetWindow();
+            state.set(EidCircuitBreakers.State.CLOSED.ordinal());
+        } else {
+            record(successes, now());
+        }
+    }
+
+    void onFailure(Permission permission) {
+        long now = now();
+        if (permission == Permission.TRIAL) {
+            openedAt = now;
+            state.set(EidCircuitBreakers.State.OPEN.ordinal());
+            return;
+        }
+        record(failures, now);
+        if (state.get() == EidCircuitBreakers.State.CLOSED.ordinal()
+            && isFailureRateExceeded(now)) {
+            openedAt = now;
+            state.compareAndSet(
+                EidCircuitBreakers.State.CLOSED.ordinal(),
+                EidCircuitBreakers.State.OPEN.ordinal()
+            );
+        }
+    }
+
+    private void record(AtomicLongArray counters, long now) {
+        long epoch = now / settings.bucketNanos;
+        int index = (int) (epoch % settings.buckets);
+        long seen = epochs.get(index);
+        if (seen != epoch && epochs.compareAndSet(index, seen, epoch)) {
+            successes.set(index, 0L);
+            failures.set(index, 0L);
+        }
+        counters.incrementAndGet(index);
+    }
+
+    private boolean isFailureRateExceeded(long now) {
+        long epoch = now / settings.bucketNanos;
+        long failed = 0L;
+        long calls = 0L;
+        for (int i = 0; i < settings.buckets; i++) {
+            if (epoch - epochs.get(i) < settings.buckets) {
+                long bucketFailures = failures.get(i);
+                failed += bucketFailures;
+                calls += bucketFailures + successes.get(i);
+            }
+        }
+        return calls >= settings.minimumCalls
+            && failed >= settings.failureRateThreshold * calls;
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < settings.buckets; i++) {
+            epochs.set(i, NO_EPOCH);
+            successes.set(i, 0L);
+            failures.set(i, 0L);
+        }
+    }
+
+    private long now() {
+        return settings.clock.nanoTime() - origin;
+    }
+
+    enum Permission {
+        CALL, TRIAL
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.exceptions.EidCircuitOpenException;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static pl.wavesoftware.eid.utils.EidUtil.ensureEid;
+
+/**
+ * <h3>Circuit breakers of try to execute blocks</h3>
+ * A registry of circuit breakers, keyed by Eid ID. Each code block executed
+ * with given Eid is guarded by a circuit breaker of that Eid. When failure
+ * rate of calls in a sliding time window exceeds a threshold, the breaker
+ * opens, and code blocks aren't executed at all. Instead, a
+ * {@link EidCircuitOpenException} without stack trace is thrown. That saves
+ * both a failing dependency and local CPU during outages. After open
+ * duration, a single trial call is let through. If it succeeds, breaker
+ * closes, otherwise it opens again.
+ * <p>
+ * Errors thrown by code blocks are counted as failures too, and rethrown as
+ * they are.
+ * <p>
+ * Registry and breakers are lock free and thread safe.
+ * <p>
+ * Example:
+ * <pre>
+ * private static final EidCircuitBreakers BREAKERS = EidCircuitBreakers.builder()
+ *     .failureRateThreshold(0.5d)
+ *     .openDuration(30, TimeUnit.SECONDS)
+ *     .build();
+ * // [..]
+ * Response response = BREAKERS.tryToExecute(new UnsafeSupplier&lt;Response&gt;() {
+ *     &#64;Override
+ *     public Response get() throws IOException {
+ *         return client.call(request);
+ *     }
+ * }, "20261019:140533");
+ * </pre>
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidCircuitBreakers {
+
+    private final Settings settings;
+    private final ConcurrentMap<String, CircuitBreaker> breakers =
+        new ConcurrentHashMap<String, CircuitBreaker>();
+
+    private EidCircuitBreakers(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Creates a builder of circuit breakers registry.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Tries to execute code in given unsafe supplier code block, guarded by a
+     * circuit breaker of given Eid. If exception is thrown, it will gets
+     * rethrown as a {@link EidRuntimeException} with eid given as a argument,
+     * and it's counted as a failure by the breaker.
+     *
+     * @param <R>      return type
+     * @param supplier unsafe supplier code to be executed within a try-catch
+     *                 block
+     * @param eid      unique developer identifier from date for ex.:
+     *                 "20150716:123200"
+     * @return A block of code return type, if exception is not thrown
+     * @throws EidCircuitOpenException if circuit breaker of given Eid is open
+     * @throws EidRuntimeException     if code block thrown any exception, which
+     *                                 in that case is wrapped in
+     *                                 EidRuntimeException
+     */
+    public <R> R tryToExecute(UnsafeSupplier<R> supplier, Eid eid) {
+        Eid actual = ensureEid(eid);
+        CircuitBreaker breaker = breakerOf(actual.getId(), actual);
+        CircuitBreaker.Permission permission = acquire(breaker);
+        try {
+            R result = supplier.get();
+            breaker.onSuccess(permission);
+            return result;
+        } catch (Exception throwable) {
+            breaker.onFailure(permission);
+            throw new EidRuntimeException(actual, throwable);
+        } catch (Error error) {
+            breaker.onFailure(permission);
+            throw error;
+        }
+    }
+
+    /**
+     * For more info in JavaDoc see {@link
+     * EidCircuitBreakers#tryToExecute(UnsafeSupplier, Eid)}
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed.
+     *
+     * @param <R>      return type
+     * @param supplier unsafe supplier code to be executed within a try-catch
+     *                 block
+     * @param eid      unique developer identifier from date for ex.:
+     *                 "20150716:123200"
+     * @return A block of code return type, if exception is not thrown
+     * @throws EidCircuitOpenException if circuit breaker of given Eid is open
+     * @throws EidRuntimeException     if code block thrown any exception, which
+     *                                 in that case is wrapped in
+     *                                 EidRuntimeException
+     * @see EidCircuitBreakers#tryToExecute(UnsafeSupplier, Eid)
+     */
+    public <R> R tryToExecute(UnsafeSupplier<R> supplier, @Nullable String eid) {
+        if (eid == null) {
+            return tryToExecute(supplier, ensureEid(eid));
+        }
+        CircuitBreaker breaker = breakerOf(eid, null);
+        CircuitBreaker.Permission permission = acquire(breaker);
+        try {
+            R result = supplier.get();
+            breaker.onSuccess(permission);
+            return result;
+        } catch (Exception throwable) {
+            breaker.onFailure(permission);
+            throw new EidRuntimeException(ensureEid(eid), throwable);
+        } catch (Error error) {
+            breaker.onFailure(permission);
+            throw error;
+        }
+    }
+
+    /**
+     * Tries to execute code in given unsafe procedure code block, guarded by
+     * a circuit breaker of given Eid. If exception is thrown, it will gets
+     * rethrown as a {@link EidRuntimeException} with eid given as a argument,
+     * and it's counted as a failure by the breaker.
+     *
+     * @param procedure unsafe procedure code to be executed within a try-catch
+     *                  block
+     * @param eid       unique developer identifier from date for ex.:
+     *                  "20150716:123200"
+     * @throws EidCircuitOpenException if circuit breaker of given Eid is open
+     * @throws EidRuntimeException     if code block thrown any exception, which
+     *                                 in that case is wrapped in
+     *                                 EidRuntimeException
+     */
+    public void tryToExecute(UnsafeProcedure procedure, Eid eid) {
+        tryToExecute(asSupplier(procedure), eid);
+    }
+
+    /**
+     * For more info in JavaDoc see {@link
+     * EidCircuitBreakers#tryToExecute(UnsafeProcedure, Eid)}
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed.
+     *
+     * @param procedure unsafe procedure code to be executed within a try-catch
+     *                  block
+     * @param eid       unique developer identifier from date for ex.:
+     *                  "20150716:123200"
+     * @throws EidCircuitOpenException if circuit breaker of given Eid is open
+     * @throws EidRuntimeException     if code block thrown any exception, which
+     *                                 in that case is wrapped in
+     *                                 EidRuntimeException
+     * @see EidCircuitBreakers#tryToExecute(UnsafeProcedure, Eid)
+     */
+    public void tryToExecute(UnsafeProcedure procedure, String eid) {
+        tryToExecute(asSupplier(procedure), eid);
+    }
+
+    /**
+     * Gets a current state of circuit breaker for given Eid ID.
+     *
+     * @param eid an Eid ID
+     * @return a state of circuit breaker, closed if it wasn't used yet
+     */
+    public State getState(String eid) {
+        CircuitBreaker breaker = breakers.get(eid);
+        return breaker == null ? State.CLOSED : breaker.getState();
+    }
+
+    private CircuitBreaker breakerOf(String id, @Nullable Eid eid) {
+        CircuitBreaker breaker = breakers.get(id);
+        if (breaker == null) {
+            CircuitBreaker created = new CircuitBreaker(
+                eid == null ? ensureEid(id) : eid, settings
+            );
+            breaker = breakers.putIfAbsent(id, created);
+            if (breaker == null) {
+                breaker = created;
+            }
+        }
+        return breaker;
+    }
+
+    private static CircuitBreaker.Permission acquire(CircuitBreaker breaker) {
+        CircuitBreaker.Permission permission = breaker.acquire();
+        if (permission == null) {
+            throw breaker.rejection();
+        }
+        return permission;
+    }
+
+    private static UnsafeSupplier<Void> asSupplier(final UnsafeProcedure procedure) {
+        return new UnsafeSupplier<Void>() {
+            @Override
+            public Void get() throws Exception {
+                procedure.execute();
+                return null;
+            }
+        };
+    }
+
+    /**
+     * A state of circuit breaker.
+     */
+    public enum State {
+        /**
+         * Code blocks are executed, and their failures are counted.
+         */
+        CLOSED,
+        /**
+         * Code blocks aren't executed, and calls are rejected.
+         */
+        OPEN,
+        /**
+         * A single trial call is executed, to check if breaker can be closed.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * A source of monotonic time. It can be replaced, for ex.: in tests.
+     */
+    public interface Clock {
+        /**
+         * Gets current value of monotonic time source, like
+         * {@link System#nanoTime()}.
+         *
+         * @return a current time in nanoseconds
+         */
+        long nanoTime();
+    }
+
+    /**
+     * A builder of {@link EidCircuitBreakers}. By default, a breaker opens
+     * when at least half of at least 20 calls in the last 10 seconds failed,
+     * and stays open for 30 seconds.
+     */
+    public static final class Builder {
+        private static final double DEFAULT_FAILURE_RATE = 0.5d;
+        private static final int DEFAULT_MINIMUM_CALLS = 20;
+        private static final long DEFAULT_WINDOW_SECONDS = 10L;
+        private static final int DEFAULT_BUCKETS = 10;
+        private static final long DEFAULT_OPEN_SECONDS = 30L;
+
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE;
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+        private long windowNanos = TimeUnit.SECONDS.toNanos(DEFAULT_WINDOW_SECONDS);
+        private int buckets = DEFAULT_BUCKETS;
+        private long openNanos = TimeUnit.SECONDS.toNanos(DEFAULT_OPEN_SECONDS);
+        private Clock clock = SystemClock.INSTANCE;
+
+        private Builder() {
+            // use EidCircuitBreakers.builder()
+        }
+
+        /**
+         * Sets a failure rate, that opens a breaker.
+         *
+         * @param failureRateThreshold a failure rate, greater than 0 and up
+         *                             to 1
+         * @return this builder
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (failureRateThreshold <= 0d || failureRateThreshold > 1d) {
+                throw new EidIllegalArgumentException(
+                    "20261019:140812",
+                    "Failure rate threshold must be in (0, 1], but was "
+                        + failureRateThreshold
+                );
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets a minimum number of calls in a window, to calculate failure
+         * rate at all.
+         *
+         * @param minimumCalls a minimum number of calls, at least 1
+         * @return this builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = positive("20261019:140856", minimumCalls);
+            return this;
+        }
+
+        /**
+         * Sets a sliding window, in which calls are counted.
+         *
+         * @param window  a length of window
+         * @param unit    a unit of window length
+         * @param buckets a number of buckets, the window is divided to
+         * @return this builder
+         */
+        public Builder window(long window, TimeUnit unit, int buckets) {
+            this.buckets = positive("20261019:140935", buckets);
+            this.windowNanos = positive("20261019:141004", unit.toNanos(window));
+            return this;
+        }
+
+        /**
+         * Sets a time, a breaker stays open before a trial call.
+         *
+         * @param duration an open duration
+         * @param unit     a unit of open duration
+         * @return this builder
+         */
+        public Builder openDuration(long duration, TimeUnit unit) {
+            this.openNanos = positive("20261019:141038", unit.toNanos(duration));
+            return this;
+        }
+
+        /**
+         * Sets a source of time.
+         *
+         * @param clock a clock
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds a registry of circuit breakers.
+         *
+         * @return a registry of circuit breakers
+         */
+        public EidCircuitBreakers build() {
+            return new EidCircuitBreakers(new Settings(this));
+        }
+
+        private static <T extends Number> T positive(String eid, T value) {
+            if (value.longValue() < 1L) {
+                throw new EidIllegalArgumentException(
+                    eid, "Value must be positive, but was " + value
+                );
+            }
+            return value;
+        }
+    }
+
+    static final class Settings {
+        final double failureRateThreshold;
+        final int minimumCalls;
+        final int buckets;
+        final long bucketNanos;
+        final long openNanos;
+        final Clock clock;
+
+        private Settings(Builder builder) {
+            this.failureRateThreshold = builder.failureRateThreshold;
+            this.minimumCalls = builder.minimumCalls;
+            this.buckets = builder.buckets;
+            this.bucketNanos = Math.max(1L, builder.windowNanos / builder.buckets);
+            this.openNanos = builder.openNanos;
+            this.clock = builder.clock;
+        }
+    }
+
+    private enum SystemClock implements Clock {
+        INSTANCE;
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    }
+}
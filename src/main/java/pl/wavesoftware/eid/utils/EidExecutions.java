@@ -17,8 +17,16 @@
 package pl.wavesoftware.eid.utils;
 
 import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.exceptions.EidBatchException;
 import pl.wavesoftware.eid.exceptions.EidRuntimeException;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
 import static pl.wavesoftware.eid.utils.EidUtil.ensureEid;
 
 /**
@@ -175,4 +183,227 @@ public final class EidExecutions {
             throw new EidRuntimeException(ensureEid(eid), throwable);
         }
     }
+
+    /**
+     * Executes code in given unsafe supplier code block asynchronously, using
+     * given executor. If exception is thrown by the code block, returned
+     * future fails with {@link java.util.concurrent.ExecutionException},
+     * which cause is a {@link EidRuntimeException} with eid given as a
+     * argument, wrapping the original exception. Wrapping is done on executor
+     * thread, so no blocking is needed to tag errors with Eid.
+     * <p>
+     * Example:
+     * <pre>
+     * Future&lt;Document&gt; doc = EidExecutions.tryToExecuteAsync(
+     *     new UnsafeSupplier&lt;Document&gt;() {
+     *         &#64;Override
+     *         public Document get() throws SAXException, IOException {
+     *             return docBuilder.parse(new InputSource(reader));
+     *         }
+     *     }, new DefaultEid("20261019:132318"), executor
+     * );
+     * </pre>
+     *
+     * @param <R>      return type
+     * @param supplier unsafe supplier code to be executed within a try-catch
+     *                 block
+     * @param eid      unique developer identifier from date for ex.:
+     *                 "20150716:123200"
+     * @param executor an executor to execute code block with
+     * @return a future of code block result
+     * @throws java.util.concurrent.RejectedExecutionException if the code
+     *                             block can't be accepted by the executor
+     * @since 2.1.0
+     */
+    public static <R> Future<R> tryToExecuteAsync(
+        final UnsafeSupplier<R> supplier,
+        final Eid eid,
+        final Executor executor
+    ) {
+        return submit(new Callable<R>() {
+            @Override
+            public R call() {
+                return tryToExecute(supplier, eid);
+            }
+        }, executor);
+    }
+
+    /**
+     * Executes code in given unsafe procedure code block asynchronously, using
+     * given executor. If exception is thrown by the code block, returned
+     * future fails with {@link java.util.concurrent.ExecutionException},
+     * which cause is a {@link EidRuntimeException} with eid given as a
+     * argument, wrapping the original exception. Wrapping is done on executor
+     * thread, so no blocking is needed to tag errors with Eid.
+     *
+     * @param procedure unsafe procedure code to be executed within a try-catch
+     *                  block
+     * @param eid       unique developer identifier from date for ex.:
+     *                  "20150716:123200"
+     * @param executor  an executor to execute code block with
+     * @return a future of code block completion, with {@code null} as result
+     * @throws java.util.concurrent.RejectedExecutionException if the code
+     *                             block can't be accepted by the executor
+     * @since 2.1.0
+     */
+    public static Future<Void> tryToExecuteAsync(
+        final UnsafeProcedure procedure,
+        final Eid eid,
+        final Executor executor
+    ) {
+        return submit(new Callable<Void>() {
+            @Override
+            @Nullable
+            public Void call() {
+                tryToExecute(procedure, eid);
+                return null;
+            }
+        }, executor);
+    }
+
+    /**
+     * For more info in JavaDoc see {@link
+     * EidExecutions#tryToExecuteAsync(UnsafeSupplier, Eid, Executor)}
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #tryToExecuteAsync(UnsafeSupplier, Eid, Executor)}
+     * instead.
+     *
+     * @param <R>      return type
+     * @param supplier unsafe supplier code to be executed within a try-catch
+     *                 block
+     * @param eid      unique developer identifier from date for ex.:
+     *                 "20150716:123200"
+     * @param executor an executor to execute code block with
+     * @return a future of code block result
+     * @throws java.util.concurrent.RejectedExecutionException if the code
+     *                             block can't be accepted by the executor
+     * @see EidExecutions#tryToExecuteAsync(UnsafeSupplier, Eid, Executor)
+     * @since 2.1.0
+     */
+    public static <R> Future<R> tryToExecuteAsync(
+        final UnsafeSupplier<R> supplier,
+        final String eid,
+        final Executor executor
+    ) {
+        return submit(new Callable<R>() {
+            @Override
+            public R call() {
+                return tryToExecute(supplier, eid);
+            }
+        }, executor);
+    }
+
+    /**
+     * For more info in JavaDoc see {@link
+     * EidExecutions#tryToExecuteAsync(UnsafeProcedure, Eid, Executor)}
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #tryToExecuteAsync(UnsafeProcedure, Eid, Executor)}
+     * instead.
+     *
+     * @param procedure unsafe procedure code to be executed within a try-catch
+     *                  block
+     * @param eid       unique developer identifier from date for ex.:
+     *                  "20150716:123200"
+     * @param executor  an executor to execute code block with
+     * @return a future of code block completion, with {@code null} as result
+     * @throws java.util.concurrent.RejectedExecutionException if the code
+     *                             block can't be accepted by the executor
+     * @see EidExecutions#tryToExecuteAsync(UnsafeProcedure, Eid, Executor)
+     * @since 2.1.0
+     */
+    public static Future<Void> tryToExecuteAsync(
+        final UnsafeProcedure procedure,
+        final String eid,
+        final Executor executor
+    ) {
+        return submit(new Callable<Void>() {
+            @Override
+            @Nullable
+            public Void call() {
+                tryToExecute(procedure, eid);
+                return null;
+            }
+        }, executor);
+    }
+
+    /**
+     * Executes code in given unsafe consumer code block for each of given
+     * items, using given executor, and waits for all of them to complete. The
+     * execution doesn't stop at first failure. Each failure is wrapped in a
+     * {@link EidRuntimeException} with a new eid of ID and ref given as a
+     * argument, and all of them are thrown together as a
+     * {@link EidBatchException}, with indices of items that caused them.
+     * <p>
+     * Errors aren't wrapped, but thrown as they are, after all items are
+     * processed. Items, that executor discards without running them, are
+     * consumed by calling thread.
+     * <p>
+     * Example:
+     * <pre>
+     * EidExecutions.tryToExecuteAll(partitions, new UnsafeConsumer&lt;Partition&gt;() {
+     *     &#64;Override
+     *     public void accept(Partition partition) throws IOException {
+     *         partition.flush();
+     *     }
+     * }, new DefaultEid("20261019:133741"), executor);
+     * </pre>
+     *
+     * @param <T>      a type of items
+     * @param items    a items to be consumed
+     * @param consumer unsafe consumer code to be executed for each item
+     *                 within a try-catch block
+     * @param eid      unique developer identifier from date for ex.:
+     *                 "20150716:123200"
+     * @param executor an executor to execute code block with, for each item
+     * @throws EidBatchException if code block fails for any of items
+     * @throws EidRuntimeException if current thread is interrupted while
+     *                             waiting for completion
+     * @since 2.1.0
+     */
+    public static <T> void tryToExecuteAll(
+        Collection<? extends T> items,
+        UnsafeConsumer<? super T> consumer,
+        Eid eid,
+        Executor executor
+    ) {
+        BatchExecution.execute(items, consumer, ensureEid(eid), executor);
+    }
+
+    /**
+     * For more info in JavaDoc see {@link
+     * EidExecutions#tryToExecuteAll(Collection, UnsafeConsumer, Eid, Executor)}
+     * <p>
+     * Each failure of the batch gets a new Eid, with given ID.
+     *
+     * @param <T>      a type of items
+     * @param items    a items to be consumed
+     * @param consumer unsafe consumer code to be executed for each item
+     *                 within a try-catch block
+     * @param eid      unique developer identifier from date for ex.:
+     *                 "20150716:123200"
+     * @param executor an executor to execute code block with, for each item
+     * @throws EidBatchException if code block fails for any of items
+     * @throws EidRuntimeException if current thread is interrupted while
+     *                             waiting for completion
+     * @see EidExecutions#tryToExecuteAll(Collection, UnsafeConsumer, Eid, Executor)
+     * @since 2.1.0
+     */
+    public static <T> void tryToExecuteAll(
+        Collection<? extends T> items,
+        UnsafeConsumer<? super T> consumer,
+        String eid,
+        Executor executor
+    ) {
+        BatchExecution.execute(items, consumer, ensureEid(eid), executor);
+    }
+
+    private static <R> Future<R> submit(Callable<R> callable, Executor executor) {
+        FutureTask<R> task = new FutureTask<R>(callable);
+        executor.execute(task);
+        return task;
+    }
 }
@@ -15,8 +15,9 @@
  */
 package pl.wavesoftware.eid.utils;
 
-
 import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.api.Supplier;
 import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
 import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
 import pl.wavesoftware.eid.exceptions.EidIndexOutOfBoundsException;
@@ -86,6 +87,10 @@ import static pl.wavesoftware.eid.utils.EidUtil.ensureEid;
  *     throw ex;
  * }
  * </pre>
+ * Methods {@code checkArgument}, {@code checkState} and {@code checkNotNull}
+ * with a message format have fixed arity overloads for one and two parameters.
+ * They don't allocate an array of parameters unless the check fails.
+ * <p>
  * <strong>Caution!</strong> This class shouldn't be used in any public API or
  * library. It is designed to be used for in-house development of end user
  * applications which will report bugs in standardized error pages or post them
@@ -96,6 +101,8 @@ import static pl.wavesoftware.eid.utils.EidUtil.ensureEid;
  */
 public final class EidPreconditions {
 
+    private static final String VERBATIM = "{0}";
+
     EidPreconditions() {
         throw new EidRuntimeException(
             "20150718:083450", "This should not be accessed"
@@ -120,7 +127,7 @@ public final class EidPreconditions {
         final String eid
     ) {
         if (!expression) {
-            throw new EidIllegalArgumentException(ensureEid(eid));
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid);
         }
     }
 
@@ -148,9 +155,57 @@ public final class EidPreconditions {
         final Object... parameters
     ) {
         if (!expression) {
-            throw new EidIllegalArgumentException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid, messageFormat, parameters);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to
+     * the calling method.
+     *
+     * @param expression    a boolean expression
+     * @param eid           the exception ID to use if the check fails; will be
+     *                      converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param p1            a first parameter of message format
+     * @throws EidIllegalArgumentException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkArgument(
+        final boolean expression,
+        final String eid,
+        final String messageFormat,
+        @Nullable final Object p1
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid, messageFormat, p1);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to
+     * the calling method.
+     *
+     * @param expression    a boolean expression
+     * @param eid           the exception ID to use if the check fails; will be
+     *                      converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param p1            a first parameter of message format
+     * @param p2            a second parameter of message format
+     * @throws EidIllegalArgumentException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkArgument(
+        final boolean expression,
+        final String eid,
+        final String messageFormat,
+        @Nullable final Object p1,
+        @Nullable final Object p2
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid, messageFormat, p1, p2);
         }
     }
 
@@ -168,7 +223,7 @@ public final class EidPreconditions {
         final Eid eid
     ) {
         if (!expression) {
-            throw new EidIllegalArgumentException(ensureEid(eid));
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid);
         }
     }
 
@@ -192,9 +247,62 @@ public final class EidPreconditions {
         final Object... parameters
     ) {
         if (!expression) {
-            throw new EidIllegalArgumentException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid, messageFormat, parameters);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to
+     * the calling method.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkArgument(boolean, Eid, Supplier)} instead.
+     *
+     * @param expression      a boolean expression
+     * @param eid             the exception ID to use if the check fails; will
+     *                        be converted to {@link Eid}
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @throws EidIllegalArgumentException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkArgument(
+        final boolean expression,
+        final String eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid, messageSupplier);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving one or more parameters to
+     * the calling method.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     *
+     * @param expression      a boolean expression
+     * @param eid             the exception ID to use if the check fails
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @throws EidIllegalArgumentException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkArgument(
+        final boolean expression,
+        final Eid eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_ARGUMENT, eid, messageSupplier);
         }
     }
 
@@ -214,7 +322,7 @@ public final class EidPreconditions {
      */
     public static void checkState(final boolean expression, final String eid) {
         if (!expression) {
-            throw new EidIllegalStateException(ensureEid(eid));
+            throw fail(Failure.ILLEGAL_STATE, eid);
         }
     }
 
@@ -243,9 +351,57 @@ public final class EidPreconditions {
         final Object... parameters
     ) {
         if (!expression) {
-            throw new EidIllegalStateException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(Failure.ILLEGAL_STATE, eid, messageFormat, parameters);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling
+     * instance, but not involving any parameters to the calling method.
+     *
+     * @param expression    a boolean expression
+     * @param eid           the exception ID to use if the check fails; will be
+     *                      converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param p1            a first parameter of message format
+     * @throws EidIllegalStateException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkState(
+        final boolean expression,
+        final String eid,
+        final String messageFormat,
+        @Nullable final Object p1
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_STATE, eid, messageFormat, p1);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling
+     * instance, but not involving any parameters to the calling method.
+     *
+     * @param expression    a boolean expression
+     * @param eid           the exception ID to use if the check fails; will be
+     *                      converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param p1            a first parameter of message format
+     * @param p2            a second parameter of message format
+     * @throws EidIllegalStateException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkState(
+        final boolean expression,
+        final String eid,
+        final String messageFormat,
+        @Nullable final Object p1,
+        @Nullable final Object p2
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_STATE, eid, messageFormat, p1, p2);
         }
     }
 
@@ -261,7 +417,7 @@ public final class EidPreconditions {
      */
     public static void checkState(final boolean expression, final Eid eid) {
         if (!expression) {
-            throw new EidIllegalStateException(ensureEid(eid));
+            throw fail(Failure.ILLEGAL_STATE, eid);
         }
     }
 
@@ -286,9 +442,62 @@ public final class EidPreconditions {
         final Object... parameters
     ) {
         if (!expression) {
-            throw new EidIllegalStateException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(Failure.ILLEGAL_STATE, eid, messageFormat, parameters);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling
+     * instance, but not involving any parameters to the calling method.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkState(boolean, Eid, Supplier)} instead.
+     *
+     * @param expression      a boolean expression
+     * @param eid             the exception ID to use if the check fails; will
+     *                        be converted to {@link Eid}
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @throws EidIllegalStateException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkState(
+        final boolean expression,
+        final String eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_STATE, eid, messageSupplier);
+        }
+    }
+
+    /**
+     * Ensures the truth of an expression involving the state of the calling
+     * instance, but not involving any parameters to the calling method.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     *
+     * @param expression      a boolean expression
+     * @param eid             the exception ID to use if the check fails
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @throws EidIllegalStateException if {@code expression} is false
+     * @since 2.1.0
+     */
+    public static void checkState(
+        final boolean expression,
+        final Eid eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (!expression) {
+            throw fail(Failure.ILLEGAL_STATE, eid, messageSupplier);
         }
     }
 
@@ -313,7 +522,7 @@ public final class EidPreconditions {
         final String eid
     ) {
         if (reference == null) {
-            throw new EidNullPointerException(ensureEid(eid));
+            throw fail(Failure.NULL_POINTER, eid);
         }
         return reference;
     }
@@ -345,9 +554,65 @@ public final class EidPreconditions {
         final Object... parameters
     ) {
         if (reference == null) {
-            throw new EidNullPointerException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(Failure.NULL_POINTER, eid, messageFormat, parameters);
+        }
+        return reference;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling
+     * method is not null.
+     *
+     * @param <T>           type of object reference being checked
+     * @param reference     an object reference
+     * @param eid           the exception message to use if the check fails;
+     *                      will be converted to a string using
+     *                      {@link String#valueOf(Object)}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param p1            a first parameter of message format
+     * @return the value of {@code reference}
+     * @throws EidNullPointerException if {@code reference} is null
+     * @since 2.1.0
+     */
+    public static <T> T checkNotNull(
+        @Nullable final T reference,
+        final String eid,
+        final String messageFormat,
+        @Nullable final Object p1
+    ) {
+        if (reference == null) {
+            throw fail(Failure.NULL_POINTER, eid, messageFormat, p1);
+        }
+        return reference;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling
+     * method is not null.
+     *
+     * @param <T>           type of object reference being checked
+     * @param reference     an object reference
+     * @param eid           the exception message to use if the check fails;
+     *                      will be converted to a string using
+     *                      {@link String#valueOf(Object)}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param p1            a first parameter of message format
+     * @param p2            a second parameter of message format
+     * @return the value of {@code reference}
+     * @throws EidNullPointerException if {@code reference} is null
+     * @since 2.1.0
+     */
+    public static <T> T checkNotNull(
+        @Nullable final T reference,
+        final String eid,
+        final String messageFormat,
+        @Nullable final Object p1,
+        @Nullable final Object p2
+    ) {
+        if (reference == null) {
+            throw fail(Failure.NULL_POINTER, eid, messageFormat, p1, p2);
         }
         return reference;
     }
@@ -369,7 +634,7 @@ public final class EidPreconditions {
         final Eid eid
     ) {
         if (reference == null) {
-            throw new EidNullPointerException(ensureEid(eid));
+            throw fail(Failure.NULL_POINTER, eid);
         }
         return reference;
     }
@@ -398,9 +663,68 @@ public final class EidPreconditions {
         final Object... parameters
     ) {
         if (reference == null) {
-            throw new EidNullPointerException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(Failure.NULL_POINTER, eid, messageFormat, parameters);
+        }
+        return reference;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling
+     * method is not null.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkNotNull(Object, Eid, Supplier)} instead.
+     *
+     * @param <T>             type of object reference being checked
+     * @param reference       an object reference
+     * @param eid             the exception ID to use if the check fails; will
+     *                        be converted to {@link Eid}
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @return the non-null reference that was validated
+     * @throws EidNullPointerException if {@code reference} is null
+     * @since 2.1.0
+     */
+    public static <T> T checkNotNull(
+        @Nullable final T reference,
+        final String eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (reference == null) {
+            throw fail(Failure.NULL_POINTER, eid, messageSupplier);
+        }
+        return reference;
+    }
+
+    /**
+     * Ensures that an object reference passed as a parameter to the calling
+     * method is not null.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     *
+     * @param <T>             type of object reference being checked
+     * @param reference       an object reference
+     * @param eid             the exception ID to use if the check fails
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @return the non-null reference that was validated
+     * @throws EidNullPointerException if {@code reference} is null
+     * @since 2.1.0
+     */
+    public static <T> T checkNotNull(
+        @Nullable final T reference,
+        final Eid eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (reference == null) {
+            throw fail(Failure.NULL_POINTER, eid, messageSupplier);
         }
         return reference;
     }
@@ -424,11 +748,8 @@ public final class EidPreconditions {
      * @throws EidIllegalArgumentException  if {@code size} is negative
      */
     public static int checkElementIndex(int index, int size, final String eid) {
-        if (isSizeIllegal(size)) {
-            throw new EidIllegalArgumentException(ensureEid(eid));
-        }
         if (isIndexAndSizeIllegal(index, size)) {
-            throw new EidIndexOutOfBoundsException(ensureEid(eid));
+            throw fail(indexFailure(size), eid);
         }
         return index;
     }
@@ -464,15 +785,8 @@ public final class EidPreconditions {
         final String messageFormat,
         final Object... parameters
     ) {
-        if (isSizeIllegal(size)) {
-            throw new EidIllegalArgumentException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
-        }
         if (isIndexAndSizeIllegal(index, size)) {
-            throw new EidIndexOutOfBoundsException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(indexFailure(size), eid, messageFormat, parameters);
         }
         return index;
     }
@@ -492,11 +806,8 @@ public final class EidPreconditions {
      * @throws EidIllegalArgumentException  if {@code size} is negative
      */
     public static int checkElementIndex(int index, int size, final Eid eid) {
-        if (isSizeIllegal(size)) {
-            throw new EidIllegalArgumentException(ensureEid(eid));
-        }
         if (isIndexAndSizeIllegal(index, size)) {
-            throw new EidIndexOutOfBoundsException(ensureEid(eid));
+            throw fail(indexFailure(size), eid);
         }
         return index;
     }
@@ -527,24 +838,628 @@ public final class EidPreconditions {
         final String messageFormat,
         final Object... parameters
     ) {
-        if (isSizeIllegal(size)) {
-            throw new EidIllegalArgumentException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
-        }
         if (isIndexAndSizeIllegal(index, size)) {
-            throw new EidIndexOutOfBoundsException(
-                ensureEid(eid).message(messageFormat, parameters)
-            );
+            throw fail(indexFailure(size), eid, messageFormat, parameters);
         }
         return index;
     }
 
-    private static boolean isIndexAndSizeIllegal(int index, int size) {
-        return index < 0 || index >= size;
-    }
+    /**
+     * Ensures that {@code index} specifies a valid <i>element</i> in an array,
+     * list or string of size {@code size}. An element index may range from
+     * zero, inclusive, to {@code size}, exclusive.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkElementIndex(int, int, Eid, Supplier)} instead.
+     *
+     * @param index           a user-supplied index identifying an element of an
+     *                        array, list or string
+     * @param size            the size of that array, list or string
+     * @param eid             the exception ID to use if the check fails; will
+     *                        be converted to {@link Eid}
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @return the value of {@code index}
+     * @throws EidIndexOutOfBoundsException if {@code index} is negative or is
+     *                                      not less than {@code size}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static int checkElementIndex(
+        int index,
+        int size,
+        final String eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (isIndexAndSizeIllegal(index, size)) {
+            throw fail(indexFailure(size), eid, messageSupplier);
+        }
+        return index;
+    }
+
+    /**
+     * Ensures that {@code index} specifies a valid <i>element</i> in an array,
+     * list or string of size {@code size}. An element index may range from
+     * zero, inclusive, to {@code size}, exclusive.
+     * <p>
+     * A message is taken from given supplier only if the check fails, so it
+     * can be expensive to compute. The message is used as is, it isn't
+     * treated as a message format.
+     *
+     * @param index           a user-supplied index identifying an element of an
+     *                        array, list or string
+     * @param size            the size of that array, list or string
+     * @param eid             the exception ID to use if the check fails
+     * @param messageSupplier a supplier of a message, called only if the check
+     *                        fails
+     * @return the value of {@code index}
+     * @throws EidIndexOutOfBoundsException if {@code index} is negative or is
+     *                                      not less than {@code size}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static int checkElementIndex(
+        int index,
+        int size,
+        final Eid eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        if (isIndexAndSizeIllegal(index, size)) {
+            throw fail(indexFailure(size), eid, messageSupplier);
+        }
+        return index;
+    }
+
+    /**
+     * Ensures that {@code index} specifies a valid <i>position</i> in an
+     * array, list or string of size {@code size}. A position index may range
+     * from zero to {@code size}, inclusive.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkPositionIndex(int, int, Eid)}
+     * instead.
+     *
+     * @param index         a user-supplied index identifying a position in an
+     *                      array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails; will
+     *                      be converted to {@link Eid}
+     * @return the value of {@code index}
+     * @throws EidIndexOutOfBoundsException if {@code index} is negative or is
+     *                                      greater than {@code size}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static int checkPositionIndex(
+        int index,
+        int size,
+        final String eid
+    ) {
+        if (isPositionIndexIllegal(index, size)) {
+            throw fail(indexFailure(size), eid);
+        }
+        return index;
+    }
+
+    /**
+     * Ensures that {@code index} specifies a valid <i>position</i> in an
+     * array, list or string of size {@code size}. A position index may range
+     * from zero to {@code size}, inclusive.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkPositionIndex(int, int, Eid, String, Object[])}
+     * instead.
+     *
+     * @param index         a user-supplied index identifying a position in an
+     *                      array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails; will
+     *                      be converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return the value of {@code index}
+     * @throws EidIndexOutOfBoundsException if {@code index} is negative or is
+     *                                      greater than {@code size}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static int checkPositionIndex(
+        int index,
+        int size,
+        final String eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (isPositionIndexIllegal(index, size)) {
+            throw fail(indexFailure(size), eid, messageFormat, parameters);
+        }
+        return index;
+    }
+
+    /**
+     * Ensures that {@code index} specifies a valid <i>position</i> in an
+     * array, list or string of size {@code size}. A position index may range
+     * from zero to {@code size}, inclusive.
+     *
+     * @param index         a user-supplied index identifying a position in an
+     *                      array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails
+     * @return the value of {@code index}
+     * @throws EidIndexOutOfBoundsException if {@code index} is negative or is
+     *                                      greater than {@code size}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static int checkPositionIndex(
+        int index,
+        int size,
+        final Eid eid
+    ) {
+        if (isPositionIndexIllegal(index, size)) {
+            throw fail(indexFailure(size), eid);
+        }
+        return index;
+    }
+
+    /**
+     * Ensures that {@code index} specifies a valid <i>position</i> in an
+     * array, list or string of size {@code size}. A position index may range
+     * from zero to {@code size}, inclusive.
+     *
+     * @param index         a user-supplied index identifying a position in an
+     *                      array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return the value of {@code index}
+     * @throws EidIndexOutOfBoundsException if {@code index} is negative or is
+     *                                      greater than {@code size}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static int checkPositionIndex(
+        int index,
+        int size,
+        final Eid eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (isPositionIndexIllegal(index, size)) {
+            throw fail(indexFailure(size), eid, messageFormat, parameters);
+        }
+        return index;
+    }
+
+    /**
+     * Ensures that {@code start} and {@code end} specify a valid
+     * <i>positions</i> in an array, list or string of size {@code size}, and
+     * are in order. A position index may range from zero to {@code size},
+     * inclusive.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkPositionIndexes(int, int, int, Eid)}
+     * instead.
+     *
+     * @param start         a user-supplied index identifying a starting
+     *                      position in an array, list or string
+     * @param end           a user-supplied index identifying an ending
+     *                      position in an array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails; will
+     *                      be converted to {@link Eid}
+     * @throws EidIndexOutOfBoundsException if either index is negative or is
+     *                                      greater than {@code size}, or if
+     *                                      {@code end} is less than {@code start}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static void checkPositionIndexes(
+        int start,
+        int end,
+        int size,
+        final String eid
+    ) {
+        if (start < 0 || end < start || end > size) {
+            throw fail(indexFailure(size), eid);
+        }
+    }
+
+    /**
+     * Ensures that {@code start} and {@code end} specify a valid
+     * <i>positions</i> in an array, list or string of size {@code size}, and
+     * are in order. A position index may range from zero to {@code size},
+     * inclusive.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkPositionIndexes(int, int, int, Eid, String, Object[])}
+     * instead.
+     *
+     * @param start         a user-supplied index identifying a starting
+     *                      position in an array, list or string
+     * @param end           a user-supplied index identifying an ending
+     *                      position in an array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails; will
+     *                      be converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @throws EidIndexOutOfBoundsException if either index is negative or is
+     *                                      greater than {@code size}, or if
+     *                                      {@code end} is less than {@code start}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static void checkPositionIndexes(
+        int start,
+        int end,
+        int size,
+        final String eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (start < 0 || end < start || end > size) {
+            throw fail(indexFailure(size), eid, messageFormat, parameters);
+        }
+    }
+
+    /**
+     * Ensures that {@code start} and {@code end} specify a valid
+     * <i>positions</i> in an array, list or string of size {@code size}, and
+     * are in order. A position index may range from zero to {@code size},
+     * inclusive.
+     *
+     * @param start         a user-supplied index identifying a starting
+     *                      position in an array, list or string
+     * @param end           a user-supplied index identifying an ending
+     *                      position in an array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails
+     * @throws EidIndexOutOfBoundsException if either index is negative or is
+     *                                      greater than {@code size}, or if
+     *                                      {@code end} is less than {@code start}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static void checkPositionIndexes(
+        int start,
+        int end,
+        int size,
+        final Eid eid
+    ) {
+        if (start < 0 || end < start || end > size) {
+            throw fail(indexFailure(size), eid);
+        }
+    }
+
+    /**
+     * Ensures that {@code start} and {@code end} specify a valid
+     * <i>positions</i> in an array, list or string of size {@code size}, and
+     * are in order. A position index may range from zero to {@code size},
+     * inclusive.
+     *
+     * @param start         a user-supplied index identifying a starting
+     *                      position in an array, list or string
+     * @param end           a user-supplied index identifying an ending
+     *                      position in an array, list or string
+     * @param size          the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @throws EidIndexOutOfBoundsException if either index is negative or is
+     *                                      greater than {@code size}, or if
+     *                                      {@code end} is less than {@code start}
+     * @throws EidIllegalArgumentException  if {@code size} is negative
+     * @since 2.1.0
+     */
+    public static void checkPositionIndexes(
+        int start,
+        int end,
+        int size,
+        final Eid eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (start < 0 || end < start || end > size) {
+            throw fail(indexFailure(size), eid, messageFormat, parameters);
+        }
+    }
+
+    /**
+     * Ensures that a sub-range from {@code fromIndex}, inclusive, to
+     * {@code fromIndex + size}, exclusive, is within bounds of an array, list
+     * or string of {@code length}. This is an equivalent of Java 9
+     * {@code Objects.checkFromIndexSize} method.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkFromIndexSize(int, int, int, Eid)}
+     * instead.
+     *
+     * @param fromIndex     a user-supplied lower bound, inclusive, of a
+     *                      sub-range
+     * @param size          a size of a sub-range
+     * @param length        the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails; will
+     *                      be converted to {@link Eid}
+     * @return the value of {@code fromIndex}
+     * @throws EidIndexOutOfBoundsException if the sub-range is out of bounds
+     * @throws EidIllegalArgumentException  if {@code length} is negative
+     * @since 2.1.0
+     */
+    public static int checkFromIndexSize(
+        int fromIndex,
+        int size,
+        int length,
+        final String eid
+    ) {
+        if (isFromIndexSizeIllegal(fromIndex, size, length)) {
+            throw fail(indexFailure(length), eid);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Ensures that a sub-range from {@code fromIndex}, inclusive, to
+     * {@code fromIndex + size}, exclusive, is within bounds of an array, list
+     * or string of {@code length}. This is an equivalent of Java 9
+     * {@code Objects.checkFromIndexSize} method.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. If you are using {@code Validator},
+     * please use {@link #checkFromIndexSize(int, int, int, Eid, String, Object[])}
+     * instead.
+     *
+     * @param fromIndex     a user-supplied lower bound, inclusive, of a
+     *                      sub-range
+     * @param size          a size of a sub-range
+     * @param length        the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails; will
+     *                      be converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return the value of {@code fromIndex}
+     * @throws EidIndexOutOfBoundsException if the sub-range is out of bounds
+     * @throws EidIllegalArgumentException  if {@code length} is negative
+     * @since 2.1.0
+     */
+    public static int checkFromIndexSize(
+        int fromIndex,
+        int size,
+        int length,
+        final String eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (isFromIndexSizeIllegal(fromIndex, size, length)) {
+            throw fail(indexFailure(length), eid, messageFormat, parameters);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Ensures that a sub-range from {@code fromIndex}, inclusive, to
+     * {@code fromIndex + size}, exclusive, is within bounds of an array, list
+     * or string of {@code length}. This is an equivalent of Java 9
+     * {@code Objects.checkFromIndexSize} method.
+     *
+     * @param fromIndex     a user-supplied lower bound, inclusive, of a
+     *                      sub-range
+     * @param size          a size of a sub-range
+     * @param length        the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails
+     * @return the value of {@code fromIndex}
+     * @throws EidIndexOutOfBoundsException if the sub-range is out of bounds
+     * @throws EidIllegalArgumentException  if {@code length} is negative
+     * @since 2.1.0
+     */
+    public static int checkFromIndexSize(
+        int fromIndex,
+        int size,
+        int length,
+        final Eid eid
+    ) {
+        if (isFromIndexSizeIllegal(fromIndex, size, length)) {
+            throw fail(indexFailure(length), eid);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Ensures that a sub-range from {@code fromIndex}, inclusive, to
+     * {@code fromIndex + size}, exclusive, is within bounds of an array, list
+     * or string of {@code length}. This is an equivalent of Java 9
+     * {@code Objects.checkFromIndexSize} method.
+     *
+     * @param fromIndex     a user-supplied lower bound, inclusive, of a
+     *                      sub-range
+     * @param size          a size of a sub-range
+     * @param length        the size of that array, list or string
+     * @param eid           the exception ID to use if the check fails
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return the value of {@code fromIndex}
+     * @throws EidIndexOutOfBoundsException if the sub-range is out of bounds
+     * @throws EidIllegalArgumentException  if {@code length} is negative
+     * @since 2.1.0
+     */
+    public static int checkFromIndexSize(
+        int fromIndex,
+        int size,
+        int length,
+        final Eid eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (isFromIndexSizeIllegal(fromIndex, size, length)) {
+            throw fail(indexFailure(length), eid, messageFormat, parameters);
+        }
+        return fromIndex;
+    }
+
+    private static boolean isIndexAndSizeIllegal(int index, int size) {
+        return index < 0 || index >= size;
+    }
+
+    private static boolean isPositionIndexIllegal(int index, int size) {
+        return index < 0 || index > size;
+    }
+
+    private static boolean isFromIndexSizeIllegal(
+        int fromIndex, int size, int length
+    ) {
+        return (fromIndex | size | length) < 0 || size > length - fromIndex;
+    }
+
+    private static Failure indexFailure(int size) {
+        return size < 0
+            ? Failure.ILLEGAL_ARGUMENT
+            : Failure.INDEX_OUT_OF_BOUNDS;
+    }
+
+    /*
+    Failure paths are kept in separate methods, so public check methods stay
+    small enough to be inlined by JIT compiler into hot loops. Parameters are
+    boxed, and exceptions constructed only in those cold methods.
+     */
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final String eid
+    ) {
+        return failure.create(ensureEid(eid));
+    }
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final String eid,
+        final String messageFormat,
+        final Object[] parameters
+    ) {
+        return failure.create(ensureEid(eid).message(messageFormat, parameters));
+    }
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final String eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        return failure.create(ensureEid(eid).message(VERBATIM, messageSupplier.get()));
+    }
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final Eid eid
+    ) {
+        return failure.create(ensureEid(eid));
+    }
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final Eid eid,
+        final String messageFormat,
+        final Object[] parameters
+    ) {
+        return failure.create(ensureEid(eid).message(messageFormat, parameters));
+    }
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final Eid eid,
+        final Supplier<? extends CharSequence> messageSupplier
+    ) {
+        return failure.create(ensureEid(eid).message(VERBATIM, messageSupplier.get()));
+    }
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final String eid,
+        final String messageFormat,
+        @Nullable final Object p1
+    ) {
+        return failure.create(ensureEid(eid).message(messageFormat, p1));
+    }
+
+    private static EidRuntimeException fail(
+        Failure failure,
+        @Nullable final String eid,
+        final String messageFormat,
+        @Nullable final Object p1,
+        @Nullable final Object p2
+    ) {
+        return failure.create(ensureEid(eid).message(messageFormat, p1, p2));
+    }
+
+    private enum Failure {
+        ILLEGAL_ARGUMENT {
+            @Override
+            EidRuntimeException create(Eid eid) {
+                return new EidIllegalArgumentException(eid);
+            }
+
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidIllegalArgumentException(message);
+            }
+        },
+        ILLEGAL_STATE {
+            @Override
+            EidRuntimeException create(Eid eid) {
+                return new EidIllegalStateException(eid);
+            }
+
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidIllegalStateException(message);
+            }
+        },
+        NULL_POINTER {
+            @Override
+            EidRuntimeException create(Eid eid) {
+                return new EidNullPointerException(eid);
+            }
+
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidNullPointerException(message);
+            }
+        },
+        INDEX_OUT_OF_BOUNDS {
+            @Override
+            EidRuntimeException create(Eid eid) {
+                return new EidIndexOutOfBoundsException(eid);
+            }
+
+            @Override
+            EidRuntimeException create(EidMessage message) {
+                return new EidIndexOutOfBoundsException(message);
+            }
+        };
+
+        abstract EidRuntimeException create(Eid eid);
 
-    private static boolean isSizeIllegal(int size) {
-        return size < 0;
+        abstract EidRuntimeException create(EidMessage message);
     }
 }
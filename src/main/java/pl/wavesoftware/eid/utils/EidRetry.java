@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static pl.wavesoftware.eid.utils.EidUtil.ensureEid;
+
+/**
+ * <h3>Retry of try to execute blocks</h3>
+ * Executes an unsafe code block, retrying it on transient failures, with a
+ * given {@link Backoff} policy. The same Eid ID is used for all attempts, and
+ * the {@link EidRuntimeException} is created only once, when attempts run out
+ * or a failure shouldn't be retried. Failed attempts before that don't allocate
+ * any exceptions.
+ * <p>
+ * Retry is immutable and thread safe, so it can be built once and reused.
+ * It counts attempts, retries and failures of all executions.
+ * <p>
+ * Example:
+ * <pre>
+ * private static final EidRetry RETRY = EidRetry.builder("20261019:135527")
+ *     .maxAttempts(5)
+ *     .backoff(Backoff.jittered(
+ *         Backoff.exponential(100, 2000, TimeUnit.MILLISECONDS)
+ *     ))
+ *     .retryOn(new EidRetry.RetryPredicate() {
+ *         &#64;Override
+ *         public boolean shouldRetry(Exception exception) {
+ *             return exception instanceof IOException;
+ *         }
+ *     })
+ *     .build();
+ * // [..]
+ * Response response = RETRY.tryToExecute(new UnsafeSupplier&lt;Response&gt;() {
+ *     &#64;Override
+ *     public Response get() throws IOException {
+ *         return client.call(request);
+ *     }
+ * });
+ * </pre>
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public final class EidRetry {
+
+    @Nullable
+    private final Eid eid;
+    @Nullable
+    private final String id;
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final RetryPredicate predicate;
+    private final Sleeper sleeper;
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private EidRetry(Builder builder) {
+        this.eid = builder.eid;
+        this.id = builder.id;
+        this.maxAttempts = builder.maxAttempts;
+        this.backoff = builder.backoff;
+        this.predicate = builder.predicate;
+        this.sleeper = builder.sleeper;
+    }
+
+    /**
+     * Creates a builder of retry with given Eid.
+     *
+     * @param eid unique developer identifier from date for ex.:
+     *            "20150716:123200"
+     * @return a builder of retry
+     */
+    public static Builder builder(Eid eid) {
+        return new Builder(ensureEid(eid), null);
+    }
+
+    /**
+     * Creates a builder of retry with given Eid.
+     * <p>
+     * Please, note that for performance reasons, Eid is not evaluated until
+     * it's needed. Each failed execution gets its own Eid, with a unique ID.
+     *
+     * @param eid unique developer identifier from date for ex.:
+     *            "20150716:123200"
+     * @return a builder of retry
+     */
+    public static Builder builder(String eid) {
+        return new Builder(null, eid);
+    }
+
+    /**
+     * Tries to execute code in given unsafe supplier code block, retrying it
+     * while it fails with exceptions accepted by retry predicate, up to
+     * maximum number of attempts. When attempts run out, or exception
+     * shouldn't be retried, it will gets rethrown as a
+     * {@link EidRuntimeException} with eid of this retry.
+     *
+     * @param <R>      return type
+     * @param supplier unsafe supplier code to be executed within a try-catch
+     *                 block
+     * @return A block of code return type, if exception is not thrown
+     * @throws EidRuntimeException if code block thrown any exception, in
+     *                             last attempt, which in that case is wrapped
+     *                             in EidRuntimeException
+     */
+    public <R> R tryToExecute(UnsafeSupplier<R> supplier) {
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            attempts.incrementAndGet();
+            try {
+                return supplier.get();
+            } catch (Exception throwable) {
+                awaitRetry(attempt, throwable);
+            }
+        }
+    }
+
+    /**
+     * Tries to execute code in given unsafe procedure code block, retrying it
+     * while it fails with exceptions accepted by retry predicate, up to
+     * maximum number of attempts. When attempts run out, or exception
+     * shouldn't be retried, it will gets rethrown as a
+     * {@link EidRuntimeException} with eid of this retry.
+     *
+     * @param procedure unsafe procedure code to be executed within a try-catch
+     *                  block
+     * @throws EidRuntimeException if code block thrown any exception, in
+     *                             last attempt, which in that case is wrapped
+     *                             in EidRuntimeException
+     */
+    public void tryToExecute(final UnsafeProcedure procedure) {
+        tryToExecute(new UnsafeSupplier<Void>() {
+            @Override
+            public Void get() throws Exception {
+                procedure.execute();
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Gets a number of all attempts made by this retry, including the first
+     * ones.
+     *
+     * @return a number of attempts
+     */
+    public long getAttempts() {
+        return attempts.get();
+    }
+
+    /**
+     * Gets a number of retries made by this retry, that's attempts made after
+     * a failure.
+     *
+     * @return a number of retries
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * Gets a number of executions, that failed with exception, after running
+     * out of attempts or because the exception shouldn't be retried.
+     *
+     * @return a number of failed executions
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    private void awaitRetry(int attempt, Exception throwable) {
+        if (attempt >= maxAttempts || !predicate.shouldRetry(throwable)) {
+            failures.incrementAndGet();
+            throw new EidRuntimeException(failureEid(), throwable);
+        }
+        try {
+            sleeper.sleep(backoff.delayMillis(attempt));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failures.incrementAndGet();
+            throw new EidRuntimeException(failureEid(), throwable);
+        }
+        retries.incrementAndGet();
+    }
+
+    private Eid failureEid() {
+        if (eid != null) {
+            return eid;
+        }
+        return ensureEid(id);
+    }
+
+    /**
+     * A predicate, that tells which exceptions should be retried.
+     */
+    public interface RetryPredicate {
+        /**
+         * Checks if execution, that failed with given exception, should be
+         * retried.
+         *
+         * @param exception an exception thrown by code block
+         * @return true, if execution should be retried
+         */
+        boolean shouldRetry(Exception exception);
+    }
+
+    /**
+     * A sleeper, that waits between attempts. It can be replaced, for ex.:
+     * in tests, to not wait at all.
+     */
+    public interface Sleeper {
+        /**
+         * Waits given amount of time.
+         *
+         * @param millis a time to wait in milliseconds
+         * @throws InterruptedException if current thread is interrupted while
+         *                              waiting
+         */
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * A builder of {@link EidRetry}. By default, it makes 3 attempts, with
+     * exponential backoff from 100 milliseconds up to 10 seconds, retrying
+     * all exceptions.
+     */
+    public static final class Builder {
+        private static final int DEFAULT_MAX_ATTEMPTS = 3;
+        private static final long DEFAULT_INITIAL_DELAY = 100L;
+        private static final long DEFAULT_MAXIMUM_DELAY = 10000L;
+
+        @Nullable
+        private final Eid eid;
+        @Nullable
+        private final String id;
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Backoff backoff = Backoff.exponential(
+            DEFAULT_INITIAL_DELAY, DEFAULT_MAXIMUM_DELAY, TimeUnit.MILLISECONDS
+        );
+        private RetryPredicate predicate = Always.INSTANCE;
+        private Sleeper sleeper = ThreadSleeper.INSTANCE;
+
+        private Builder(@Nullable Eid eid, @Nullable String id) {
+            this.eid = eid;
+            this.id = id;
+        }
+
+        /**
+         * Sets a maximum number of attempts, including the first one.
+         *
+         * @param maxAttempts a maximum number of attempts, at least 1
+         * @return this builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new EidIllegalArgumentException(
+                    "20261019:135723",
+                    "Max attempts must be at least 1, but was " + maxAttempts
+                );
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets a backoff policy, that tells how long to wait before retries.
+         *
+         * @param backoff a backoff policy
+         * @return this builder
+         */
+        public Builder backoff(Backoff backoff) {
+            this.backoff = backoff;
+            return this;
+        }
+
+        /**
+         * Sets a predicate, that tells which exceptions should be retried.
+         *
+         * @param predicate a retry predicate
+         * @return this builder
+         */
+        public Builder retryOn(RetryPredicate predicate) {
+            this.predicate = predicate;
+            return this;
+        }
+
+        /**
+         * Sets a sleeper, that waits between attempts.
+         *
+         * @param sleeper a sleeper
+         * @return this builder
+         */
+        public Builder sleeper(Sleeper sleeper) {
+            this.sleeper = sleeper;
+            return this;
+        }
+
+        /**
+         * Builds a retry.
+         *
+         * @return a retry
+         */
+        public EidRetry build() {
+            return new EidRetry(this);
+        }
+    }
+
+    private enum Always implements RetryPredicate {
+        INSTANCE;
+
+        @Override
+        public boolean shouldRetry(Exception exception) {
+            return true;
+        }
+    }
+
+    private enum ThreadSleeper implements Sleeper {
+        INSTANCE;
+
+        @Override
+        public void sleep(long millis) throws InterruptedException {
+            if (millis > 0) {
+                Thread.sleep(millis);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.exceptions.EidValidationException;
+
+import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static pl.wavesoftware.eid.utils.EidUtil.ensureEid;
+
+/**
+ * A validation context, that records failed checks instead of throwing an
+ * exception on first of them. Each failed check is recorded as an Eid message,
+ * that is formatted lazily, so no exception nor stack trace is created for it.
+ * At the end, all violations can be reported at once with
+ * {@link #throwIfInvalid(String)} or retrieved with {@link #getViolations()}.
+ * <p>
+ * Example:
+ * <pre>
+ * EidValidation validation = new EidValidation();
+ * validation.checkNotNull(request.getName(), "20261019:130914", "Name is required");
+ * validation.checkArgument(
+ *     request.getAge() &gt;= 0, "20261019:130929",
+ *     "Age can't be negative, but was {0}", request.getAge()
+ * );
+ * validation.throwIfInvalid("20261019:130942");
+ * </pre>
+ * This class isn't thread safe. Use a new instance for each validation.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @see EidPreconditions
+ * @since 2.1.0
+ */
+public final class EidValidation {
+
+    @Nullable
+    private List<EidMessage> violations;
+
+    /**
+     * Checks the truth of an expression, and records a violation if it's
+     * false.
+     *
+     * @param expression    a boolean expression
+     * @param eid           the exception ID to use if the check fails; will be
+     *                      converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return true, if the check passed
+     */
+    public boolean checkArgument(
+        final boolean expression,
+        final String eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (!expression) {
+            record(ensureEid(eid), messageFormat, parameters);
+        }
+        return expression;
+    }
+
+    /**
+     * Checks the truth of an expression, and records a violation if it's
+     * false.
+     *
+     * @param expression    a boolean expression
+     * @param eid           the exception ID to use if the check fails
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return true, if the check passed
+     */
+    public boolean checkArgument(
+        final boolean expression,
+        final Eid eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        if (!expression) {
+            record(ensureEid(eid), messageFormat, parameters);
+        }
+        return expression;
+    }
+
+    /**
+     * Checks that an object reference is not null, and records a violation if
+     * it is.
+     *
+     * @param reference     an object reference
+     * @param eid           the exception ID to use if the check fails; will be
+     *                      converted to {@link Eid}
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return true, if the check passed
+     */
+    public boolean checkNotNull(
+        @Nullable final Object reference,
+        final String eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        return checkArgument(
+            reference != null, eid, messageFormat, parameters
+        );
+    }
+
+    /**
+     * Checks that an object reference is not null, and records a violation if
+     * it is.
+     *
+     * @param reference     an object reference
+     * @param eid           the exception ID to use if the check fails
+     * @param messageFormat message format in form accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @param parameters    parameters fo message format in accepted by
+     *                      {@link MessageFormat#format(String, Object...)}
+     * @return true, if the check passed
+     */
+    public boolean checkNotNull(
+        @Nullable final Object reference,
+        final Eid eid,
+        final String messageFormat,
+        final Object... parameters
+    ) {
+        return checkArgument(
+            reference != null, eid, messageFormat, parameters
+        );
+    }
+
+    /**
+     * Checks if there was no violation recorded.
+     *
+     * @return true, if all checks passed
+     */
+    public boolean isValid() {
+        return violations == null;
+    }
+
+    /**
+     * Gets recorded violations, in order they were recorded.
+     *
+     * @return an unmodifiable list of violations, empty if all checks passed
+     */
+    public List<EidMessage> getViolations() {
+        if (violations == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Throws an aggregated exception if any violation was recorded.
+     *
+     * @param eid the exception ID to use if there are violations; will be
+     *            converted to {@link Eid}
+     * @throws EidValidationException if any check failed
+     */
+    public void throwIfInvalid(final String eid) {
+        if (violations != null) {
+            throw new EidValidationException(ensureEid(eid), violations);
+        }
+    }
+
+    /**
+     * Throws an aggregated exception if any violation was recorded.
+     *
+     * @param eid the exception ID to use if there are violations
+     * @throws EidValidationException if any check failed
+     */
+    public void throwIfInvalid(final Eid eid) {
+        if (violations != null) {
+            throw new EidValidationException(ensureEid(eid), violations);
+        }
+    }
+
+    private void record(Eid eid, String messageFormat, Object[] parameters) {
+        if (violations == null) {
+            violations = new ArrayList<EidMessage>();
+        }
+        violations.add(eid.message(messageFormat, parameters));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import pl.wavesoftware.eid.api.Eid;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+
+/**
+ * This unsafe consumer can be used to execute a code block for each item of
+ * a collection, that can throw some checked Exception, that you would like
+ * not to process, because they are unrecoverable bugs.
+ * <p>
+ * To be used with
+ * {@link EidExecutions#tryToExecuteAll(Collection, UnsafeConsumer, Eid, Executor)} or
+ * {@link EidExecutions#tryToExecuteAll(Collection, UnsafeConsumer, String, Executor)}
+ * methods
+ *
+ * @param <T> a type of consumed items
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public interface UnsafeConsumer<T> {
+    /**
+     * Executes a consumer function that can throw a checked exception to be cough
+     *
+     * @param item an item to be consumed
+     * @throws Exception this exception should be set to concrete one ex. IOException
+     */
+    @SuppressWarnings("squid:S00112")
+    void accept(T item) throws Exception;
+}
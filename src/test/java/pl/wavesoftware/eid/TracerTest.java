@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid;
+
+import org.junit.Rule;
+import org.junit.Test;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.Tracer;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class TracerTest {
+
+    private final List<Tracer.Activity> activities = new ArrayList<Tracer.Activity>();
+    private final List<String> refs = new ArrayList<String>();
+    private final List<Long> durations = new ArrayList<Long>();
+
+    @Rule
+    public final ConfiguratorRule configurator = new ConfiguratorRule(new Configurator() {
+        @Override
+        public void configure(ConfigurationBuilder configuration) {
+            ((ExtendedConfigurationBuilder) configuration).tracer(new Tracer() {
+                @Override
+                public void trace(Activity activity, Eid eid, long nanos) {
+                    activities.add(activity);
+                    refs.add(eid.getRef());
+                    durations.add(nanos);
+                }
+            });
+        }
+    });
+
+    @Test
+    public void testTracesEidActivity() {
+        // given
+        Eid eid = new DefaultEid("20261019:153402", "order-7");
+
+        // when
+        String formatted = eid.toString();
+        EidMessage message = eid.message("Order {0} is invalid", 7);
+        String rendered = message.toString();
+
+        // then
+        assertThat(formatted).startsWith("[20261019:153402|order-7]<");
+        assertThat(rendered).endsWith(" => Order 7 is invalid");
+        assertThat(activities).containsExactly(
+            Tracer.Activity.CREATION,
+            Tracer.Activity.FORMATTING,
+            Tracer.Activity.MESSAGE,
+            Tracer.Activity.MESSAGE_FORMATTING
+        );
+        assertThat(refs).containsOnly("order-7");
+        for (Long duration : durations) {
+            assertThat(duration).isGreaterThanOrEqualTo(0L);
+        }
+    }
+
+    @Test
+    public void testTracesExceptions() {
+        // when
+        EidIllegalStateException exception =
+            new EidIllegalStateException("20261019:153438");
+
+        // then
+        assertThat(exception.getEid().getId()).isEqualTo("20261019:153438");
+        assertThat(activities).containsExactly(
+            Tracer.Activity.CREATION,
+            Tracer.Activity.FORMATTING,
+            Tracer.Activity.EXCEPTION
+        );
+        assertThat(durations.get(2)).isEqualTo(0L);
+    }
+}
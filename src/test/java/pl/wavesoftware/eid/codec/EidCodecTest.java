@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.codec;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import pl.wavesoftware.eid.ConstantUniqueIdRule;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.context.EidContext;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidCodecTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final ConstantUniqueIdRule uniqueIdRule =
+        new ConstantUniqueIdRule("g0qrwx");
+
+    @Test
+    public void testEncodeEid() {
+        // given
+        Eid eid = new DefaultEid("20261019:103011");
+        ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(eid));
+
+        // when
+        EidCodec.encode(eid, buffer);
+        buffer.flip();
+        Eid decoded = EidCodec.decodeEid(buffer);
+
+        // then
+        assertThat(buffer.remaining()).isZero();
+        assertThat(EidCodec.sizeOf(eid)).isEqualTo(25);
+        assertThat(decoded.getId()).isEqualTo("20261019:103011");
+        assertThat(decoded.getRef()).isNull();
+        assertThat(decoded.hasRef()).isFalse();
+        assertThat(decoded.getUnique()).isEqualTo("g0qrwx");
+        assertThat(decoded.toString()).isEqualTo(eid.toString());
+    }
+
+    @Test
+    public void testEncodeEid_Ref() {
+        // given
+        Eid eid = new DefaultEid("20261019:103102", "ORA-38101");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+        // when
+        EidCodec.encode(eid, buffer);
+        buffer.flip();
+        Eid decoded = EidCodec.decodeEid(buffer);
+
+        // then
+        assertThat(decoded.getRef()).isEqualTo("ORA-38101");
+        assertThat(decoded.hasRef()).isTrue();
+        assertThat(decoded.toString())
+            .isEqualTo("[20261019:103102|ORA-38101]<g0qrwx>");
+    }
+
+    @Test
+    public void testEncodeMessage() {
+        // given
+        EidMessage message = new DefaultEid("20261019:103148")
+            .message("Zażółć gęślą jaźń, {0} € 😀", "€");
+        ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(message));
+
+        // when
+        EidCodec.encode(message, buffer);
+        buffer.flip();
+        EidMessage decoded = EidCodec.decodeMessage(buffer);
+
+        // then
+        assertThat(buffer.remaining()).isZero();
+        assertThat(decoded.getFormattedMessage().toString())
+            .isEqualTo(message.getFormattedMessage().toString());
+        assertThat(decoded.toString()).isEqualTo(message.toString());
+        assertThat(decoded.length()).isEqualTo(message.length());
+        assertThat(decoded.getEid().getUnique()).isEqualTo("g0qrwx");
+    }
+
+    @Test
+    public void testEncodeStackTrace() {
+        // given
+        StackTraceElement[] stackTrace = {
+            new StackTraceElement("pl.Billing", "charge", "Billing.java", 42),
+            new StackTraceElement("pl.Billing", "pay", "Billing.java", 17),
+            new StackTraceElement("pl.Native", "call", null, -2)
+        };
+        ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(stackTrace));
+
+        // when
+        EidCodec.encode(stackTrace, buffer);
+        buffer.flip();
+        StackTraceElement[] decoded = EidCodec.decodeStackTrace(buffer);
+
+        // then
+        assertThat(buffer.remaining()).isZero();
+        assertThat(decoded).containsExactly(stackTrace);
+    }
+
+    @Test
+    public void testEncodeContext() {
+        // given
+        EidContext context = EidContext.EMPTY
+            .with("user", "jdoe")
+            .with("order", "Zażółć 😀");
+        ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(context));
+
+        // when
+        EidCodec.encode(context, buffer);
+        buffer.flip();
+        EidContext decoded = EidCodec.decodeContext(buffer);
+
+        // then
+        assertThat(buffer.remaining()).isZero();
+        assertThat(decoded.toMap()).isEqualTo(context.toMap());
+    }
+
+    @Test
+    public void testEncodeMessage_UnpairedSurrogate() {
+        // given
+        EidMessage message = new DefaultEid("20261019:103237")
+            .message("broken \ud83d pair");
+        ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(message));
+
+        // when
+        EidCodec.encode(message, buffer);
+        buffer.flip();
+        EidMessage decoded = EidCodec.decodeMessage(buffer);
+
+        // then
+        assertThat(decoded.getFormattedMessage().toString())
+            .isEqualTo("broken ? pair");
+    }
+
+    @Test
+    public void testSizeComparedToSerialization() throws IOException {
+        // given
+        EidMessage message = new DefaultEid("20261019:103321")
+            .message("Invalid transaction: {0}", 42);
+
+        // when
+        int encoded = EidCodec.sizeOf(message);
+        int serialized = serialize(message).length;
+
+        // then
+        assertThat(encoded * 10).isLessThan(serialized);
+    }
+
+    @Test
+    public void testEncode_Overflow() {
+        // given
+        Eid eid = new DefaultEid("20261019:103402");
+        ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(eid) - 1);
+
+        // then
+        thrown.expect(BufferOverflowException.class);
+
+        // when
+        try {
+            EidCodec.encode(eid, buffer);
+        } finally {
+            assertThat(buffer.position()).isZero();
+        }
+    }
+
+    @Test
+    public void testDecode_InvalidKind() {
+        // given
+        Eid eid = new DefaultEid("20261019:103439");
+        ByteBuffer buffer = ByteBuffer.allocate(EidCodec.sizeOf(eid));
+        EidCodec.encode(eid, buffer);
+        buffer.flip();
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("Expected record kind 2, but got 1");
+
+        // when
+        EidCodec.decodeMessage(buffer);
+    }
+
+    @Test
+    public void testDecode_Malformed() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+            1, 3, (byte) 0xC3, 'a', 1, 2, 'x'
+        });
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("Malformed UTF-8 sequence at position 3");
+
+        // when
+        EidCodec.decodeEid(buffer);
+    }
+
+    @Test
+    public void testDecode_Truncated() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+            1, 16, '2', '0'
+        });
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("String of 15 bytes exceeds 2 remaining bytes");
+
+        // when
+        EidCodec.decodeEid(buffer);
+    }
+
+    @Test
+    public void testDecode_NegativeLength() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+            1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 'x'
+        });
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("String length 4294967295 is malformed");
+
+        // when
+        EidCodec.decodeEid(buffer);
+    }
+
+    @Test
+    public void testDecode_InvalidLeadByte() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+            1, 3, 'a', (byte) 0xF8, 1, 2, 'x'
+        });
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("Malformed UTF-8 sequence at position 3");
+
+        // when
+        EidCodec.decodeEid(buffer);
+    }
+
+    @Test
+    public void testDecode_CodePointOutOfRange() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+            1, 5, (byte) 0xF7, (byte) 0xBF, (byte) 0xBF, (byte) 0xBF, 1, 2, 'x'
+        });
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("Code point 1fffff is out of Unicode range");
+
+        // when
+        EidCodec.decodeEid(buffer);
+    }
+
+    @Test
+    public void testDecode_SequenceOverrunsString() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+            1, 2, (byte) 0xE2, (byte) 0x82, (byte) 0xAC, 1, 2, 'x'
+        });
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("overruns the string end at 3");
+
+        // when
+        EidCodec.decodeEid(buffer);
+    }
+
+    @Test
+    public void testDecodeStackTrace_UnknownReference() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{3, 1, 5, 0, 0, 0});
+
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage("Unknown string reference 3");
+
+        // when
+        EidCodec.decodeStackTrace(buffer);
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream stream = new ObjectOutputStream(bytes);
+        try {
+            stream.writeObject(object);
+        } finally {
+            stream.close();
+        }
+        return bytes.toByteArray();
+    }
+}
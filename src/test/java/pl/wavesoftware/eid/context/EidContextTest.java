@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.context;
+
+import org.junit.Test;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidContextTest {
+
+    @Test
+    public void testWith() {
+        // given
+        EidContext base = EidContext.EMPTY
+            .with("tenant", "acme")
+            .with("user", "jdoe");
+
+        // when
+        EidContext changed = base
+            .with("user", "mrsmith")
+            .with("tenant", null);
+        Map<String, String> map = changed.toMap();
+
+        // then
+        assertThat(base.get("user")).isEqualTo("jdoe");
+        assertThat(base.get("tenant")).isEqualTo("acme");
+        assertThat(changed.get("user")).isEqualTo("mrsmith");
+        assertThat(changed.get("tenant")).isNull();
+        assertThat(map).containsOnlyKeys("user");
+        assertThat(changed.toString()).isEqualTo("{user=mrsmith}");
+        assertThat(EidContext.EMPTY.isEmpty()).isTrue();
+        assertThat(EidContext.EMPTY.with("user", null).isEmpty()).isTrue();
+        assertThat(base.with("user", null).isEmpty()).isFalse();
+        assertThat(base.with("user", null).with("tenant", null).isEmpty())
+            .isTrue();
+    }
+
+    @Test
+    public void testScopes() {
+        // given
+        EidContext before = EidContext.current();
+
+        // when
+        EidContext.Scope outer = EidContext.put("request", "7f3a");
+        EidContext.Scope inner = EidContext.put("user", "jdoe");
+        EidContext nested = EidContext.current();
+        inner.close();
+        EidContext restored = EidContext.current();
+        outer.close();
+
+        // then
+        assertThat(nested.toMap())
+            .containsEntry("request", "7f3a")
+            .containsEntry("user", "jdoe");
+        assertThat(restored.toMap()).containsOnlyKeys("request");
+        assertThat(EidContext.current()).isSameAs(before);
+    }
+
+    @Test
+    public void testCapturedByException() {
+        // given
+        EidRuntimeException exception;
+        EidContext.Scope scope = EidContext.put("request", "7f3a");
+
+        // when
+        try {
+            exception = new EidIllegalStateException("20261019:160604");
+        } finally {
+            scope.close();
+        }
+
+        // then
+        assertThat(exception.getContext().get("request")).isEqualTo("7f3a");
+        assertThat(new EidRuntimeException("20261019:160619").getContext().isEmpty())
+            .isTrue();
+    }
+
+    @Test
+    public void testAttachToOtherThread() throws InterruptedException {
+        // given
+        final EidContext context = EidContext.EMPTY.with("request", "7f3a");
+        final EidRuntimeException[] thrown = new EidRuntimeException[1];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                EidContext.Scope scope = EidContext.attach(context);
+                try {
+                    thrown[0] = new EidRuntimeException("20261019:160631");
+                } finally {
+                    scope.close();
+                }
+            }
+        });
+
+        // when
+        thread.start();
+        thread.join();
+
+        // then
+        assertThat(thrown[0].getContext()).isSameAs(context);
+    }
+}
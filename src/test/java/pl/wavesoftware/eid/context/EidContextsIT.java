@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.context;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.testing.JavaAgentSkip;
+import pl.wavesoftware.testing.JmhCleaner;
+import pl.wavesoftware.testing.JvmArgs;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures an overhead of submitting a task to an executor, that propagates
+ * an Eid context, compared to a bare executor. Both run tasks in a calling
+ * thread, so a cost of handing tasks over to other threads, that would hide
+ * the overhead, isn't measured.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidContextsIT {
+
+    private static final int THREADS = 4;
+    private static final double OVERHEAD_THRESHOLD_NANOS = 30d;
+    private static final double ALLOCATION_THRESHOLD = 64d;
+    private static final double NANOS_IN_MICROSECOND = 1000d;
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+    private static final Logger LOG =
+        LoggerFactory.getLogger(EidContextsIT.class);
+
+    @ClassRule
+    public static RuleChain chain = RuleChain
+        .outerRule(new JmhCleaner(EidContextsIT.class))
+        .around(JavaAgentSkip.ifActive());
+
+    @Test
+    public void benchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .threads(THREADS)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .jvmArgs(JvmArgs.get())
+            .build();
+
+        Runner runner = new Runner(opt);
+        Collection<RunResult> results = runner.run();
+        assertThat(results).hasSize(2);
+
+        RunResult propagating = getResult(results, "propagating");
+        double bare = cpuNanosPerOperation(getResult(results, "bare"));
+        double cost = cpuNanosPerOperation(propagating);
+        double overhead = cost - bare;
+        double allocated = getAllocationRate(propagating);
+
+        LOG.info(String.format(
+            "Submission on %d threads: %.2f ns of CPU time, bare executor = "
+                + "%.2f ns ==> overhead: %.2f ns and %.3f bytes allocated per "
+                + "operation, maximum threshold: %.2f ns",
+            THREADS, cost, bare, overhead, allocated, OVERHEAD_THRESHOLD_NANOS
+        ));
+        assertThat(overhead).isLessThanOrEqualTo(OVERHEAD_THRESHOLD_NANOS);
+        assertThat(allocated).isLessThan(ALLOCATION_THRESHOLD);
+    }
+
+    @Benchmark
+    public void bare(Submission submission) {
+        submission.bare.execute(submission.task);
+    }
+
+    @Benchmark
+    public void propagating(Submission submission) {
+        submission.propagating.execute(submission.task);
+    }
+
+    @State(Scope.Thread)
+    public static class Submission {
+        private final Executor bare = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+        private final Executor propagating = EidContexts.propagating(bare);
+        private final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                EidContext.current();
+            }
+        };
+        private EidContext.Scope scope;
+
+        @Setup
+        public void setup() {
+            scope = EidContext.put("request", "7f3a");
+        }
+
+        @TearDown
+        public void tearDown() {
+            scope.close();
+        }
+    }
+
+    private static double cpuNanosPerOperation(RunResult result) {
+        int running = Math.min(THREADS, Runtime.getRuntime().availableProcessors());
+        double opsPerMicrosecond =
+            result.getAggregatedResult().getPrimaryResult().getScore();
+        return NANOS_IN_MICROSECOND * running / opsPerMicrosecond;
+    }
+
+    private static RunResult getResult(Collection<RunResult> results, String name) {
+        String fullName = String.format(
+            "%s.%s", EidContextsIT.class.getName(), name
+        );
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().equals(fullName)) {
+                return result;
+            }
+        }
+        throw new EidRuntimeException("20261019:160811", "Invalid name: " + name);
+    }
+
+    private static double getAllocationRate(RunResult result) {
+        Map<String, Result> secondary = result.getSecondaryResults();
+        for (Map.Entry<String, Result> entry : secondary.entrySet()) {
+            if (entry.getKey().endsWith(ALLOCATION_RATE)) {
+                return entry.getValue().getScore();
+            }
+        }
+        throw new EidRuntimeException(
+            "20261019:160833",
+            "No allocation rate for " + result.getParams().getBenchmark()
+        );
+    }
+}
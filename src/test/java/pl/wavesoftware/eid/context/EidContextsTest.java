@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.context;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidContextsTest {
+
+    private ExecutorService pool;
+
+    @Before
+    public void before() {
+        pool = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void after() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testSubmit() throws InterruptedException {
+        // given
+        ExecutorService executor = EidContexts.propagating(pool);
+        Future<EidRuntimeException> future;
+        EidContext.Scope scope = EidContext.put("request", "7f3a");
+
+        // when
+        try {
+            future = executor.submit(new Callable<EidRuntimeException>() {
+                @Override
+                public EidRuntimeException call() {
+                    return new EidIllegalStateException("20261019:160715");
+                }
+            });
+        } finally {
+            scope.close();
+        }
+
+        // then
+        assertThat(get(future).getContext().get("request")).isEqualTo("7f3a");
+        assertThat(get(pool.submit(new Current())).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testExecute() throws InterruptedException {
+        // given
+        Executor executor = EidContexts.propagating((Executor) pool);
+        final EidContext[] seen = new EidContext[1];
+        EidContext context = EidContext.EMPTY.with("tenant", "acme");
+        EidContext.Scope scope = EidContext.attach(context);
+
+        // when
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    seen[0] = EidContext.current();
+                }
+            });
+        } finally {
+            scope.close();
+        }
+        get(pool.submit(new Current()));
+
+        // then
+        assertThat(seen[0]).isSameAs(context);
+    }
+
+    @Test
+    public void testInvokeAll() throws InterruptedException {
+        // given
+        ExecutorService executor = EidContexts.propagating(pool);
+        List<Current> tasks = Arrays.asList(new Current(), new Current());
+        List<Future<EidContext>> futures;
+        EidContext.Scope scope = EidContext.put("user", "jdoe");
+
+        // when
+        try {
+            futures = executor.invokeAll(tasks);
+        } finally {
+            scope.close();
+        }
+
+        // then
+        for (Future<EidContext> future : futures) {
+            assertThat(get(future).get("user")).isEqualTo("jdoe");
+        }
+    }
+
+    @Test
+    public void testRestoresContextOfRunningThread() throws Exception {
+        // given
+        EidContext own = EidContext.EMPTY.with("thread", "worker");
+        EidContext.Scope scope = EidContext.attach(own);
+
+        // when
+        try {
+            EidContext inner = EidContexts.wrap(new Current()).call();
+            Callable<EidContext> other;
+            EidContext.Scope nested = EidContext.put("thread", "other");
+            try {
+                other = EidContexts.wrap(new Current());
+            } finally {
+                nested.close();
+            }
+            EidContext ran = other.call();
+
+            // then
+            assertThat(inner).isSameAs(own);
+            assertThat(ran.get("thread")).isEqualTo("other");
+            assertThat(EidContext.current()).isSameAs(own);
+        } finally {
+            scope.close();
+        }
+    }
+
+    private static <T> T get(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            throw new EidIllegalStateException("20261019:160742", ex);
+        }
+    }
+
+    private static final class Current implements Callable<EidContext> {
+        @Override
+        public EidContext call() {
+            return EidContext.current();
+        }
+    }
+}
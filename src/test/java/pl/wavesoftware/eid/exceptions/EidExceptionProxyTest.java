@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.exceptions;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.ConfigurationSystem;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.context.EidContext;
+import pl.wavesoftware.eid.system.EidModule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidExceptionProxyTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void testRoundTrip() throws IOException, ClassNotFoundException {
+        // given
+        TimeoutException cause = new TimeoutException("Connection timed out");
+        EidIllegalStateException exception = new EidIllegalStateException(
+            "20261019:112301", "Can't reach billing service", cause
+        );
+
+        // when
+        EidIllegalStateException restored = roundTrip(exception);
+
+        // then
+        assertThat(restored).isExactlyInstanceOf(EidIllegalStateException.class);
+        assertThat(restored.getMessage()).isEqualTo(exception.getMessage());
+        assertThat(restored.getEid().getId()).isEqualTo("20261019:112301");
+        assertThat(restored.getEid().getRef()).isNull();
+        assertThat(restored.getEid().getUnique())
+            .isEqualTo(exception.getEid().getUnique());
+        assertSameFrames(restored.getStackTrace(), exception.getStackTrace());
+        assertThat(restored.getCause()).isInstanceOf(TimeoutException.class);
+        assertThat(restored.getCause().getMessage())
+            .isEqualTo("Connection timed out");
+    }
+
+    @Test
+    public void testRoundTrip_AllKinds() throws IOException, ClassNotFoundException {
+        // given
+        EidRuntimeException[] exceptions = new EidRuntimeException[]{
+            new EidRuntimeException("20261019:112418", "ORA-38101"),
+            new EidIllegalArgumentException("20261019:112424"),
+            new EidIllegalStateException("20261019:112429"),
+            new EidIndexOutOfBoundsException("20261019:112433"),
+            new EidNullPointerException("20261019:112437")
+        };
+
+        for (EidRuntimeException exception : exceptions) {
+            // when
+            EidRuntimeException restored = roundTrip(exception);
+
+            // then
+            assertThat(restored).isExactlyInstanceOf(exception.getClass());
+            assertThat(restored.getMessage()).isEqualTo(exception.getMessage());
+            assertThat(restored.getCause()).isNull();
+        }
+    }
+
+    @Test
+    public void testRoundTrip_NestedEidCause() throws IOException, ClassNotFoundException {
+        // given
+        EidRuntimeException exception = new EidRuntimeException(
+            "20261019:112521",
+            new EidNullPointerException("20261019:112530")
+        );
+
+        // when
+        EidRuntimeException restored = roundTrip(exception);
+
+        // then
+        assertThat(restored.getCause())
+            .isExactlyInstanceOf(EidNullPointerException.class);
+        assertThat(((EidNullPointerException) restored.getCause()).getEid().getId())
+            .isEqualTo("20261019:112530");
+    }
+
+    @Test
+    public void testRoundTrip_Truncated() throws IOException, ClassNotFoundException {
+        // given
+        EidIllegalArgumentException exception = new EidIllegalArgumentException(
+            "20261019:112612", new TimeoutException()
+        );
+        ConfigurationSystem system = EidModule.MODULE
+            .getBinding()
+            .getConfigurationSystem();
+        Configurator saved = system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                ((ExtendedConfigurationBuilder) configuration)
+                    .serializedStackTraceDepth(2)
+                    .serializeCauses(false);
+            }
+        });
+
+        // when
+        EidIllegalArgumentException restored;
+        try {
+            restored = roundTrip(exception);
+        } finally {
+            system.configure(saved);
+        }
+
+        // then
+        assertThat(restored.getStackTrace()).hasSize(2);
+        assertSameFrames(
+            restored.getStackTrace(),
+            Arrays.copyOf(exception.getStackTrace(), 2)
+        );
+        assertThat(restored.getCause()).isNull();
+        assertThat(restored.getMessage()).isEqualTo(exception.getMessage());
+    }
+
+    @Test
+    public void testRoundTrip_Context() throws IOException, ClassNotFoundException {
+        // given
+        EidIllegalStateException exception;
+        EidContext.Scope scope = EidContext.put("request", "7f3a");
+        try {
+            exception = new EidIllegalStateException("20261019:160537");
+        } finally {
+            scope.close();
+        }
+
+        // when
+        EidIllegalStateException restored = roundTrip(exception);
+
+        // then
+        assertThat(restored.getContext().get("request")).isEqualTo("7f3a");
+        assertThat(restored.getContext().toMap())
+            .isEqualTo(exception.getContext().toMap());
+    }
+
+    @Test
+    public void testRoundTrip_LargeContextValue() throws IOException, ClassNotFoundException {
+        // given
+        char[] chars = new char[70000];
+        Arrays.fill(chars, '\u017c');
+        String large = new String(chars);
+        EidRuntimeException exception;
+        EidContext.Scope scope = EidContext.put("payload", large);
+        try {
+            exception = new EidRuntimeException("20261019:161542");
+        } finally {
+            scope.close();
+        }
+
+        // when
+        EidRuntimeException restored = roundTrip(exception);
+
+        // then
+        assertThat(restored.getContext().get("payload")).isEqualTo(large);
+    }
+
+    @Test
+    public void testRestoredIsNotAnOccurrence() throws IOException, ClassNotFoundException {
+        // given
+        EidRuntimeException exception = new EidRuntimeException("20261019:161518");
+        final List<Eid> occurred = new ArrayList<Eid>();
+        ConfigurationSystem system = EidModule.MODULE
+            .getBinding()
+            .getConfigurationSystem();
+        Configurator saved = system.configure(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                ((ExtendedConfigurationBuilder) configuration).occurrenceListener(new OccurrenceListener() {
+                    @Override
+                    public void onOccurrence(Eid eid, Throwable throwable) {
+                        occurred.add(eid);
+                    }
+                });
+            }
+        });
+        EidContext.Scope scope = EidContext.put("request", "9b1c");
+
+        // when
+        EidRuntimeException restored;
+        try {
+            restored = roundTrip(exception);
+        } finally {
+            scope.close();
+            system.configure(saved);
+        }
+
+        // then
+        assertThat(occurred).isEmpty();
+        assertThat(restored.getContext().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testSubclassUsesDefaultSerialization() throws IOException, ClassNotFoundException {
+        // given
+        CustomException exception = new CustomException(42);
+
+        // when
+        CustomException restored = roundTrip(exception);
+
+        // then
+        assertThat(restored.code).isEqualTo(42);
+        assertThat(restored.getMessage()).isEqualTo(exception.getMessage());
+    }
+
+    @Test
+    public void testReadExternal_OversizedLength() throws IOException, ClassNotFoundException {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeInt(Integer.MAX_VALUE);
+        output.close();
+        ObjectInputStream input = new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())
+        );
+
+        // then
+        thrown.expect(InvalidObjectException.class);
+        thrown.expectMessage("out of range: 2147483647");
+
+        // when
+        new EidExceptionProxy().readExternal(input);
+    }
+
+    @Test
+    public void testReadExternal_Truncated() throws IOException, ClassNotFoundException {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeInt(1 << 20);
+        output.write(new byte[100]);
+        output.close();
+        ObjectInputStream input = new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())
+        );
+
+        // then
+        thrown.expect(EOFException.class);
+
+        // when
+        new EidExceptionProxy().readExternal(input);
+    }
+
+    @Test
+    public void testSize() throws IOException {
+        // given
+        EidIllegalStateException exception = new EidIllegalStateException(
+            "20261019:112714", "Can't reach billing service"
+        );
+        CustomException custom = new CustomException(42);
+        custom.setStackTrace(exception.getStackTrace());
+
+        // when
+        int compact = serialize(exception).length;
+        int standard = serialize(custom).length;
+
+        // then
+        assertThat(compact).isLessThan(standard * 2 / 3);
+    }
+
+    /**
+     * Compares frames without class loader and module names, which are
+     * available only on Java 9+ and aren't serialized.
+     */
+    private static void assertSameFrames(
+        StackTraceElement[] actual, StackTraceElement[] expected
+    ) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i].getClassName())
+                .isEqualTo(expected[i].getClassName());
+            assertThat(actual[i].getMethodName())
+                .isEqualTo(expected[i].getMethodName());
+            assertThat(actual[i].getFileName())
+                .isEqualTo(expected[i].getFileName());
+            assertThat(actual[i].getLineNumber())
+                .isEqualTo(expected[i].getLineNumber());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Serializable> T roundTrip(T object)
+        throws IOException, ClassNotFoundException {
+        ObjectInputStream stream = new ObjectInputStream(
+            new ByteArrayInputStream(serialize(object))
+        );
+        try {
+            return (T) stream.readObject();
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream stream = new ObjectOutputStream(bytes);
+        try {
+            stream.writeObject(object);
+        } finally {
+            stream.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static final class CustomException extends EidIllegalStateException {
+        private static final long serialVersionUID = 20261019112758L;
+        private final int code;
+
+        CustomException(int code) {
+            super("20261019:112758", "Can't reach billing service");
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.exceptions;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.wavesoftware.testing.JavaAgentSkip;
+import pl.wavesoftware.testing.JmhCleaner;
+import pl.wavesoftware.testing.JvmArgs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares round trip of compact serialization proxy against default Java
+ * serialization of the same exception.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidExceptionSerializationIT {
+
+    private static final int PERCENT = 100;
+    private static final double SPEED_THRESHOLD = 0.9d;
+    private static final Logger LOG =
+        LoggerFactory.getLogger(EidExceptionSerializationIT.class);
+
+    @ClassRule
+    public static RuleChain chain = RuleChain
+        .outerRule(new JmhCleaner(EidExceptionSerializationIT.class))
+        .around(JavaAgentSkip.ifActive());
+
+    @Test
+    public void benchmark() throws Exception {
+        Exceptions exceptions = new Exceptions();
+        exceptions.setup();
+        int compactSize = serialize(exceptions.compact).length;
+        int standardSize = serialize(exceptions.standard).length;
+        LOG.info(String.format(
+            "Serialized size: compact = %d bytes vs default = %d bytes",
+            compactSize, standardSize
+        ));
+        assertThat(compactSize).isLessThan(standardSize);
+
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .threads(4)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .jvmArgs(JvmArgs.get())
+            .build();
+
+        Runner runner = new Runner(opt);
+        Collection<RunResult> results = runner.run();
+        assertThat(results).hasSize(2);
+
+        double standard = getScore(results, "standard");
+        double compact = getScore(results, "compact");
+        double ratio = compact / standard;
+
+        LOG.info(String.format(
+            "Round trip: default = %.2f ops / msec vs compact = %.2f ops / msec "
+                + "==> ratio: %.2f%%, minimum threshold: %.2f%%",
+            standard, compact, ratio * PERCENT, SPEED_THRESHOLD * PERCENT
+        ));
+        assertThat(ratio).isGreaterThanOrEqualTo(SPEED_THRESHOLD);
+    }
+
+    @Benchmark
+    public Object standard(Exceptions exceptions)
+        throws IOException, ClassNotFoundException {
+        return deserialize(serialize(exceptions.standard));
+    }
+
+    @Benchmark
+    public Object compact(Exceptions exceptions)
+        throws IOException, ClassNotFoundException {
+        return deserialize(serialize(exceptions.compact));
+    }
+
+    @State(Scope.Benchmark)
+    public static class Exceptions {
+        private EidIllegalStateException compact;
+        private EidIllegalStateException standard;
+
+        @Setup
+        public void setup() {
+            compact = new EidIllegalStateException(
+                "20261019:113644", "Can't reach billing service"
+            );
+            standard = new DefaultSerialized();
+            standard.setStackTrace(compact.getStackTrace());
+        }
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream stream = new ObjectOutputStream(bytes);
+        try {
+            stream.writeObject(object);
+        } finally {
+            stream.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes)
+        throws IOException, ClassNotFoundException {
+        ObjectInputStream stream = new ObjectInputStream(
+            new ByteArrayInputStream(bytes)
+        );
+        try {
+            return stream.readObject();
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static double getScore(Collection<RunResult> results, String name) {
+        String fullName = String.format(
+            "%s.%s", EidExceptionSerializationIT.class.getName(), name
+        );
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().equals(fullName)) {
+                return result.getAggregatedResult().getPrimaryResult().getScore();
+            }
+        }
+        throw new EidRuntimeException("20261019:113751", "Invalid name: " + name);
+    }
+
+    /**
+     * A subclass of Eid exception isn't replaced with a proxy, so it's
+     * serialized with default Java serialization.
+     */
+    private static final class DefaultSerialized extends EidIllegalStateException {
+        private static final long serialVersionUID = 20261019113822L;
+
+        DefaultSerialized() {
+            super("20261019:113822", "Can't reach billing service");
+        }
+    }
+}
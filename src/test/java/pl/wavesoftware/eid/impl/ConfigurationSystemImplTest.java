@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.Configuration;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.ExtendedConfigurationSystem;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.system.EidModule;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class ConfigurationSystemImplTest {
+
+    private final ExtendedConfigurationSystem system =
+        (ExtendedConfigurationSystem) EidModule.MODULE
+            .getBinding()
+            .getConfigurationSystem();
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void testOverride() {
+        // given
+        Configuration global = system.getConfiguration();
+        Date epoch = new Date(0L);
+
+        // when
+        ExtendedConfigurationSystem.Scope outer = system.override(
+            new LocaleConfigurator(Locale.GERMANY)
+        );
+        String number = new DefaultEid("20261019:160912")
+            .message("{0,number,#,##0.0}", 1234.5d)
+            .getFormattedMessage()
+            .toString();
+        ExtendedConfigurationSystem.Scope inner = system.override(new Configurator() {
+            @Override
+            public void configure(ConfigurationBuilder configuration) {
+                configuration.timezone(TimeZone.getTimeZone("GMT+02:00"));
+            }
+        });
+        String time = new DefaultEid("20261019:160937")
+            .message("{0,time,HH:mm}", epoch)
+            .getFormattedMessage()
+            .toString();
+        Locale nested = system.getConfiguration().getLocale();
+        inner.close();
+        Configuration restored = system.getConfiguration();
+        outer.close();
+
+        // then
+        assertThat(number).isEqualTo("1.234,5");
+        assertThat(time).isEqualTo("02:00");
+        assertThat(nested).isEqualTo(Locale.GERMANY);
+        assertThat(restored.getLocale()).isEqualTo(Locale.GERMANY);
+        assertThat(restored.getTimeZone()).isEqualTo(global.getTimeZone());
+        assertThat(system.getConfiguration()).isSameAs(global);
+    }
+
+    @Test
+    public void testOverrideIsLocalToThread() throws InterruptedException {
+        // given
+        final Configuration[] seen = new Configuration[1];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                seen[0] = system.getConfiguration();
+            }
+        });
+        Configuration global = system.getConfiguration();
+
+        // when
+        ExtendedConfigurationSystem.Scope scope = system.override(
+            new LocaleConfigurator(Locale.GERMANY)
+        );
+        try {
+            thread.start();
+            thread.join();
+        } finally {
+            scope.close();
+        }
+
+        // then
+        assertThat(seen[0]).isSameAs(global);
+    }
+
+    @Test
+    public void testDefaultFormatterFollowsOverride() {
+        // given
+        ExtendedConfigurationSystem.Scope scope = system.override(
+            new LocaleConfigurator(Locale.GERMANY)
+        );
+
+        // when
+        Configuration configuration;
+        try {
+            configuration = system.getConfiguration();
+        } finally {
+            scope.close();
+        }
+
+        // then
+        assertThat(configuration.getFormatter())
+            .isInstanceOf(DefaultFormatter.class)
+            .isNotSameAs(system.getConfiguration().getFormatter());
+    }
+
+    @Test
+    public void testCloseOutOfOrder() {
+        // given
+        ExtendedConfigurationSystem.Scope outer = system.override(
+            new LocaleConfigurator(Locale.GERMANY)
+        );
+        ExtendedConfigurationSystem.Scope inner = system.override(
+            new LocaleConfigurator(Locale.FRANCE)
+        );
+        try {
+            // then
+            thrown.expect(EidIllegalStateException.class);
+            thrown.expectMessage("20261019:161738");
+            thrown.expectMessage("Configuration override is closed out of order");
+
+            // when
+            outer.close();
+        } finally {
+            inner.close();
+            outer.close();
+        }
+    }
+
+    @Test
+    public void testCloseByOtherThread() throws InterruptedException {
+        // given
+        final ExtendedConfigurationSystem.Scope scope = system.override(
+            new LocaleConfigurator(Locale.GERMANY)
+        );
+        final RuntimeException[] failure = new RuntimeException[1];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    scope.close();
+                } catch (RuntimeException ex) {
+                    failure[0] = ex;
+                }
+            }
+        });
+
+        // when
+        try {
+            thread.start();
+            thread.join();
+        } finally {
+            scope.close();
+        }
+
+        // then
+        assertThat(failure[0])
+            .isInstanceOf(EidIllegalStateException.class)
+            .hasMessageContaining("20261019:161712");
+    }
+
+    @Test
+    public void testCloseTwice() {
+        // given
+        Configuration global = system.getConfiguration();
+        ExtendedConfigurationSystem.Scope scope = system.override(
+            new LocaleConfigurator(Locale.GERMANY)
+        );
+
+        // when
+        scope.close();
+        scope.close();
+
+        // then
+        assertThat(system.getConfiguration()).isSameAs(global);
+    }
+
+    private static final class LocaleConfigurator implements Configurator {
+        private final Locale locale;
+
+        private LocaleConfigurator(Locale locale) {
+            this.locale = locale;
+        }
+
+        @Override
+        public void configure(ConfigurationBuilder configuration) {
+            configuration.locale(locale);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.system.EidModule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class MessageTemplateProxyTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    private static final String TEMPLATE =
+        "Payment {0} of {2,number,#,##0.00} failed at {1,date,yyyy-MM-dd HH:mm}";
+
+    @Test
+    public void testDeferredFormatting() throws IOException, ClassNotFoundException {
+        // given
+        ConfigurationImpl configuration = configuration(true);
+        configuration
+            .locale(Locale.GERMAN)
+            .timezone(TimeZone.getTimeZone("America/New_York"));
+        DefaultEidMessage message = message(configuration);
+
+        // when
+        EidMessage restored = roundTrip(message);
+
+        // then
+        assertThat(restored.getEid().getId()).isEqualTo("20261019:120915");
+        assertThat(restored.getEid().getUnique())
+            .isEqualTo(message.getEid().getUnique());
+        assertThat(restored.getFormattedMessage().toString()).isEqualTo(
+            "Payment <Payment id=7> of 1.234,50 failed at 1970-01-12 08:46"
+        );
+        assertThat(restored.getFormattedMessage().toString())
+            .isEqualTo(message.getFormattedMessage().toString());
+    }
+
+    @Test
+    public void testNotFormattedOnSendingSide() throws IOException, ClassNotFoundException {
+        // given
+        DefaultEidMessage message = message(configuration(true));
+
+        // when
+        roundTrip(message);
+
+        // then
+        assertThat(pendingOf(message)).isNotNull();
+    }
+
+    @Test
+    public void testFormattedOnSendingSideByDefault() throws IOException, ClassNotFoundException {
+        // given
+        DefaultEidMessage message = message(configuration(false));
+
+        // when
+        EidMessage restored = roundTrip(message);
+
+        // then
+        assertThat(pendingOf(message)).isNull();
+        assertThat(restored).isExactlyInstanceOf(DefaultEidMessage.class);
+        assertThat(restored.toString()).isEqualTo(message.toString());
+    }
+
+    @Test
+    public void testAlreadyFormatted() throws IOException, ClassNotFoundException {
+        // given
+        DefaultEidMessage message = message(configuration(true));
+        String formatted = message.getFormattedMessage().toString();
+
+        // when
+        EidMessage restored = roundTrip(message);
+
+        // then
+        assertThat(restored.getFormattedMessage().toString()).isEqualTo(formatted);
+    }
+
+    @Test
+    public void testReadExternal_NegativeLength() throws IOException, ClassNotFoundException {
+        // given
+        ObjectInputStream input = streamOf(-1);
+
+        // then
+        thrown.expect(InvalidObjectException.class);
+        thrown.expectMessage("out of range: -1");
+
+        // when
+        new MessageTemplateProxy().readExternal(input);
+    }
+
+    @Test
+    public void testReadExternal_OversizedLength() throws IOException, ClassNotFoundException {
+        // given
+        ObjectInputStream input = streamOf(Integer.MAX_VALUE);
+
+        // then
+        thrown.expect(InvalidObjectException.class);
+        thrown.expectMessage("out of range: 2147483647");
+
+        // when
+        new MessageTemplateProxy().readExternal(input);
+    }
+
+    private static ObjectInputStream streamOf(int length) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeInt(length);
+        output.close();
+        return new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())
+        );
+    }
+
+    private static ConfigurationImpl configuration(boolean templates) {
+        ConfigurationImpl configuration = new ConfigurationImpl(
+            EidModule.MODULE
+                .getBinding()
+                .getConfigurationSystem()
+                .getConfiguration()
+        );
+        configuration.serializeMessageTemplates(templates);
+        return configuration;
+    }
+
+    private static DefaultEidMessage message(ConfigurationImpl configuration) {
+        return new DefaultEidMessage(
+            new DefaultEid("20261019:120915"),
+            configuration,
+            TEMPLATE,
+            new Object[]{new Payment(7), new Date(1000000000L), 1234.5d}
+        );
+    }
+
+    private static MessageSupplier pendingOf(DefaultEidMessage message) {
+        return message.getTextMessage().getPendingSupplier();
+    }
+
+    private static EidMessage roundTrip(EidMessage message)
+        throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        try {
+            output.writeObject(message);
+        } finally {
+            output.close();
+        }
+        ObjectInputStream input = new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray())
+        );
+        try {
+            return (EidMessage) input.readObject();
+        } finally {
+            input.close();
+        }
+    }
+
+    private static final class Payment {
+        private final int id;
+
+        private Payment(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return "<Payment id=" + id + ">";
+        }
+    }
+}
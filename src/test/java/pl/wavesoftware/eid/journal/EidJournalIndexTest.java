@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.journal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import pl.wavesoftware.eid.DefaultEid;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidJournalIndexTest {
+
+    private static final String FREQUENT = "20261019:152301";
+    private static final String RARE = "20261019:152317";
+    private static final String ABSENT = "20261019:152332";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testCountsAndTop() throws IOException {
+        // given
+        File first = write("first.journal", FREQUENT, FREQUENT, RARE);
+        File second = write("second.journal", FREQUENT, RARE, FREQUENT);
+
+        // when
+        EidJournalIndex index = EidJournalIndex.build(first, second);
+
+        // then
+        assertThat(index.getTotal()).isEqualTo(6);
+        assertThat(index.getIds()).containsExactly(FREQUENT, RARE);
+        assertThat(index.count(FREQUENT)).isEqualTo(4);
+        assertThat(index.count(RARE)).isEqualTo(2);
+        assertThat(index.count(ABSENT)).isEqualTo(0);
+        assertThat(index.top(1)).containsExactly(FREQUENT);
+        assertThat(index.top(5)).containsExactly(FREQUENT, RARE);
+        assertThat(index.top(5, 0L, 1L)).isEmpty();
+    }
+
+    @Test
+    public void testFindInTimeRange() throws IOException {
+        // given
+        File first = write("first.journal", FREQUENT, RARE);
+        File second = write("second.journal", RARE);
+        List<JournalRecord> written = EidJournalReader.read(second);
+        long timestamp = written.get(0).getTimestamp();
+
+        // when
+        EidJournalIndex index = EidJournalIndex.build(first, second);
+        List<JournalRecord> all = index.find(RARE, Long.MIN_VALUE, Long.MAX_VALUE);
+        List<JournalRecord> before = index.find(RARE, 0L, timestamp - 10000L);
+
+        // then
+        assertThat(all).hasSize(2);
+        assertThat(all.get(0).getTimestamp())
+            .isLessThanOrEqualTo(all.get(1).getTimestamp());
+        assertThat(all.get(1).getRef()).isEqualTo("ref-0");
+        assertThat(before).isEmpty();
+        assertThat(index.count(RARE, timestamp, timestamp + 1))
+            .isGreaterThanOrEqualTo(1);
+        assertThat(index.find(ABSENT, Long.MIN_VALUE, Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    public void testSkipsOverwrittenRecords() throws IOException {
+        // given
+        File path = write("eid.journal", RARE, RARE);
+        EidJournalIndex index = EidJournalIndex.build(path);
+
+        // when
+        EidJournal journal = EidJournal.open(path);
+        try {
+            for (int i = 0; i < 4; i++) {
+                journal.onOccurrence(new DefaultEid(FREQUENT), new IllegalStateException());
+            }
+        } finally {
+            journal.close();
+        }
+
+        // then
+        assertThat(index.count(RARE)).isEqualTo(2);
+        assertThat(index.find(RARE, Long.MIN_VALUE, Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    public void testBuildInParallel() throws IOException {
+        // given
+        List<File> files = Arrays.asList(
+            write("first.journal", FREQUENT, RARE),
+            write("second.journal", FREQUENT),
+            write("third.journal", FREQUENT, RARE, FREQUENT)
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        EidJournalIndex index;
+        try {
+            index = EidJournalIndex.build(files, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(index.getFiles()).isEqualTo(files);
+        assertThat(index.count(FREQUENT)).isEqualTo(4);
+        assertThat(index.count(RARE)).isEqualTo(2);
+        assertThat(index.top(2)).containsExactly(FREQUENT, RARE);
+    }
+
+    private File write(String name, String... ids) throws IOException {
+        File path = folder.newFile(name);
+        EidJournal journal = EidJournal.open(path, ids.length);
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                journal.onOccurrence(
+                    new DefaultEid(ids[i], "ref-" + i), new IllegalStateException()
+                );
+            }
+        } finally {
+            journal.close();
+        }
+        return path;
+    }
+}
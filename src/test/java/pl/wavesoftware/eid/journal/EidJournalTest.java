@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.journal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        // given
+        File path = folder.newFile("eid.journal");
+        EidJournal journal = EidJournal.open(path, 8);
+        Throwable exception = new IllegalArgumentException("sample");
+
+        // when
+        try {
+            journal.onOccurrence(new DefaultEid("20261019:151102", "first"), exception);
+            journal.onOccurrence(new DefaultEid("20261019:151117"), exception);
+        } finally {
+            journal.close();
+        }
+        List<JournalRecord> records = EidJournalReader.read(path);
+
+        // then
+        assertThat(path.length()).isEqualTo(64L + 8 * 256);
+        assertThat(journal.getTotal()).isEqualTo(2L);
+        assertThat(records).hasSize(2);
+        JournalRecord first = records.get(0);
+        assertThat(first.getSequence()).isEqualTo(0L);
+        assertThat(first.getId()).isEqualTo("20261019:151102");
+        assertThat(first.getRef()).isEqualTo("first");
+        assertThat(first.getUnique()).isNotEmpty();
+        assertThat(first.getThreadId()).isEqualTo(Thread.currentThread().getId());
+        assertThat(first.getExceptionClass())
+            .isEqualTo(IllegalArgumentException.class.getName());
+        assertThat(first.getTimestamp()).isLessThanOrEqualTo(System.currentTimeMillis());
+        assertThat(records.get(1).getRef()).isNull();
+        assertThat(records.get(1).toString())
+            .contains("java.lang.IllegalArgumentException [20261019:151117]<");
+    }
+
+    @Test
+    public void testWrapsAroundAndResumes() throws IOException {
+        // given
+        File path = folder.newFile("eid.journal");
+        Throwable exception = new EidIllegalStateException("20261019:151141");
+        EidJournal journal = EidJournal.open(path, 3);
+        // capacity is rounded up to 4
+        for (int i = 0; i < 6; i++) {
+            journal.onOccurrence(new DefaultEid("20261019:151203", "ref-" + i), exception);
+        }
+        journal.close();
+
+        // when
+        EidJournal reopened = EidJournal.open(path, 1024);
+        try {
+            reopened.onOccurrence(new DefaultEid("20261019:151203", "ref-6"), exception);
+        } finally {
+            reopened.close();
+        }
+        List<JournalRecord> records = EidJournalReader.read(path);
+
+        // then
+        assertThat(path.length()).isEqualTo(64L + 4 * 256);
+        assertThat(reopened.getTotal()).isEqualTo(7L);
+        assertThat(records).hasSize(4);
+        assertThat(records.get(0).getSequence()).isEqualTo(3L);
+        assertThat(records.get(0).getRef()).isEqualTo("ref-3");
+        assertThat(records.get(3).getSequence()).isEqualTo(6L);
+        assertThat(records.get(3).getRef()).isEqualTo("ref-6");
+    }
+
+    @Test
+    public void testSkipsTornRecord() throws IOException {
+        // given
+        File path = folder.newFile("eid.journal");
+        Throwable exception = new IllegalStateException();
+        EidJournal journal = EidJournal.open(path, 4);
+        try {
+            journal.onOccurrence(new DefaultEid("20261019:151238", "kept"), exception);
+            journal.onOccurrence(new DefaultEid("20261019:151238", "torn"), exception);
+        } finally {
+            journal.close();
+        }
+
+        // when
+        RandomAccessFile file = new RandomAccessFile(path, "rw");
+        try {
+            // a byte of ref in second record
+            file.seek(64 + 256 + 62);
+            file.write('X');
+        } finally {
+            file.close();
+        }
+        List<JournalRecord> records = EidJournalReader.read(path);
+
+        // then
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getRef()).isEqualTo("kept");
+    }
+
+    @Test
+    public void testTruncatesAndReplacesNonAscii() throws IOException {
+        // given
+        File path = folder.newFile("eid.journal");
+        StringBuilder longRef = new StringBuilder("zażółć-");
+        while (longRef.length() < 100) {
+            longRef.append('x');
+        }
+        EidJournal journal = EidJournal.open(path, 1);
+
+        // when
+        try {
+            journal.onOccurrence(
+                new DefaultEid("20261019:151304", longRef.toString()),
+                new IllegalStateException()
+            );
+        } finally {
+            journal.close();
+        }
+        List<JournalRecord> records = EidJournalReader.read(path);
+
+        // then
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getRef())
+            .hasSize(63)
+            .startsWith("za????-xxx");
+    }
+
+    @Test
+    public void testMain() throws IOException {
+        // given
+        File path = folder.newFile("eid.journal");
+        EidJournal journal = EidJournal.open(path);
+        try {
+            journal.onOccurrence(new DefaultEid("20261019:151329"), new IllegalStateException());
+        } finally {
+            journal.close();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream original = System.out;
+
+        // when
+        System.setOut(new PrintStream(output, true));
+        try {
+            EidJournalReader.main(new String[]{path.getPath()});
+        } finally {
+            System.setOut(original);
+        }
+
+        // then
+        assertThat(output.toString())
+            .contains("java.lang.IllegalStateException [20261019:151329]<")
+            .contains(": 1 record(s)");
+    }
+
+    @Test
+    public void testNotAJournal() throws IOException {
+        // given
+        File path = folder.newFile("not.journal");
+        FileOutputStream output = new FileOutputStream(path);
+        try {
+            output.write(new byte[128]);
+        } finally {
+            output.close();
+        }
+
+        // when
+        try {
+            EidJournal.open(path);
+            fail("should throw");
+        } catch (EidIllegalStateException ex) {
+            // then
+            assertThat(ex.getEid().getId()).isEqualTo("20261019:150601");
+        }
+        try {
+            EidJournalReader.read(path);
+            fail("should throw");
+        } catch (EidIllegalStateException ex) {
+            assertThat(ex.getEid().getId()).isEqualTo("20261019:150911");
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.logging;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.testing.JavaAgentSkip;
+import pl.wavesoftware.testing.JmhCleaner;
+import pl.wavesoftware.testing.JvmArgs;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures a cost of a repeated exception, that is only counted by an
+ * emitter, with a number of threads logging at once, and checks it doesn't
+ * allocate. A cost of reading a monotonic clock is measured separately, as it
+ * depends a lot on a platform, and it's subtracted.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidLogEmitterIT {
+
+    private static final int THREADS = 4;
+    private static final double OVERHEAD_THRESHOLD_NANOS = 50d;
+    private static final double ALLOCATION_THRESHOLD = 1d;
+    private static final double NANOS_IN_MICROSECOND = 1000d;
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+    private static final Logger LOG =
+        LoggerFactory.getLogger(EidLogEmitterIT.class);
+
+    @ClassRule
+    public static RuleChain chain = RuleChain
+        .outerRule(new JmhCleaner(EidLogEmitterIT.class))
+        .around(JavaAgentSkip.ifActive());
+
+    @Test
+    public void benchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .threads(THREADS)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .jvmArgs(JvmArgs.get())
+            .build();
+
+        Runner runner = new Runner(opt);
+        Collection<RunResult> results = runner.run();
+        assertThat(results).hasSize(2);
+
+        RunResult record = getResult(results, "repeat");
+        double clock = cpuNanosPerOperation(getResult(results, "clock"));
+        double cost = cpuNanosPerOperation(record);
+        double overhead = cost - clock;
+        double allocated = getAllocationRate(record);
+
+        LOG.info(String.format(
+            "Repeat on %d threads: %.2f ns of CPU time, of which clock = %.2f "
+                + "ns ==> overhead: %.2f ns and %.3f bytes allocated per "
+                + "operation, maximum threshold: %.2f ns",
+            THREADS, cost, clock, overhead, allocated, OVERHEAD_THRESHOLD_NANOS
+        ));
+        assertThat(overhead).isLessThanOrEqualTo(OVERHEAD_THRESHOLD_NANOS);
+        assertThat(allocated).isLessThan(ALLOCATION_THRESHOLD);
+    }
+
+    @Benchmark
+    public long clock() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public void repeat(Repeat repeat) {
+        repeat.emitter.log(repeat.exception);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Repeat {
+        private final EidLogEmitter emitter = EidLogEmitter
+            .builder(new LogSink() {
+                @Override
+                public void logException(Throwable exception) {
+                    // nothing here
+                }
+
+                @Override
+                public void logRepeats(RepeatSummary summary) {
+                    // nothing here
+                }
+            })
+            .window(1, TimeUnit.HOURS)
+            .build();
+        private final EidIllegalStateException exception =
+            new EidIllegalStateException("20261019:155527");
+
+        @Setup
+        public void setup() {
+            // first occurrence is logged in full, and first repeats sampled
+            for (int i = 0; i < 10; i++) {
+                emitter.log(exception);
+            }
+        }
+    }
+
+    private static double cpuNanosPerOperation(RunResult result) {
+        int running = Math.min(THREADS, Runtime.getRuntime().availableProcessors());
+        double opsPerMicrosecond =
+            result.getAggregatedResult().getPrimaryResult().getScore();
+        return NANOS_IN_MICROSECOND * running / opsPerMicrosecond;
+    }
+
+    private static RunResult getResult(Collection<RunResult> results, String name) {
+        String fullName = String.format(
+            "%s.%s", EidLogEmitterIT.class.getName(), name
+        );
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().equals(fullName)) {
+                return result;
+            }
+        }
+        throw new EidRuntimeException("20261019:155549", "Invalid name: " + name);
+    }
+
+    private static double getAllocationRate(RunResult result) {
+        Map<String, Result> secondary = result.getSecondaryResults();
+        for (Map.Entry<String, Result> entry : secondary.entrySet()) {
+            if (entry.getKey().endsWith(ALLOCATION_RATE)) {
+                return entry.getValue().getScore();
+            }
+        }
+        throw new EidRuntimeException(
+            "20261019:155612",
+            "No allocation rate for " + result.getParams().getBenchmark()
+        );
+    }
+}
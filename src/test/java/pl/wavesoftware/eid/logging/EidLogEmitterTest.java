@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.logging;
+
+import org.junit.Test;
+import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidLogEmitterTest {
+
+    private final RecordingSink sink = new RecordingSink();
+    private final ManualClock clock = new ManualClock();
+
+    @Test
+    public void testCollapsesRepeats() {
+        // given
+        EidLogEmitter emitter = EidLogEmitter.builder(sink)
+            .window(1, TimeUnit.SECONDS)
+            .samples(2)
+            .clock(clock)
+            .build();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            emitter.log(new EidIllegalStateException("20261019:155231"));
+        }
+        emitter.log(new EidIllegalArgumentException("20261019:155231"));
+        clock.advance(TimeUnit.SECONDS.toNanos(1));
+        emitter.log(new EidIllegalStateException("20261019:155231"));
+
+        // then
+        assertThat(sink.exceptions).hasSize(2);
+        assertThat(sink.summaries).hasSize(1);
+        RepeatSummary summary = sink.summaries.get(0);
+        assertThat(summary.getId()).isEqualTo("20261019:155231");
+        assertThat(summary.getExceptionClass())
+            .isEqualTo(EidIllegalStateException.class.getName());
+        assertThat(summary.getCount()).isEqualTo(999L);
+        assertThat(summary.getSamples()).hasSize(2);
+        assertThat(summary.getDuration(TimeUnit.MILLISECONDS)).isEqualTo(1000L);
+        assertThat(summary.toString()).startsWith(
+            "[20261019:155231] pl.wavesoftware.eid.exceptions.EidIllegalStateException"
+                + " repeated 999 time(s) in 1000 ms, e.g.: <"
+        );
+    }
+
+    @Test
+    public void testLogsInFullAfterQuietWindow() {
+        // given
+        EidLogEmitter emitter = EidLogEmitter.builder(sink)
+            .window(1, TimeUnit.SECONDS)
+            .clock(clock)
+            .build();
+
+        // when
+        emitter.log(new EidIllegalStateException("20261019:155302"));
+        clock.advance(TimeUnit.SECONDS.toNanos(5));
+        emitter.log(new EidIllegalStateException("20261019:155302"));
+        emitter.log(new IllegalStateException("no eid"));
+        emitter.log(new IllegalStateException("no eid"));
+        emitter.flush();
+        emitter.flush();
+
+        // then
+        assertThat(sink.exceptions).hasSize(3);
+        assertThat(sink.summaries).hasSize(1);
+        assertThat(sink.summaries.get(0).getId()).isNull();
+        assertThat(sink.summaries.get(0).getSamples()).isEmpty();
+        assertThat(sink.summaries.get(0).toString())
+            .isEqualTo("java.lang.IllegalStateException repeated 1 time(s) in 0 ms");
+    }
+
+    @Test
+    public void testEvictsWhenFull() {
+        // given
+        EidLogEmitter emitter = EidLogEmitter.builder(sink)
+            .capacity(1)
+            .clock(clock)
+            .build();
+
+        // when
+        emitter.log(new EidIllegalStateException("20261019:155331"));
+        emitter.log(new EidIllegalStateException("20261019:155331"));
+        emitter.log(new EidIllegalStateException("20261019:155347"));
+        emitter.log(new EidIllegalStateException("20261019:155347"));
+
+        // then
+        assertThat(sink.exceptions).hasSize(2);
+        assertThat(sink.summaries).hasSize(1);
+        assertThat(sink.summaries.get(0).getId()).isEqualTo("20261019:155331");
+        assertThat(sink.summaries.get(0).getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testJulLogSink() {
+        // given
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        final List<LogRecord> records = new ArrayList<LogRecord>();
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+                // nothing here
+            }
+
+            @Override
+            public void close() {
+                // nothing here
+            }
+        });
+        EidLogEmitter emitter = EidLogEmitter.builder(new JulLogSink(logger))
+            .clock(clock)
+            .build();
+
+        // when
+        emitter.log(new EidIllegalStateException("20261019:155412"));
+        emitter.log(new EidIllegalStateException("20261019:155412"));
+        emitter.flush();
+
+        // then
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).getLevel()).isEqualTo(Level.SEVERE);
+        assertThat(records.get(0).getThrown()).isInstanceOf(EidIllegalStateException.class);
+        assertThat(records.get(1).getLevel()).isEqualTo(Level.WARNING);
+        assertThat(records.get(1).getMessage()).contains("repeated 1 time(s)");
+    }
+
+    private static final class RecordingSink implements LogSink {
+        private final List<Throwable> exceptions = new ArrayList<Throwable>();
+        private final List<RepeatSummary> summaries = new ArrayList<RepeatSummary>();
+
+        @Override
+        public void logException(Throwable exception) {
+            exceptions.add(exception);
+        }
+
+        @Override
+        public void logRepeats(RepeatSummary summary) {
+            summaries.add(summary);
+        }
+    }
+
+    private static final class ManualClock implements EidLogEmitter.Clock {
+        private long nanos = 1000L;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+
+        private void advance(long delta) {
+            nanos += delta;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.management;
+
+import org.junit.Rule;
+import org.junit.Test;
+import pl.wavesoftware.eid.ConfiguratorRule;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.eid.system.EidModule;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidStatisticsTest {
+
+    private final AtomicInteger notified = new AtomicInteger();
+
+    @Rule
+    public final ConfiguratorRule configurator = new ConfiguratorRule(new Configurator() {
+        @Override
+        public void configure(ConfigurationBuilder configuration) {
+            ((ExtendedConfigurationBuilder) configuration).occurrenceListener(new OccurrenceListener() {
+                @Override
+                public void onOccurrence(Eid eid, Throwable exception) {
+                    notified.incrementAndGet();
+                }
+            });
+        }
+    });
+
+    private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+    @Test
+    public void testPublishesStatistics() throws JMException {
+        // given
+        EidStatistics statistics = EidStatistics.register(server);
+        ObjectName name = new ObjectName(EidStatistics.OBJECT_NAME);
+
+        // when
+        try {
+            for (int i = 0; i < 3; i++) {
+                new EidRuntimeException(new DefaultEid("20261019:154219", "ref-" + i));
+            }
+            new EidIllegalStateException("20261019:154236");
+        } finally {
+            statistics.unregister();
+        }
+        new EidIllegalStateException("20261019:154236");
+
+        // then
+        assertThat(server.isRegistered(name)).isFalse();
+        assertThat(notified.get()).isEqualTo(5);
+        assertThat(statistics.getTotalOccurrences()).isEqualTo(4L);
+        assertThat(statistics.getOccurrences())
+            .containsEntry("20261019:154219", 3L)
+            .containsEntry("20261019:154236", 1L);
+        assertThat(statistics.getTopIds().get(0)).startsWith("20261019:154219=3(");
+        assertThat(statistics.getTopRefs()).hasSize(3);
+    }
+
+    @Test
+    public void testReadsThroughJmx() throws JMException {
+        // given
+        EidStatistics statistics = EidStatistics.register(server);
+        ObjectName name = new ObjectName(EidStatistics.OBJECT_NAME);
+
+        // when
+        try {
+            new EidRuntimeException("20261019:154302");
+            Object total = server.getAttribute(name, "TotalOccurrences");
+            TabularData latencies = (TabularData) server.getAttribute(name, "Latencies");
+            CompositeData formatting = latencies.get(new Object[]{"FORMATTING"});
+            TabularData occurrences = (TabularData) server.getAttribute(name, "Occurrences");
+            TabularData configuration = (TabularData) server.getAttribute(name, "Configuration");
+            CompositeData depth = configuration.get(new Object[]{"serializedStackTraceDepth"});
+
+            // then
+            assertThat(total).isEqualTo(1L);
+            assertThat(occurrences.size()).isEqualTo(1);
+            assertThat((String) formatting.get("value")).startsWith("HistogramSnapshot{count=1,");
+            assertThat(depth.get("value")).isEqualTo("-1");
+        } finally {
+            statistics.unregister();
+        }
+    }
+
+    @Test
+    public void testReconfigures() throws JMException {
+        // given
+        EidStatistics statistics = EidStatistics.register(server);
+        ObjectName name = new ObjectName(EidStatistics.OBJECT_NAME);
+
+        // when
+        try {
+            server.setAttribute(name, new Attribute("SerializedStackTraceDepth", 5));
+            server.setAttribute(name, new Attribute("SerializingCauses", false));
+            server.setAttribute(name, new Attribute("SerializingMessageTemplates", true));
+            server.setAttribute(name, new Attribute("Validating", false));
+            ExtendedConfiguration configuration = currentConfiguration();
+
+            // then
+            assertThat(configuration.getSerializedStackTraceDepth()).isEqualTo(5);
+            assertThat(configuration.isSerializingCauses()).isFalse();
+            assertThat(configuration.isSerializingMessageTemplates()).isTrue();
+            assertThat(configuration.getValidator()).isNull();
+            assertThat(statistics.isValidating()).isFalse();
+            statistics.setValidating(true);
+            assertThat(currentConfiguration().getValidator()).isNotNull();
+            try {
+                new DefaultEid("invalid");
+                fail("should throw");
+            } catch (IllegalArgumentException ex) {
+                assertThat(ex).hasMessageContaining("invalid");
+            }
+        } finally {
+            statistics.unregister();
+        }
+    }
+
+    @Test
+    public void testRegisterTwice() {
+        // given
+        EidStatistics statistics = EidStatistics.register(server);
+
+        // when
+        try {
+            EidStatistics.register(server);
+            fail("should throw");
+        } catch (EidIllegalStateException ex) {
+            // then
+            assertThat(ex.getEid().getId()).isEqualTo("20261019:154018");
+        } finally {
+            statistics.unregister();
+        }
+    }
+
+    private static ExtendedConfiguration currentConfiguration() {
+        return (ExtendedConfiguration) EidModule.MODULE
+            .getBinding()
+            .getConfigurationSystem()
+            .getConfiguration();
+    }
+}
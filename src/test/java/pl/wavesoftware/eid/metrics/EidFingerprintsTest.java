@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import org.junit.Test;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidFingerprintsTest {
+
+    @Test
+    public void testSameSiteSameFingerprint() {
+        // given
+        Set<Long> fingerprints = new HashSet<Long>();
+        Set<String> uniques = new HashSet<String>();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            EidRuntimeException exception = fail("20261019:155921", i);
+            fingerprints.add(EidFingerprints.fingerprint(exception));
+            uniques.add(exception.getEid().getUnique());
+        }
+
+        // then
+        assertThat(fingerprints).hasSize(1);
+        assertThat(uniques).hasSize(10);
+    }
+
+    @Test
+    public void testDistinguishesIdsClassesAndCauses() {
+        // given
+        StackTraceElement[] stackTrace = frames("Service", 10, 20);
+        EidRuntimeException base = withFrames(
+            new EidRuntimeException("20261019:155952"), stackTrace
+        );
+        EidRuntimeException otherId = withFrames(
+            new EidRuntimeException("20261019:160011"), stackTrace
+        );
+        EidRuntimeException otherClass = withFrames(
+            new EidIllegalStateException("20261019:155952"), stackTrace
+        );
+        EidRuntimeException withCause = withFrames(
+            new EidRuntimeException("20261019:155952", new IOException()), stackTrace
+        );
+        EidRuntimeException otherLine = withFrames(
+            new EidRuntimeException("20261019:155952"), frames("Service", 10, 21)
+        );
+        EidRuntimeException otherClassName = withFrames(
+            new EidRuntimeException("20261019:155952"), frames("Repository", 10, 20)
+        );
+
+        // when
+        Set<Long> fingerprints = new HashSet<Long>();
+        for (Throwable exception : new Throwable[]{
+            base, otherId, otherClass, withCause, otherLine, otherClassName
+        }) {
+            fingerprints.add(EidFingerprints.fingerprint(exception));
+        }
+
+        // then
+        assertThat(fingerprints).hasSize(6);
+    }
+
+    @Test
+    public void testOnlyTopFrames() {
+        // given
+        EidFingerprints fingerprints = new EidFingerprints(1);
+        IllegalStateException first = withFrames(
+            new IllegalStateException(), frames("Service", 10, 20)
+        );
+        IllegalStateException second = withFrames(
+            new IllegalStateException(), frames("Service", 10, 99)
+        );
+        IllegalStateException third = withFrames(
+            new IllegalStateException(), frames("Service", 11, 20)
+        );
+
+        // when
+        long firstFingerprint = fingerprints.of(first);
+        long secondFingerprint = fingerprints.of(second);
+        long thirdFingerprint = fingerprints.of(third);
+
+        // then
+        assertThat(firstFingerprint).isEqualTo(secondFingerprint);
+        assertThat(firstFingerprint).isNotEqualTo(thirdFingerprint);
+    }
+
+    @Test
+    public void testMemoized() {
+        // given
+        EidRuntimeException exception = withFrames(
+            new EidRuntimeException("20261019:160039"), frames("Service", 10, 20)
+        );
+        long fingerprint = EidFingerprints.fingerprint(exception);
+
+        // when
+        exception.setStackTrace(frames("Other", 1, 2));
+
+        // then
+        assertThat(EidFingerprints.fingerprint(exception)).isEqualTo(fingerprint);
+    }
+
+    private static EidRuntimeException fail(String eid, int attempt) {
+        return new EidRuntimeException(eid, "Attempt " + attempt + " failed");
+    }
+
+    private static StackTraceElement[] frames(String className, int first, int second) {
+        return new StackTraceElement[]{
+            new StackTraceElement(className, "call", className + ".java", first),
+            new StackTraceElement("Controller", "handle", "Controller.java", second)
+        };
+    }
+
+    private static <T extends Throwable> T withFrames(
+        T exception, StackTraceElement[] stackTrace
+    ) {
+        exception.setStackTrace(stackTrace);
+        return exception;
+    }
+}
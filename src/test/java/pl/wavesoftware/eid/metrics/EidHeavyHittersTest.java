@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import org.junit.Rule;
+import org.junit.Test;
+import pl.wavesoftware.eid.ConfiguratorRule;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidHeavyHittersTest {
+
+    private final EidHeavyHitters heavyHitters = new EidHeavyHitters(3, 0.01d, 0.01d);
+    private final EidOccurrences occurrences = new EidOccurrences();
+
+    @Rule
+    public final ConfiguratorRule configurator = new ConfiguratorRule(new Configurator() {
+        @Override
+        public void configure(ConfigurationBuilder configuration) {
+            ((ExtendedConfigurationBuilder) configuration).occurrenceListener(
+                OccurrenceListeners.compose(occurrences, heavyHitters)
+            );
+        }
+    });
+
+    @Test
+    public void testTracksTopIdsAmongManyRefs() {
+        // given
+        String[] ids = {
+            "20261019:143951", "20261019:144012", "20261019:144033",
+            "20261019:144054", "20261019:144115"
+        };
+        int[] counts = {3000, 2000, 1000, 10, 1};
+        Throwable exception = new IllegalStateException("sample");
+
+        // when
+        for (int i = 0; i < ids.length; i++) {
+            for (int j = 0; j < counts[i]; j++) {
+                // unique ref for each occurrence, like dynamically built refs
+                Eid eid = new DefaultEid(ids[i], "ref-" + i + "-" + j);
+                heavyHitters.onOccurrence(eid, exception);
+            }
+        }
+
+        // then
+        List<String> top = new ArrayList<String>();
+        for (HeavyHitter hitter : heavyHitters.getTopIds()) {
+            top.add(hitter.getKey());
+            assertThat(hitter.getError()).isLessThanOrEqualTo(
+                (long) Math.ceil(0.01d * heavyHitters.getTotal())
+            );
+        }
+        assertThat(top).containsExactly(ids[0], ids[1], ids[2]);
+        HeavyHitter first = heavyHitters.getTopIds().get(0);
+        assertThat(first.getCount()).isGreaterThanOrEqualTo(3000L);
+        assertThat(first.getMinimumCount()).isLessThanOrEqualTo(3000L);
+        assertThat(heavyHitters.estimateId(ids[4]).getCount())
+            .isGreaterThanOrEqualTo(1L)
+            .isLessThanOrEqualTo(1L + heavyHitters.estimateId(ids[4]).getError());
+        assertThat(heavyHitters.getTopRefs()).hasSize(3);
+        assertThat(heavyHitters.getTotal()).isEqualTo(6011L);
+    }
+
+    @Test
+    public void testFedFromExceptions() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            new EidRuntimeException(new DefaultEid("20261019:144136", "order-" + i));
+        }
+
+        // then
+        assertThat(heavyHitters.getTopIds()).hasSize(1);
+        assertThat(heavyHitters.getTopIds().get(0).getKey()).isEqualTo("20261019:144136");
+        assertThat(heavyHitters.getTopIds().get(0).getCount()).isEqualTo(5L);
+        assertThat(heavyHitters.estimateRef("order-3").getCount()).isEqualTo(1L);
+        assertThat(occurrences.getCount("20261019:144136")).isEqualTo(5L);
+    }
+}
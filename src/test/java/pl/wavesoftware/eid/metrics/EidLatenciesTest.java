@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import org.junit.Rule;
+import org.junit.Test;
+import pl.wavesoftware.eid.ConfiguratorRule;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.Tracer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidLatenciesTest {
+
+    private final EidLatencies latencies = new EidLatencies();
+
+    @Rule
+    public final ConfiguratorRule configurator = new ConfiguratorRule(new Configurator() {
+        @Override
+        public void configure(ConfigurationBuilder configuration) {
+            ((ExtendedConfigurationBuilder) configuration).tracer(latencies);
+        }
+    });
+
+    @Test
+    public void testBucketsAreLogLinear() {
+        // given
+        long[] values = {0L, 1L, 31L, 32L, 33L, 1000L, 123456789L, LatencyHistogram.MAX_VALUE};
+
+        // when
+        for (long value : values) {
+            int index = LatencyHistogram.index(value);
+            long highest = LatencyHistogram.highestValue(index);
+
+            // then
+            assertThat(index).isLessThan(LatencyHistogram.BUCKETS);
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat((double) (highest - value)).isLessThanOrEqualTo(value / 32d);
+            assertThat(LatencyHistogram.index(highest)).isEqualTo(index);
+            assertThat(LatencyHistogram.index(highest + 1)).isEqualTo(index + 1);
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        // given
+        Eid eid = new DefaultEid("20261019:154832");
+
+        // when
+        for (long nanos = 1L; nanos <= 10000L; nanos++) {
+            latencies.trace(Tracer.Activity.MESSAGE, eid, nanos * 1000L);
+        }
+        HistogramSnapshot snapshot = latencies.snapshot(Tracer.Activity.MESSAGE);
+
+        // then
+        assertThat(snapshot.getCount()).isEqualTo(10000L);
+        assertThat(snapshot.getMax()).isEqualTo(10000000L);
+        assertThat(snapshot.getMean()).isCloseTo(5000500d, within(0.1d));
+        assertThat((double) snapshot.getValueAtPercentile(50d))
+            .isCloseTo(5000000d, within(5000000d / 32));
+        assertThat((double) snapshot.getValueAtPercentile(99.9d))
+            .isCloseTo(9990000d, within(9990000d / 32));
+        assertThat(snapshot.getValueAtPercentile(100d)).isEqualTo(10000000L);
+        assertThat(snapshot.toString()).contains("count=10000", "max=10000000");
+    }
+
+    @Test
+    public void testMergesThreads() throws InterruptedException {
+        // given
+        final Eid eid = new DefaultEid("20261019:154859");
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            final long nanos = (t + 1) * 100L;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        latencies.trace(Tracer.Activity.FORMATTING, eid, nanos);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        HistogramSnapshot snapshot = latencies.snapshot(Tracer.Activity.FORMATTING);
+
+        // then
+        assertThat(snapshot.getCount()).isEqualTo(4000L);
+        assertThat(snapshot.getMax()).isEqualTo(400L);
+        assertThat(snapshot.getValueAtPercentile(25d)).isBetween(100L, 103L);
+        assertThat(snapshot.getMean()).isCloseTo(250d, within(0.1d));
+    }
+
+    @Test
+    public void testTracesFormattingAndRendering() {
+        // given
+        Eid eid = new DefaultEid("20261019:154921", "ref");
+
+        // when
+        eid.toString();
+        eid.message("Rendered {0}", 1).toString();
+
+        // then
+        assertThat(latencies.snapshot(Tracer.Activity.FORMATTING).getCount()).isEqualTo(1L);
+        assertThat(latencies.snapshot(Tracer.Activity.MESSAGE_FORMATTING).getCount()).isEqualTo(1L);
+        assertThat(latencies.snapshot(Tracer.Activity.MESSAGE).getCount()).isEqualTo(1L);
+        assertThat(latencies.snapshot(Tracer.Activity.EXCEPTION).getCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testRetiresTerminatedThreads() throws InterruptedException {
+        // given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int t = 0; t < 4; t++) {
+            final long nanos = (t + 1) * 100L;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    histogram.record(nanos);
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+        histogram.record(50L);
+
+        // when
+        HistogramSnapshot first = histogram.snapshot();
+        HistogramSnapshot second = histogram.snapshot();
+
+        // then
+        assertThat(histogram.getRecordersCount()).isEqualTo(1);
+        assertThat(first.getCount()).isEqualTo(5L);
+        assertThat(first.getMax()).isEqualTo(400L);
+        assertThat(first.getMean()).isCloseTo(210d, within(0.1d));
+        assertThat(second.getCount()).isEqualTo(5L);
+        assertThat(second.getMax()).isEqualTo(400L);
+        assertThat(second.getMean()).isCloseTo(210d, within(0.1d));
+    }
+}
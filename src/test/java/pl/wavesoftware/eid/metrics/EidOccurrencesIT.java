@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.testing.JavaAgentSkip;
+import pl.wavesoftware.testing.JmhCleaner;
+import pl.wavesoftware.testing.JvmArgs;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures an overhead of counting an Eid occurrence, with many threads
+ * recording the same Eid at once.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidOccurrencesIT {
+
+    private static final int THREADS = 32;
+    private static final double OVERHEAD_THRESHOLD_NANOS = 10d;
+    private static final double NANOS_IN_MICROSECOND = 1000d;
+    private static final Logger LOG =
+        LoggerFactory.getLogger(EidOccurrencesIT.class);
+
+    @ClassRule
+    public static RuleChain chain = RuleChain
+        .outerRule(new JmhCleaner(EidOccurrencesIT.class))
+        .around(JavaAgentSkip.ifActive());
+
+    @Test
+    public void benchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .threads(THREADS)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .jvmArgs(JvmArgs.get())
+            .build();
+
+        Runner runner = new Runner(opt);
+        Collection<RunResult> results = runner.run();
+        assertThat(results).hasSize(2);
+
+        double baseline = cpuNanosPerOperation(getScore(results, "baseline"));
+        double counted = cpuNanosPerOperation(getScore(results, "counted"));
+        double overhead = counted - baseline;
+
+        LOG.info(String.format(
+            "Occurrence on %d threads: baseline = %.2f ns vs counted = %.2f ns "
+                + "of CPU time per operation ==> overhead: %.2f ns, maximum "
+                + "threshold: %.2f ns",
+            THREADS, baseline, counted, overhead, OVERHEAD_THRESHOLD_NANOS
+        ));
+        assertThat(overhead).isLessThanOrEqualTo(OVERHEAD_THRESHOLD_NANOS);
+    }
+
+    @Benchmark
+    public void baseline(Occurrence occurrence, Blackhole blackhole) {
+        blackhole.consume(occurrence.eid.getId());
+    }
+
+    @Benchmark
+    public void counted(Occurrence occurrence, Blackhole blackhole) {
+        occurrence.occurrences.onOccurrence(occurrence.eid, occurrence.exception);
+        blackhole.consume(occurrence.eid.getId());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Occurrence {
+        private final EidOccurrences occurrences = new EidOccurrences();
+        private final Eid eid = new DefaultEid("20261019:143015");
+        private final EidRuntimeException exception = new EidRuntimeException(eid);
+    }
+
+    /**
+     * Converts aggregated throughput of all threads to CPU time spent on a
+     * single operation. Threads can't run at once, when there are less
+     * processors than threads.
+     */
+    private static double cpuNanosPerOperation(double opsPerMicrosecond) {
+        int running = Math.min(THREADS, Runtime.getRuntime().availableProcessors());
+        return NANOS_IN_MICROSECOND * running / opsPerMicrosecond;
+    }
+
+    private static double getScore(Collection<RunResult> results, String name) {
+        String fullName = String.format(
+            "%s.%s", EidOccurrencesIT.class.getName(), name
+        );
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().equals(fullName)) {
+                return result.getAggregatedResult().getPrimaryResult().getScore();
+            }
+        }
+        throw new EidRuntimeException("20261019:143052", "Invalid name: " + name);
+    }
+}
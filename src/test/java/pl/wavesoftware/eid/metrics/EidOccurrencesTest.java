@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import org.junit.Rule;
+import org.junit.Test;
+import pl.wavesoftware.eid.ConfiguratorRule;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.eid.utils.EidPreconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidOccurrencesTest {
+
+    private final EidOccurrences occurrences = new EidOccurrences(4);
+
+    @Rule
+    public final ConfiguratorRule configurator = new ConfiguratorRule(new Configurator() {
+        @Override
+        public void configure(ConfigurationBuilder configuration) {
+            ((ExtendedConfigurationBuilder) configuration)
+                .occurrenceListener(occurrences);
+        }
+    });
+
+    @Test
+    public void testCountsExceptions() {
+        // given
+        String id = "20261019:142622";
+
+        // when
+        new EidRuntimeException(id);
+        new EidIllegalStateException(id, "Not ready yet");
+        try {
+            EidPreconditions.checkArgument(false, "20261019:142714");
+        } catch (EidRuntimeException ex) {
+            assertThat(ex.getEid().getId()).isEqualTo("20261019:142714");
+        }
+
+        // then
+        assertThat(occurrences.getCount(id)).isEqualTo(2L);
+        assertThat(occurrences.getCount("20261019:142714")).isEqualTo(1L);
+        assertThat(occurrences.getCount("20261019:142745")).isEqualTo(0L);
+    }
+
+    @Test
+    public void testCountsFromManyThreads() throws InterruptedException {
+        // given
+        final int threads = 8;
+        final int perThread = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < perThread; j++) {
+                        occurrences.record(j % 2 == 0 ? "20261019:142809" : "20261019:142834");
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        // when
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        OccurrencesSnapshot snapshot = occurrences.snapshot();
+
+        // then
+        assertThat(snapshot.getTotal()).isEqualTo((long) threads * perThread);
+        assertThat(snapshot.getCounts()).containsExactly(
+            entry("20261019:142809", (long) threads * perThread / 2),
+            entry("20261019:142834", (long) threads * perThread / 2)
+        );
+        assertThat(snapshot.getCount("20261019:142809"))
+            .isEqualTo(occurrences.getCount("20261019:142809"));
+    }
+}
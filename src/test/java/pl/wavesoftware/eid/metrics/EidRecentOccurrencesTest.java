@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import org.junit.Test;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidRecentOccurrencesTest {
+
+    @Test
+    public void testKeepsLastOccurrences() throws IOException {
+        // given
+        EidRecentOccurrences recent = new EidRecentOccurrences(3);
+        // capacity is rounded up to 4
+        Throwable exception = new IllegalArgumentException("sample");
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            recent.onOccurrence(new DefaultEid("20261019:145336", "ref-" + i), exception);
+        }
+        List<RecentOccurrence> snapshot = recent.snapshot();
+        StringBuilder dump = new StringBuilder();
+        recent.dump(dump);
+
+        // then
+        assertThat(recent.getTotal()).isEqualTo(6L);
+        assertThat(snapshot).hasSize(4);
+        RecentOccurrence last = snapshot.get(3);
+        assertThat(snapshot.get(0).getSequence()).isEqualTo(2L);
+        assertThat(last.getSequence()).isEqualTo(5L);
+        assertThat(last.getId()).isEqualTo("20261019:145336");
+        assertThat(last.getRef()).isEqualTo("ref-5");
+        assertThat(last.getUnique()).isNotEmpty();
+        assertThat(last.getThreadId()).isEqualTo(Thread.currentThread().getId());
+        assertThat(last.getExceptionClass()).isEqualTo(IllegalArgumentException.class.getName());
+        assertThat(last.getTimestamp()).isLessThanOrEqualTo(System.currentTimeMillis());
+        assertThat(dump.toString().split(System.getProperty("line.separator")))
+            .hasSize(4);
+        assertThat(dump.toString()).contains(
+            "java.lang.IllegalArgumentException [20261019:145336|ref-5]<"
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        // given
+        EidRecentOccurrences recent = new EidRecentOccurrences();
+
+        // when
+        List<RecentOccurrence> snapshot = recent.snapshot();
+
+        // then
+        assertThat(snapshot).isEmpty();
+    }
+
+    @Test
+    public void testConsistentUnderConcurrentWrites() throws InterruptedException {
+        // given
+        final EidRecentOccurrences recent = new EidRecentOccurrences(64);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Throwable exception = new EidIllegalStateException("20261019:145412");
+        List<Thread> writers = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            final String ref = "writer-" + t;
+            Thread writer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Eid eid = new DefaultEid("20261019:145433", ref);
+                    try {
+                        start.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < 20000; i++) {
+                        recent.onOccurrence(eid, exception);
+                    }
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        // when
+        start.countDown();
+        List<RecentOccurrence> seen = new ArrayList<RecentOccurrence>();
+        for (int i = 0; i < 100; i++) {
+            seen.addAll(recent.snapshot());
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        seen.addAll(recent.snapshot());
+
+        // then
+        assertThat(recent.getTotal()).isEqualTo(80000L);
+        assertThat(seen).isNotEmpty();
+        for (RecentOccurrence occurrence : seen) {
+            assertThat(occurrence.getId()).isEqualTo("20261019:145433");
+            assertThat(occurrence.getRef()).startsWith("writer-");
+            assertThat(occurrence.getExceptionClass())
+                .isEqualTo(EidIllegalStateException.class.getName());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.metrics;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class TopKSketchTest {
+
+    @Test
+    public void testKeysWithCollidingHashCodesAreCountedSeparately() {
+        // given
+        TopKSketch sketch = new TopKSketch(2, 1024, 4);
+        String frequent = "Aa";
+        String rare = "BB";
+        assertThat(frequent.hashCode()).isEqualTo(rare.hashCode());
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sketch.add(frequent);
+        }
+        sketch.add(rare);
+
+        // then
+        assertThat(sketch.estimate(frequent)).isEqualTo(100L);
+        assertThat(sketch.estimate(rare)).isEqualTo(1L);
+    }
+}
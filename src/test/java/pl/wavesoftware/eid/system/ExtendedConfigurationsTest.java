@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.system;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import pl.wavesoftware.eid.api.Configuration;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.ExtendedConfiguration;
+import pl.wavesoftware.eid.api.Formatter;
+import pl.wavesoftware.eid.api.UniqueIdGenerator;
+import pl.wavesoftware.eid.api.Validator;
+import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class ExtendedConfigurationsTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void testCurrentIsExtendedAlready() {
+        // given
+        Configuration configuration = EidModule.MODULE
+            .getBinding()
+            .getConfigurationSystem()
+            .getConfiguration();
+
+        // when
+        ExtendedConfiguration extended = ExtendedConfigurations.current();
+
+        // then
+        assertThat(extended).isSameAs(configuration);
+    }
+
+    @Test
+    public void testLegacyConfigurationGetsDefaults() {
+        // given
+        Configuration legacy = new LegacyConfiguration();
+
+        // when
+        ExtendedConfiguration extended = ExtendedConfigurations.extend(legacy);
+
+        // then
+        assertThat(extended.getLocale()).isEqualTo(Locale.ITALY);
+        assertThat(extended.getSerializedStackTraceDepth()).isNegative();
+        assertThat(extended.isSerializingCauses()).isTrue();
+        assertThat(extended.isSerializingMessageTemplates()).isFalse();
+        assertThat(extended.getOccurrenceListener()).isNull();
+        assertThat(extended.getTracer()).isNull();
+    }
+
+    @Test
+    public void testLegacyBuilderIsRejected() {
+        // given
+        ConfigurationBuilder legacy = (ConfigurationBuilder) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{ConfigurationBuilder.class},
+            new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    return proxy;
+                }
+            }
+        );
+
+        // then
+        thrown.expect(EidIllegalStateException.class);
+        thrown.expectMessage("does not support settings of release 2.1.0");
+
+        // when
+        ExtendedConfigurations.extend(legacy);
+    }
+
+    private static final class LegacyConfiguration implements Configuration {
+        private final Configuration current = ExtendedConfigurations.current();
+
+        @Override
+        public Formatter getFormatter() {
+            return current.getFormatter();
+        }
+
+        @Override
+        public UniqueIdGenerator getIdGenerator() {
+            return current.getIdGenerator();
+        }
+
+        @Nullable
+        @Override
+        public Validator getValidator() {
+            return null;
+        }
+
+        @Override
+        public Locale getLocale() {
+            return Locale.ITALY;
+        }
+
+        @Nullable
+        @Override
+        public TimeZone getTimeZone() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import pl.wavesoftware.eid.ConfiguratorRule;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.ConfigurationBuilder;
+import pl.wavesoftware.eid.api.Configurator;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.ExtendedConfigurationBuilder;
+import pl.wavesoftware.eid.api.OccurrenceListener;
+import pl.wavesoftware.eid.exceptions.EidCircuitOpenException;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidCircuitBreakersTest {
+
+    private final String eid = "20261019:141225";
+    private final ManualClock clock = new ManualClock();
+    private final EidCircuitBreakers breakers = EidCircuitBreakers.builder()
+        .failureRateThreshold(0.5d)
+        .minimumCalls(4)
+        .window(10, TimeUnit.SECONDS, 10)
+        .openDuration(30, TimeUnit.SECONDS)
+        .clock(clock)
+        .build();
+    private final List<Throwable> occurrences = new ArrayList<Throwable>();
+
+    @Rule
+    public final ConfiguratorRule configurator = new ConfiguratorRule(new Configurator() {
+        @Override
+        public void configure(ConfigurationBuilder configuration) {
+            ((ExtendedConfigurationBuilder) configuration)
+                .occurrenceListener(new OccurrenceListener() {
+                    @Override
+                    public void onOccurrence(Eid eid, Throwable exception) {
+                        occurrences.add(exception);
+                    }
+                });
+        }
+    });
+
+    @Test
+    public void testOpensAndRejectsWithoutExecuting() {
+        // given
+        CountingSupplier supplier = new CountingSupplier();
+        supplier.failing = true;
+        callTimes(supplier, 4);
+        assertThat(breakers.getState(eid)).isEqualTo(EidCircuitBreakers.State.OPEN);
+
+        // when
+        EidCircuitOpenException first = rejected(supplier);
+        EidCircuitOpenException second = rejected(supplier);
+
+        // then
+        assertThat(supplier.calls).isEqualTo(4);
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(second.getStackTrace()).isEmpty();
+        assertThat(first.getEid().getId()).isEqualTo(eid);
+        assertThat(breakers.getState("20261019:141309"))
+            .isEqualTo(EidCircuitBreakers.State.CLOSED);
+    }
+
+    @Test
+    public void testRejectionsAreNotShared() {
+        // given
+        CountingSupplier supplier = new CountingSupplier();
+        supplier.failing = true;
+        callTimes(supplier, 4);
+        occurrences.clear();
+
+        // when
+        EidCircuitOpenException first = rejected(supplier);
+        first.initCause(new IOException("Caller context"));
+        EidCircuitOpenException second = rejected(supplier);
+
+        // then
+        assertThat(first.getCause()).isInstanceOf(IOException.class);
+        assertThat(second.getCause()).isNull();
+        assertThat(occurrences).containsExactly(first, second);
+    }
+
+    @Test
+    public void testStaysClosedBelowThreshold() {
+        // given
+        CountingSupplier supplier = new CountingSupplier();
+        callTimes(supplier, 5);
+        supplier.failing = true;
+
+        // when
+        callTimes(supplier, 4);
+
+        // then
+        assertThat(breakers.getState(eid)).isEqualTo(EidCircuitBreakers.State.CLOSED);
+    }
+
+    @Test
+    public void testForgetsFailuresOutsideOfWindow() {
+        // given
+        CountingSupplier supplier = new CountingSupplier();
+        supplier.failing = true;
+        callTimes(supplier, 3);
+        clock.advance(11, TimeUnit.SECONDS);
+
+        // when
+        callTimes(supplier, 1);
+
+        // then
+        assertThat(breakers.getState(eid)).isEqualTo(EidCircuitBreakers.State.CLOSED);
+    }
+
+    @Test
+    public void testTrialCallClosesBreaker() {
+        // given
+        CountingSupplier supplier = new CountingSupplier();
+        supplier.failing = true;
+        callTimes(supplier, 4);
+        clock.advance(30, TimeUnit.SECONDS);
+        supplier.failing = false;
+
+        // when
+        String result = breakers.tryToExecute(supplier, new DefaultEid(eid));
+
+        // then
+        assertThat(result).isEqualTo("OK");
+        assertThat(breakers.getState(eid)).isEqualTo(EidCircuitBreakers.State.CLOSED);
+    }
+
+    @Test
+    public void testFailedTrialCallOpensBreakerAgain() {
+        // given
+        CountingSupplier supplier = new CountingSupplier();
+        supplier.failing = true;
+        callTimes(supplier, 4);
+        clock.advance(30, TimeUnit.SECONDS);
+
+        // when
+        callTimes(supplier, 1);
+
+        // then
+        assertThat(breakers.getState(eid)).isEqualTo(EidCircuitBreakers.State.OPEN);
+        rejected(supplier);
+        assertThat(supplier.calls).isEqualTo(5);
+    }
+
+    @Test
+    public void testTrialCallFailingWithErrorOpensBreakerAgain() {
+        // given
+        CountingSupplier supplier = new CountingSupplier();
+        supplier.failing = true;
+        callTimes(supplier, 4);
+        clock.advance(30, TimeUnit.SECONDS);
+        UnsafeSupplier<String> erroneous = new UnsafeSupplier<String>() {
+            @Override
+            public String get() {
+                throw new StackOverflowError();
+            }
+        };
+
+        // when
+        try {
+            breakers.tryToExecute(erroneous, eid);
+            fail("StackOverflowError expected");
+        } catch (StackOverflowError error) {
+            assertThat(error).isNotNull();
+        }
+
+        // then
+        assertThat(breakers.getState(eid)).isEqualTo(EidCircuitBreakers.State.OPEN);
+        clock.advance(30, TimeUnit.SECONDS);
+        supplier.failing = false;
+        assertThat(breakers.tryToExecute(supplier, eid)).isEqualTo("OK");
+        assertThat(breakers.getState(eid)).isEqualTo(EidCircuitBreakers.State.CLOSED);
+    }
+
+    private void callTimes(CountingSupplier supplier, int times) {
+        for (int i = 0; i < times; i++) {
+            try {
+                breakers.tryToExecute(supplier, eid);
+            } catch (EidRuntimeException ex) {
+                assertThat(ex).isNotInstanceOf(EidCircuitOpenException.class);
+                assertThat(ex.getCause()).isInstanceOf(IOException.class);
+            }
+        }
+    }
+
+    private EidCircuitOpenException rejected(CountingSupplier supplier) {
+        try {
+            breakers.tryToExecute(supplier, eid);
+            fail("EidCircuitOpenException expected");
+            return null;
+        } catch (EidCircuitOpenException ex) {
+            return ex;
+        }
+    }
+
+    private static final class CountingSupplier implements UnsafeSupplier<String> {
+        private int calls;
+        private boolean failing;
+
+        @Override
+        public String get() throws IOException {
+            calls++;
+            if (failing) {
+                throw new IOException("Service unavailable");
+            }
+            return "OK";
+        }
+    }
+
+    private static final class ManualClock implements EidCircuitBreakers.Clock {
+        private long nanos = 1000L;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+
+        private void advance(long duration, TimeUnit unit) {
+            nanos += unit.toNanos(duration);
+        }
+    }
+}
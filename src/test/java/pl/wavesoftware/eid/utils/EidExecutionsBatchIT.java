@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.testing.JavaAgentSkip;
+import pl.wavesoftware.testing.JmhCleaner;
+import pl.wavesoftware.testing.JvmArgs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that batch execution of CPU bound items scales with number of
+ * processors, compared to execution on a single thread.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidExecutionsBatchIT {
+
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final double SPEEDUP_EFFICIENCY = 0.6d;
+    private static final int ITEMS = 256;
+    private static final int ROUNDS = 2000;
+    private static final Logger LOG =
+        LoggerFactory.getLogger(EidExecutionsBatchIT.class);
+
+    @ClassRule
+    public static RuleChain chain = RuleChain
+        .outerRule(new JmhCleaner(EidExecutionsBatchIT.class))
+        .around(JavaAgentSkip.ifActive());
+
+    @Test
+    public void benchmark() throws Exception {
+        assumeTrue(PROCESSORS > 1);
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.SECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .jvmArgs(JvmArgs.get())
+            .build();
+
+        Runner runner = new Runner(opt);
+        Collection<RunResult> results = runner.run();
+        assertThat(results).hasSize(2);
+
+        double sequential = getScore(results, "sequential");
+        double parallel = getScore(results, "parallel");
+        double speedup = parallel / sequential;
+        double expected = PROCESSORS * SPEEDUP_EFFICIENCY;
+
+        LOG.info(String.format(
+            "Batch of %d items: sequential = %.2f ops / sec vs parallel = %.2f "
+                + "ops / sec ==> speedup: %.2fx on %d processors, minimum "
+                + "threshold: %.2fx",
+            ITEMS, sequential, parallel, speedup, PROCESSORS, expected
+        ));
+        assertThat(speedup).isGreaterThanOrEqualTo(expected);
+    }
+
+    @Benchmark
+    public void sequential(Batch batch, Blackhole blackhole) {
+        EidExecutions.tryToExecuteAll(
+            batch.items, batch.consumer(blackhole), "20261019:134502",
+            batch.currentThread
+        );
+    }
+
+    @Benchmark
+    public void parallel(Batch batch, Blackhole blackhole) {
+        EidExecutions.tryToExecuteAll(
+            batch.items, batch.consumer(blackhole), "20261019:134502",
+            batch.pool
+        );
+    }
+
+    @State(Scope.Benchmark)
+    public static class Batch {
+        private final List<Long> items = new ArrayList<Long>();
+        private final Executor currentThread = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+        private ExecutorService pool;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            for (long i = 0; i < ITEMS; i++) {
+                items.add(i);
+            }
+            pool = Executors.newFixedThreadPool(PROCESSORS);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdownNow();
+        }
+
+        UnsafeConsumer<Long> consumer(final Blackhole blackhole) {
+            return new UnsafeConsumer<Long>() {
+                @Override
+                public void accept(Long item) {
+                    blackhole.consume(cpuBound(item));
+                }
+            };
+        }
+
+        private static long cpuBound(long seed) {
+            long value = seed;
+            for (int i = 0; i < ROUNDS; i++) {
+                value ^= value << 13;
+                value ^= value >>> 7;
+                value ^= value << 17;
+            }
+            return value;
+        }
+    }
+
+    private static double getScore(Collection<RunResult> results, String name) {
+        String fullName = String.format(
+            "%s.%s", EidExecutionsBatchIT.class.getName(), name
+        );
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().equals(fullName)) {
+                return result.getAggregatedResult().getPrimaryResult().getScore();
+            }
+        }
+        throw new EidRuntimeException("20261019:134543", "Invalid name: " + name);
+    }
+}
@@ -20,11 +20,26 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.exceptions.EidBatchException;
 import pl.wavesoftware.eid.exceptions.EidRuntimeException;
 
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
@@ -177,4 +192,286 @@ public class EidExecutionsTest {
         assertThat(supplier).isNotNull();
         assertThat(answer).isNotNull().isNotEmpty().isEqualTo(returning);
     }
+
+    @Test
+    public void testTryToExecuteAsync_UnsafeSupplier_Eid() throws InterruptedException {
+        // given
+        final String causeMessage = "An error occured while parsing JSON document at char 178";
+        UnsafeSupplier<String> supplier = new UnsafeSupplier<String>() {
+            @Override
+            public String get() throws ParseException {
+                throw new ParseException(causeMessage, 178);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // when
+            Future<String> future = EidExecutions.tryToExecuteAsync(
+                supplier, new DefaultEid(eid), executor
+            );
+            // then
+            try {
+                future.get();
+                fail("ExecutionException expected");
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(EidRuntimeException.class);
+                EidRuntimeException cause = (EidRuntimeException) ex.getCause();
+                assertThat(cause.getEid().getId()).isEqualTo(eid);
+                assertThat(cause.getCause())
+                    .isInstanceOf(ParseException.class)
+                    .hasMessage(causeMessage);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTryToExecuteAsync_UnsafeSupplier_String_Ok() throws Exception {
+        // given
+        final String returning = "An answer to universe and everything";
+        UnsafeSupplier<String> supplier = new UnsafeSupplier<String>() {
+            @Override
+            public String get() {
+                return returning;
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // when
+            Future<String> future = EidExecutions.tryToExecuteAsync(
+                supplier, eid, executor
+            );
+            // then
+            assertThat(future.get()).isEqualTo(returning);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTryToExecuteAsync_UnsafeProcedure_String() throws InterruptedException {
+        // given
+        final String causeMessage = "An error occured while parsing JSON document at char 178";
+        UnsafeProcedure procedure = new UnsafeProcedure() {
+            @Override
+            public void execute() throws ParseException {
+                throw new ParseException(causeMessage, 178);
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // when
+            Future<Void> future = EidExecutions.tryToExecuteAsync(
+                procedure, eid, executor
+            );
+            // then
+            try {
+                future.get();
+                fail("ExecutionException expected");
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(EidRuntimeException.class);
+                EidRuntimeException cause = (EidRuntimeException) ex.getCause();
+                assertThat(cause.getEid().getId()).isEqualTo(eid);
+                assertThat(cause.getCause()).isInstanceOf(ParseException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTryToExecuteAsync_UnsafeProcedure_Eid_Ok() throws Exception {
+        // given
+        final List<String> executed = new ArrayList<String>();
+        UnsafeProcedure procedure = new UnsafeProcedure() {
+            @Override
+            public void execute() {
+                executed.add(Thread.currentThread().getName());
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // when
+            Future<Void> future = EidExecutions.tryToExecuteAsync(
+                procedure, new DefaultEid(eid), executor
+            );
+            // then
+            assertThat(future.get()).isNull();
+            assertThat(executed)
+                .hasSize(1)
+                .doesNotContain(Thread.currentThread().getName());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTryToExecuteAll_String() throws InterruptedException {
+        // given
+        List<Integer> items = Arrays.asList(1, 2, 3, 4, 5, 6);
+        final Set<Integer> consumed = Collections.synchronizedSet(new HashSet<Integer>());
+        UnsafeConsumer<Integer> consumer = new UnsafeConsumer<Integer>() {
+            @Override
+            public void accept(Integer item) throws ParseException {
+                consumed.add(item);
+                if (item % 3 == 0) {
+                    throw new ParseException("Can't parse item " + item, item);
+                }
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // when
+            EidExecutions.tryToExecuteAll(items, consumer, eid, executor);
+            fail("EidBatchException expected");
+        } catch (EidBatchException ex) {
+            // then
+            assertThat(consumed).containsOnly(1, 2, 3, 4, 5, 6);
+            assertThat(ex.getEid().getId()).isEqualTo(eid);
+            assertThat(ex.getSize()).isEqualTo(6);
+            assertThat(ex.getFailures().keySet()).containsExactly(2, 5);
+            assertThat(ex.getFailures().get(5).getCause())
+                .isInstanceOf(ParseException.class)
+                .hasMessage("Can't parse item 6");
+            assertThat(ex.getCause()).isSameAs(ex.getFailures().get(2));
+            assertThat(ex.getMessage())
+                .contains("Batch execution failed for 2 of 6 item(s), at indices: [2, 5]");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTryToExecuteAll_Eid_Ok() {
+        // given
+        List<String> items = Arrays.asList("a", "b", "c");
+        final List<String> consumed = new ArrayList<String>();
+        UnsafeConsumer<String> consumer = new UnsafeConsumer<String>() {
+            @Override
+            public void accept(String item) {
+                consumed.add(item);
+            }
+        };
+        // when
+        EidExecutions.tryToExecuteAll(
+            items, consumer, new DefaultEid(eid), new CurrentThreadExecutor()
+        );
+        // then
+        assertThat(consumed).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testTryToExecuteAll_Rejected() {
+        // given
+        List<String> items = Arrays.asList("a", "b");
+        UnsafeConsumer<String> consumer = new UnsafeConsumer<String>() {
+            @Override
+            public void accept(String item) {
+                // nothing special here, for unit test
+            }
+        };
+        Executor executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("Shutting down");
+            }
+        };
+        try {
+            // when
+            EidExecutions.tryToExecuteAll(items, consumer, eid, executor);
+            fail("EidBatchException expected");
+        } catch (EidBatchException ex) {
+            // then
+            assertThat(ex.getFailures().keySet()).containsExactly(0, 1);
+            assertThat(ex.getCause().getCause())
+                .isInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
+    @Test
+    public void testTryToExecuteAll_Discarded() {
+        // given
+        List<String> items = Arrays.asList("a", "b", "c");
+        final List<String> consumed = new ArrayList<String>();
+        UnsafeConsumer<String> consumer = new UnsafeConsumer<String>() {
+            @Override
+            public void accept(String item) {
+                consumed.add(item);
+            }
+        };
+        Executor executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                // discards task silently
+            }
+        };
+
+        // when
+        EidExecutions.tryToExecuteAll(items, consumer, eid, executor);
+
+        // then
+        assertThat(consumed).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void testTryToExecuteAll_Error() {
+        // given
+        List<String> items = Arrays.asList("a", "b");
+        final AssertionError error = new AssertionError("b");
+        UnsafeConsumer<String> consumer = new UnsafeConsumer<String>() {
+            @Override
+            public void accept(String item) {
+                if ("b".equals(item)) {
+                    throw error;
+                }
+            }
+        };
+        try {
+            // when
+            EidExecutions.tryToExecuteAll(
+                items, consumer, eid, new CurrentThreadExecutor()
+            );
+            fail("AssertionError expected");
+        } catch (AssertionError ex) {
+            // then
+            assertThat(ex).isSameAs(error);
+        }
+    }
+
+    @Test
+    public void testTryToExecuteAll_UniqueEids() {
+        // given
+        List<String> items = Arrays.asList("a", "b");
+        UnsafeConsumer<String> consumer = new UnsafeConsumer<String>() {
+            @Override
+            public void accept(String item) throws ParseException {
+                throw new ParseException(item, 0);
+            }
+        };
+        try {
+            // when
+            EidExecutions.tryToExecuteAll(
+                items, consumer, eid, new CurrentThreadExecutor()
+            );
+            fail("EidBatchException expected");
+        } catch (EidBatchException ex) {
+            // then
+            Eid first = ex.getFailures().get(0).getEid();
+            Eid second = ex.getFailures().get(1).getEid();
+            assertThat(first.getId()).isEqualTo(eid);
+            assertThat(second.getId()).isEqualTo(eid);
+            assertThat(first.getUnique()).isNotEqualTo(second.getUnique());
+            assertThat(ex.getEid().getUnique())
+                .isNotEqualTo(first.getUnique())
+                .isNotEqualTo(second.getUnique());
+        }
+    }
+
+    private static final class CurrentThreadExecutor implements Executor {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.testing.JavaAgentSkip;
+import pl.wavesoftware.testing.JmhCleaner;
+import pl.wavesoftware.testing.JvmArgs;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies with GC profiler, that fixed arity methods of
+ * {@link EidPreconditions} don't allocate when the check passes.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidPreconditionsAllocationIT {
+    private static final int OPERATIONS = 1000;
+    private static final double MAX_BYTES_PER_OPERATION = 1d;
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+    private static final String MESSAGE = "Value {0} of {1}";
+    private static final Logger LOG =
+        LoggerFactory.getLogger(EidPreconditionsAllocationIT.class);
+
+    @ClassRule
+    public static RuleChain chain = RuleChain
+        .outerRule(new JmhCleaner(EidPreconditionsAllocationIT.class))
+        .around(JavaAgentSkip.ifActive());
+
+    @Test
+    public void doBenchmarking() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .operationsPerInvocation(OPERATIONS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(3)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .jvmArgs(JvmArgs.get())
+            .build();
+
+        Runner runner = new Runner(opt);
+        Collection<RunResult> results = runner.run();
+        assertThat(results).hasSize(3);
+
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            double allocated = getAllocationRate(result);
+            LOG.info(String.format(
+                "%s: allocated %.3f bytes per operation", name, allocated
+            ));
+            assertThat(allocated)
+                .as(name + " bytes per operation")
+                .isLessThan(MAX_BYTES_PER_OPERATION);
+        }
+    }
+
+    @Benchmark
+    public void checkArgumentObject(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            EidPreconditions.checkArgument(
+                i >= 0, "20261019:121920", MESSAGE, bh
+            );
+            bh.consume(i);
+        }
+    }
+
+    @Benchmark
+    public void checkStateTwoObjects(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            EidPreconditions.checkState(
+                i >= 0, "20261019:121925", MESSAGE, bh, MESSAGE
+            );
+            bh.consume(i);
+        }
+    }
+
+    @Benchmark
+    public void checkNotNullTwoObjects(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            bh.consume(EidPreconditions.checkNotNull(
+                bh, "20261019:121931", MESSAGE, bh, null
+            ));
+        }
+    }
+
+    private static double getAllocationRate(RunResult result) {
+        Map<String, Result> secondary = result.getSecondaryResults();
+        for (Map.Entry<String, Result> entry : secondary.entrySet()) {
+            if (entry.getKey().endsWith(ALLOCATION_RATE)) {
+                return entry.getValue().getScore();
+            }
+        }
+        throw new EidRuntimeException(
+            "20261019:122010",
+            "No allocation rate for " + result.getParams().getBenchmark()
+        );
+    }
+}
@@ -85,11 +85,15 @@ public class EidPreconditionsIT {
 
         Runner runner = new Runner(opt);
         Collection<RunResult> results = runner.run();
-        assertThat(results.size()).isGreaterThanOrEqualTo(7);
+        // a Guava and an Eid benchmark for each of 5 test cases, and
+        // testTryToExecute, which doesn't have a Guava counterpart
+        assertThat(results.size()).isGreaterThanOrEqualTo(11);
 
         verifySpeedFor(TestCase.CHECK_ARGUMENT, results);
         verifySpeedFor(TestCase.CHECK_STATE, results);
         verifySpeedFor(TestCase.CHECK_NOTNULL, results);
+        verifySpeedFor(TestCase.CHECK_POSITION_INDEX, results);
+        verifySpeedFor(TestCase.CHECK_POSITION_INDEXES, results);
     }
 
     @Benchmark
@@ -144,6 +148,40 @@ public class EidPreconditionsIT {
         }
     }
 
+    @Benchmark
+    @BenchmarkConfig(test = TestCase.CHECK_POSITION_INDEX, framework = Framework.GUAVA)
+    public void testCheckPositionIndex(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            bh.consume(Preconditions.checkPositionIndex(i, OPERATIONS, "20261019:125702"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkConfig(test = TestCase.CHECK_POSITION_INDEXES, framework = Framework.GUAVA)
+    public void testCheckPositionIndexes(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            Preconditions.checkPositionIndexes(i / 2, i, OPERATIONS);
+            bh.consume(i);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkConfig(test = TestCase.CHECK_POSITION_INDEX, framework = Framework.EID)
+    public void testCheckPositionIndexEid(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            bh.consume(EidPreconditions.checkPositionIndex(i, OPERATIONS, "20261019:125719"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkConfig(test = TestCase.CHECK_POSITION_INDEXES, framework = Framework.EID)
+    public void testCheckPositionIndexesEid(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            EidPreconditions.checkPositionIndexes(i / 2, i, OPERATIONS, "20261019:125726");
+            bh.consume(i);
+        }
+    }
+
     @State(Scope.Benchmark)
     public static class SupplierOfUnsafes {
         private UnsafeSupplier<String> supplier;
@@ -231,7 +269,9 @@ public class EidPreconditionsIT {
     private enum TestCase {
         CHECK_ARGUMENT,
         CHECK_STATE,
-        TRY_TO_EXECUTE, CHECK_NOTNULL
+        TRY_TO_EXECUTE, CHECK_NOTNULL,
+        CHECK_POSITION_INDEX,
+        CHECK_POSITION_INDEXES
     }
 
     private enum Framework {
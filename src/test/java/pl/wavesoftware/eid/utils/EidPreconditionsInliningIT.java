@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+import pl.wavesoftware.testing.JavaAgentSkip;
+import pl.wavesoftware.testing.JmhCleaner;
+import pl.wavesoftware.testing.JvmArgs;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards that {@link EidPreconditions} checks are inlined into hot loops, by
+ * comparing theirs throughput with a bare {@code if} statement doing the same.
+ *
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidPreconditionsInliningIT {
+    private static final int SIZE = 1000;
+    /*
+    Not inlined check is a few times slower than a bare if statement, so this
+    threshold leaves a margin for measurement noise only.
+     */
+    private static final double SPEED_THRESHOLD = 0.85d;
+    private static final double PERCENT = 100;
+    private static final Logger LOG =
+        LoggerFactory.getLogger(EidPreconditionsInliningIT.class);
+
+    @ClassRule
+    public static RuleChain chain = RuleChain
+        .outerRule(new JmhCleaner(EidPreconditionsInliningIT.class))
+        .around(JavaAgentSkip.ifActive());
+
+    @Test
+    public void doBenchmarking() throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(this.getClass().getName() + ".*")
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .operationsPerInvocation(SIZE)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .jvmArgs(JvmArgs.get())
+            .build();
+
+        Runner runner = new Runner(opt);
+        Collection<RunResult> results = runner.run();
+        assertThat(results).hasSize(4);
+
+        verifyParity(results, "bareArgument", "checkArgument");
+        verifyParity(results, "bareElementIndex", "checkElementIndex");
+    }
+
+    @Benchmark
+    public long bareArgument(Values values) {
+        long sum = 0;
+        for (int value : values.values) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative: " + value);
+            }
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long checkArgument(Values values) {
+        long sum = 0;
+        for (int value : values.values) {
+            EidPreconditions.checkArgument(
+                value >= 0, "20261019:124533", "Negative: {0}", value
+            );
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long bareElementIndex(Values values) {
+        int[] array = values.values;
+        long sum = 0;
+        for (int index : values.indices) {
+            if (index < 0 || index >= array.length) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            sum += array[index];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long checkElementIndex(Values values) {
+        int[] array = values.values;
+        long sum = 0;
+        for (int index : values.indices) {
+            sum += array[EidPreconditions.checkElementIndex(
+                index, array.length, "20261019:124541"
+            )];
+        }
+        return sum;
+    }
+
+    @State(Scope.Thread)
+    public static class Values {
+        private int[] values;
+        private int[] indices;
+
+        @Setup
+        public void setup() {
+            values = new int[SIZE];
+            indices = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                values[i] = i * 7 % SIZE;
+                indices[i] = SIZE - 1 - i;
+            }
+        }
+    }
+
+    private static void verifyParity(
+        Collection<RunResult> results, String bare, String checked
+    ) {
+        double bareScore = getScore(results, bare);
+        double checkedScore = getScore(results, checked);
+        double ratio = checkedScore / bareScore;
+
+        LOG.info(String.format(
+            "%s: bare if score = %.2f vs Eid score = %.2f "
+                + "==> ratio: %.2f%%, minimum threshold: %.2f%%",
+            checked, bareScore, checkedScore,
+            ratio * PERCENT, SPEED_THRESHOLD * PERCENT
+        ));
+        assertThat(ratio).as(checked).isGreaterThanOrEqualTo(SPEED_THRESHOLD);
+    }
+
+    private static double getScore(Collection<RunResult> results, String name) {
+        String fullName = String.format(
+            "%s.%s", EidPreconditionsInliningIT.class.getName(), name
+        );
+        for (RunResult result : results) {
+            if (result.getParams().getBenchmark().equals(fullName)) {
+                return result.getAggregatedResult().getPrimaryResult().getScore();
+            }
+        }
+        throw new EidRuntimeException("20261019:124612", "Invalid name: " + name);
+    }
+}
@@ -26,6 +26,7 @@ import pl.wavesoftware.eid.DefaultEid;
 import pl.wavesoftware.eid.api.ConfigurationBuilder;
 import pl.wavesoftware.eid.api.Configurator;
 import pl.wavesoftware.eid.api.Eid;
+import pl.wavesoftware.eid.api.Supplier;
 import pl.wavesoftware.eid.exceptions.EidIllegalArgumentException;
 import pl.wavesoftware.eid.exceptions.EidIllegalStateException;
 import pl.wavesoftware.eid.exceptions.EidIndexOutOfBoundsException;
@@ -626,6 +627,290 @@ public class EidPreconditionsTest {
         assertThat(result).isEqualTo(index);
     }
 
+    @Test
+    public void testCheckArgument_IntAndLong() {
+        // given
+        boolean expression = falsyValue();
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString(eid));
+        thrown.expectMessage(containsString("Got 7 of 9,000,000,000"));
+        // when
+        EidPreconditions.checkArgument(
+            expression, eid, "Got {0} of {1}", 7, 9000000000L
+        );
+    }
+
+    @Test
+    public void testCheckState_ThreeObjects() {
+        // given
+        boolean expression = falsyValue();
+        // then
+        thrown.expect(EidIllegalStateException.class);
+        thrown.expectMessage(containsString("a, b, null"));
+        // when
+        EidPreconditions.checkState(
+            expression, eid, "{0}, {1}, {2}", "a", 'b', null
+        );
+    }
+
+    @Test
+    public void testCheckNotNull_ObjectAndDouble() {
+        // given
+        Object reference = nullyValue();
+        // then
+        thrown.expect(EidNullPointerException.class);
+        thrown.expectMessage(containsString("user is 0.5"));
+        // when
+        EidPreconditions.checkNotNull(
+            reference, eid, "{0} is {1}", "user", 0.5d
+        );
+    }
+
+    @Test
+    public void testCheckElementIndex_Long() {
+        // given
+        int index = 3;
+        int size = 3;
+        // then
+        thrown.expect(EidIndexOutOfBoundsException.class);
+        thrown.expectMessage(containsString("Limit 42"));
+        // when
+        EidPreconditions.checkElementIndex(
+            index, size, eid, "Limit {0}", 42L
+        );
+    }
+
+    @Test
+    public void testCheckElementIndex_IntAndInt_Ok() {
+        // given
+        int index = 2;
+        int size = 3;
+        // when
+        int result = EidPreconditions.checkElementIndex(
+            index, size, eid, "Index {0} of {1}", index, size
+        );
+        // then
+        assertThat(result).isEqualTo(index);
+    }
+
+    @Test
+    public void testCheckArgument_Char() {
+        // given
+        boolean expression = falsyValue();
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString("char=x"));
+        // when
+        EidPreconditions.checkArgument(expression, eid, "char={0}", 'x');
+    }
+
+    @Test
+    public void testCheckArgument_Byte() {
+        // given
+        boolean expression = falsyValue();
+        byte value = 7;
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString("byte=7"));
+        // when
+        EidPreconditions.checkArgument(expression, eid, "byte={0}", value);
+    }
+
+    @Test
+    public void testCheckState_Short() {
+        // given
+        boolean expression = falsyValue();
+        short value = 300;
+        // then
+        thrown.expect(EidIllegalStateException.class);
+        thrown.expectMessage(containsString("short=300"));
+        // when
+        EidPreconditions.checkState(expression, eid, "short={0}", value);
+    }
+
+    @Test
+    public void testCheckNotNull_Float() {
+        // given
+        Object reference = nullyValue();
+        // then
+        thrown.expect(EidNullPointerException.class);
+        thrown.expectMessage(containsString("float=1.5"));
+        // when
+        EidPreconditions.checkNotNull(reference, eid, "float={0}", 1.5f);
+    }
+
+    @Test
+    public void testCheckArgument_CharAndFloat() {
+        // given
+        boolean expression = falsyValue();
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString("x is 0.25"));
+        // when
+        EidPreconditions.checkArgument(
+            expression, eid, "{0} is {1}", 'x', 0.25f
+        );
+    }
+
+    @Test
+    public void testCheckArgument_Supplier() {
+        // given
+        boolean expression = falsyValue();
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString(eid));
+        thrown.expectMessage(containsString("Can't parse {0}: [1, 2]"));
+        // when
+        EidPreconditions.checkArgument(
+            expression, eid, new Supplier<String>() {
+                @Override
+                public String get() {
+                    return "Can't parse {0}: [1, 2]";
+                }
+            }
+        );
+    }
+
+    @Test
+    public void testCheckState_Supplier_Ok() {
+        // given
+        boolean expression = truthyValue();
+        // when
+        EidPreconditions.checkState(
+            expression, getEid(), new Supplier<CharSequence>() {
+                @Override
+                public CharSequence get() {
+                    throw new UnsupportedOperationException("Not expected");
+                }
+            }
+        );
+        // then
+        assertThat(thrown).isNotNull();
+    }
+
+    @Test
+    public void testCheckNotNull_Supplier() {
+        // given
+        Object reference = nullyValue();
+        // then
+        thrown.expect(EidNullPointerException.class);
+        thrown.expectMessage(containsString("Users: [alice, bob]"));
+        // when
+        EidPreconditions.checkNotNull(
+            reference, getEid(), new Supplier<StringBuilder>() {
+                @Override
+                public StringBuilder get() {
+                    return new StringBuilder("Users: [alice, bob]");
+                }
+            }
+        );
+    }
+
+    @Test
+    public void testCheckElementIndex_Supplier() {
+        // given
+        int index = 0;
+        int size = -1;
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString("Size is -1"));
+        // when
+        EidPreconditions.checkElementIndex(
+            index, size, eid, new Supplier<String>() {
+                @Override
+                public String get() {
+                    return "Size is -1";
+                }
+            }
+        );
+    }
+
+    @Test
+    public void testCheckPositionIndex_Ok() {
+        // given
+        int index = 10;
+        int size = 10;
+        // when
+        int result = EidPreconditions.checkPositionIndex(index, size, eid);
+        // then
+        assertThat(result).isEqualTo(index);
+    }
+
+    @Test
+    public void testCheckPositionIndex() {
+        // given
+        int index = 11;
+        int size = 10;
+        // then
+        thrown.expect(EidIndexOutOfBoundsException.class);
+        thrown.expectMessage(containsString(eid));
+        thrown.expectMessage(containsString("Position 11"));
+        // when
+        EidPreconditions.checkPositionIndex(
+            index, size, getEid(), "Position {0}", index
+        );
+    }
+
+    @Test
+    public void testCheckPositionIndexes_Ok() {
+        // when
+        EidPreconditions.checkPositionIndexes(0, 10, 10, eid);
+        EidPreconditions.checkPositionIndexes(5, 5, 10, getEid());
+        // then
+        assertThat(thrown).isNotNull();
+    }
+
+    @Test
+    public void testCheckPositionIndexes_Reversed() {
+        // then
+        thrown.expect(EidIndexOutOfBoundsException.class);
+        thrown.expectMessage(containsString("From 6 to 5"));
+        // when
+        EidPreconditions.checkPositionIndexes(
+            6, 5, 10, eid, "From {0} to {1}", 6, 5
+        );
+    }
+
+    @Test
+    public void testCheckPositionIndexes_NegativeSize() {
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString(eid));
+        // when
+        EidPreconditions.checkPositionIndexes(0, 0, -1, getEid());
+    }
+
+    @Test
+    public void testCheckFromIndexSize_Ok() {
+        // when
+        int result = EidPreconditions.checkFromIndexSize(2, 8, 10, eid);
+        // then
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    public void testCheckFromIndexSize_Overflow() {
+        // then
+        thrown.expect(EidIndexOutOfBoundsException.class);
+        thrown.expectMessage(containsString(eid));
+        // when
+        EidPreconditions.checkFromIndexSize(
+            2, Integer.MAX_VALUE, 10, getEid(), "Overflow"
+        );
+    }
+
+    @Test
+    public void testCheckFromIndexSize_NegativeLength() {
+        // then
+        thrown.expect(EidIllegalArgumentException.class);
+        thrown.expectMessage(containsString("Length -3"));
+        // when
+        EidPreconditions.checkFromIndexSize(
+            0, 0, -3, eid, "Length {0}", -3
+        );
+    }
+
     @Nonnull
     private DefaultEid getEid() {
         return new DefaultEid(eid);
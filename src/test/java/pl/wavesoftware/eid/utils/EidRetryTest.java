@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import org.junit.Test;
+import pl.wavesoftware.eid.exceptions.EidRuntimeException;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidRetryTest {
+
+    private final String eid = "20261019:135924";
+    private final RecordingSleeper sleeper = new RecordingSleeper();
+
+    @Test
+    public void testTryToExecute_SucceedsAfterRetries() {
+        // given
+        EidRetry retry = EidRetry.builder(eid)
+            .maxAttempts(5)
+            .backoff(Backoff.exponential(100, 250, TimeUnit.MILLISECONDS))
+            .sleeper(sleeper)
+            .build();
+        FailingSupplier supplier = new FailingSupplier(3);
+
+        // when
+        String result = retry.tryToExecute(supplier);
+
+        // then
+        assertThat(result).isEqualTo("OK after 4 attempts");
+        assertThat(sleeper.delays).containsExactly(100L, 200L, 250L);
+        assertThat(retry.getAttempts()).isEqualTo(4L);
+        assertThat(retry.getRetries()).isEqualTo(3L);
+        assertThat(retry.getFailures()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testTryToExecute_RunsOutOfAttempts() {
+        // given
+        EidRetry retry = EidRetry.builder(eid)
+            .maxAttempts(3)
+            .backoff(Backoff.fixed(1, TimeUnit.SECONDS))
+            .sleeper(sleeper)
+            .build();
+        FailingSupplier supplier = new FailingSupplier(Integer.MAX_VALUE);
+
+        // when
+        try {
+            retry.tryToExecute(supplier);
+            fail("EidRuntimeException expected");
+        } catch (EidRuntimeException ex) {
+            // then
+            assertThat(ex.getEid().getId()).isEqualTo(eid);
+            assertThat(ex.getCause())
+                .isInstanceOf(IOException.class)
+                .hasMessage("Attempt 3 failed");
+        }
+        assertThat(sleeper.delays).containsExactly(1000L, 1000L);
+        assertThat(retry.getAttempts()).isEqualTo(3L);
+        assertThat(retry.getRetries()).isEqualTo(2L);
+        assertThat(retry.getFailures()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testTryToExecute_UniqueIdPerFailure() {
+        // given
+        EidRetry retry = EidRetry.builder(eid)
+            .maxAttempts(1)
+            .sleeper(sleeper)
+            .build();
+        FailingSupplier supplier = new FailingSupplier(Integer.MAX_VALUE);
+        List<String> uniques = new ArrayList<String>();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            try {
+                retry.tryToExecute(supplier);
+                fail("EidRuntimeException expected");
+            } catch (EidRuntimeException ex) {
+                assertThat(ex.getEid().getId()).isEqualTo(eid);
+                uniques.add(ex.getEid().getUnique());
+            }
+        }
+
+        // then
+        assertThat(uniques).doesNotHaveDuplicates();
+        assertThat(retry.getFailures()).isEqualTo(2L);
+    }
+
+    @Test
+    public void testTryToExecute_NotRetryable() {
+        // given
+        EidRetry retry = EidRetry.builder(eid)
+            .sleeper(sleeper)
+            .retryOn(new EidRetry.RetryPredicate() {
+                @Override
+                public boolean shouldRetry(Exception exception) {
+                    return exception instanceof IOException;
+                }
+            })
+            .build();
+        UnsafeProcedure procedure = new UnsafeProcedure() {
+            @Override
+            public void execute() throws ParseException {
+                throw new ParseException("Unexpected token", 7);
+            }
+        };
+
+        // when
+        try {
+            retry.tryToExecute(procedure);
+            fail("EidRuntimeException expected");
+        } catch (EidRuntimeException ex) {
+            // then
+            assertThat(ex.getCause()).isInstanceOf(ParseException.class);
+        }
+        assertThat(sleeper.delays).isEmpty();
+        assertThat(retry.getAttempts()).isEqualTo(1L);
+        assertThat(retry.getFailures()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testTryToExecute_Interrupted() {
+        // given
+        EidRetry retry = EidRetry.builder(eid)
+            .sleeper(new EidRetry.Sleeper() {
+                @Override
+                public void sleep(long millis) throws InterruptedException {
+                    throw new InterruptedException();
+                }
+            })
+            .build();
+
+        // when
+        try {
+            retry.tryToExecute(new FailingSupplier(1));
+            fail("EidRuntimeException expected");
+        } catch (EidRuntimeException ex) {
+            // then
+            assertThat(Thread.interrupted()).isTrue();
+            assertThat(ex.getCause()).hasMessage("Attempt 1 failed");
+        }
+        assertThat(retry.getAttempts()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testJitteredBackoff() {
+        // given
+        Backoff backoff = Backoff.jittered(
+            Backoff.fixed(1000, TimeUnit.MILLISECONDS), new Random(42L)
+        );
+
+        // when
+        List<Long> delays = new ArrayList<Long>();
+        for (int retry = 1; retry <= 100; retry++) {
+            delays.add(backoff.delayMillis(retry));
+        }
+
+        // then
+        for (Long delay : delays) {
+            assertThat(delay).isBetween(0L, 1000L);
+        }
+        assertThat(new HashSet<Long>(delays).size()).isGreaterThan(50);
+    }
+
+    @Test
+    public void testExponentialBackoff_DoesNotOverflow() {
+        // given
+        Backoff backoff = Backoff.exponential(1, 1, TimeUnit.DAYS);
+
+        // when
+        long delay = backoff.delayMillis(Integer.MAX_VALUE);
+
+        // then
+        assertThat(delay).isEqualTo(TimeUnit.DAYS.toMillis(1));
+    }
+
+    private static final class RecordingSleeper implements EidRetry.Sleeper {
+        private final List<Long> delays = new ArrayList<Long>();
+
+        @Override
+        public void sleep(long millis) {
+            delays.add(millis);
+        }
+    }
+
+    private static final class FailingSupplier implements UnsafeSupplier<String> {
+        private final int failures;
+        private int attempts;
+
+        private FailingSupplier(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public String get() throws IOException {
+            attempts++;
+            if (attempts <= failures) {
+                throw new IOException("Attempt " + attempts + " failed");
+            }
+            return "OK after " + attempts + " attempts";
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Wave Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package pl.wavesoftware.eid.utils;
+
+import org.junit.Test;
+import pl.wavesoftware.eid.DefaultEid;
+import pl.wavesoftware.eid.api.EidMessage;
+import pl.wavesoftware.eid.exceptions.EidValidationException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * @author <a href="mailto:krzysztof.suszynski@wavesoftware.pl">Krzysztof Suszynski</a>
+ * @since 2.1.0
+ */
+public class EidValidationTest {
+
+    @Test
+    public void testValid() {
+        // given
+        EidValidation validation = new EidValidation();
+
+        // when
+        boolean name = validation.checkNotNull(
+            "Alice", "20261019:131204", "Name is required"
+        );
+        boolean age = validation.checkArgument(
+            true, new DefaultEid("20261019:131212"), "Age is {0}", 7
+        );
+        validation.throwIfInvalid("20261019:131220");
+
+        // then
+        assertThat(name).isTrue();
+        assertThat(age).isTrue();
+        assertThat(validation.isValid()).isTrue();
+        assertThat(validation.getViolations()).isEmpty();
+    }
+
+    @Test
+    public void testViolations() {
+        // given
+        EidValidation validation = new EidValidation();
+
+        // when
+        boolean name = validation.checkNotNull(
+            null, new DefaultEid("20261019:131235"), "Name is required"
+        );
+        boolean age = validation.checkArgument(
+            false, "20261019:131241", "Age can''t be negative, but was {0}", -3
+        );
+        List<EidMessage> violations = validation.getViolations();
+
+        // then
+        assertThat(name).isFalse();
+        assertThat(age).isFalse();
+        assertThat(validation.isValid()).isFalse();
+        assertThat(violations).hasSize(2);
+        assertThat(violations.get(0).getEid().getId()).isEqualTo("20261019:131235");
+        assertThat(violations.get(1).getFormattedMessage().toString())
+            .isEqualTo("Age can't be negative, but was -3");
+    }
+
+    @Test
+    public void testThrowIfInvalid() {
+        // given
+        EidValidation validation = new EidValidation();
+        validation.checkArgument(false, "20261019:131307", "First");
+        validation.checkNotNull(null, "20261019:131311", "Second");
+
+        try {
+            // when
+            validation.throwIfInvalid(new DefaultEid("20261019:131318"));
+            fail("Expected EidValidationException");
+        } catch (EidValidationException ex) {
+            // then
+            assertThat(ex.getEid().getId()).isEqualTo("20261019:131318");
+            assertThat(ex.getViolations()).hasSize(2);
+            assertThat(ex.getMessage()).contains(
+                "Validation failed with 2 violation(s): ",
+                "[20261019:131307]", "First; ",
+                "[20261019:131311]", "Second"
+            );
+        }
+    }
+}